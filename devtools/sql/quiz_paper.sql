@@ -0,0 +1,12 @@
+-- 진행 중 퀴즈 저장소 (toke.quiz.store=jdbc | two-tier)
+-- payload: QuizPaperCodec.toBytes 결과 (단어 id 배열 + 출제 당시 문구/보기, 10문항 수 KB)
+--          다른 노드의 카탈로그와 무관하게 복원되도록 문구를 함께 저장한다
+CREATE TABLE quiz_paper (
+    quiz_id    VARCHAR2(36)  NOT NULL,
+    payload    BLOB          NOT NULL,
+    expires_at TIMESTAMP     NOT NULL,
+    CONSTRAINT pk_quiz_paper PRIMARY KEY (quiz_id)
+);
+
+-- 만료 청소(DELETE ... WHERE expires_at <= ?)용
+CREATE INDEX ix_quiz_paper_expires ON quiz_paper (expires_at);
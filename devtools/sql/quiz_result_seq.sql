@@ -0,0 +1,3 @@
+-- QuizResult 는 pooled 시퀀스(allocationSize = 50)를 쓴다.
+-- 엔티티의 allocationSize 와 시퀀스 증가값이 반드시 같아야 id가 겹치지 않는다.
+ALTER SEQUENCE seq_result_id INCREMENT BY 50;
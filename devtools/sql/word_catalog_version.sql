@@ -0,0 +1,11 @@
+-- 단어 변경 버전 (WordCatalogService). 관리자 등록/수정/삭제와 CSV 가져오기가 같은 트랜잭션에서 1 올리고,
+-- 각 노드는 toke.word-catalog.refresh-interval 마다 이 값만 읽어 바뀌었으면 카탈로그를 다시 읽고 단어 캐시를 비운다.
+-- 직접 SQL 로 word 를 고쳤다면 이 값도 올려야 다른 노드에 반영된다.
+CREATE TABLE word_catalog_version (
+    id      NUMBER(1)  NOT NULL,
+    version NUMBER(19) NOT NULL,
+    CONSTRAINT pk_word_catalog_version PRIMARY KEY (id)
+);
+
+INSERT INTO word_catalog_version (id, version) VALUES (1, 0);
+COMMIT;
@@ -0,0 +1,4 @@
+-- 정렬/분류 컬럼(ko/ja group, vowel index, ko_choseong)을 계산한 규칙 버전 (Word.INDEX_VERSION).
+-- WordIndexInitializer 는 기동 후 이 값이 낮거나(NULL 포함) 저장된 값이 계산 결과와 다른 행만 JDBC 배치로 갱신한다.
+
+ALTER TABLE word ADD (index_version NUMBER(10));
@@ -0,0 +1,6 @@
+-- 한국어 뜻 초성 키 (ㅎㅇ → 회의 검색). Word.fillIndexes 가 등록/수정 시 채운다.
+-- 기존 행은 WordIndexInitializer(기동 후 백그라운드, 값이 다른 행만 갱신) 가 한 번 돌면 채워진다.
+
+ALTER TABLE word ADD (ko_choseong VARCHAR2(300));
+
+-- 초성 검색은 카탈로그 n-gram 색인이 메모리에서 처리하므로 DB 인덱스는 두지 않는다.
@@ -0,0 +1,5 @@
+-- 모두의 단어장 키셋 페이지 (WordListQueryService.scrollShared).
+-- 공개 단어장만 최신순(list_id DESC) / 이름순(list_name, list_id) 으로 읽고, 다음 페이지는 마지막 키 뒤부터 시작한다.
+
+CREATE INDEX idx_word_list_shared_id ON word_list (is_shared, list_id);
+CREATE INDEX idx_word_list_shared_name ON word_list (is_shared, list_name, list_id);
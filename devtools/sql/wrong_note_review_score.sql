@@ -0,0 +1,11 @@
+-- 오답노트 복습 우선순위 (ReviewScore): 점수 컬럼 + 사용자별 상위 N건 조회용 인덱스
+
+ALTER TABLE wrong_note ADD (review_score NUMBER(19) DEFAULT 0 NOT NULL);
+
+-- 기존 행 채우기: 마지막 오답(없으면 등록) 시각의 epoch 시간 + 72 * 오답 수 + 별표 168
+UPDATE wrong_note
+   SET review_score = FLOOR((CAST(NVL(last_wrong_at, created_at) AS DATE) - DATE '1970-01-01') * 24)
+                    + 72 * NVL(wrong_count, 0)
+                    + CASE WHEN starred = 'Y' THEN 168 ELSE 0 END;
+
+CREATE INDEX ix_wrong_note_review ON wrong_note (user_id, review_score DESC, note_id DESC);
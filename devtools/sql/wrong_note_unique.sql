@@ -0,0 +1,19 @@
+-- 오답노트 MERGE 업서트(WrongNoteService.mergeWrong)는 (user_id, word_id) 유니크 제약을 전제로 한다.
+-- 동시 INSERT 경합 시 한쪽이 ORA-00001 로 실패하고, 재시도에서 UPDATE 로 합쳐진다.
+
+-- 1) 기존 중복 행 정리: 가장 오래된 행에 횟수/마지막 오답 시각을 합친다
+MERGE INTO wrong_note t
+USING (SELECT user_id, word_id, MIN(note_id) keep_id,
+              SUM(NVL(wrong_count, 0)) total_count, MAX(last_wrong_at) last_at
+         FROM wrong_note
+        GROUP BY user_id, word_id
+       HAVING COUNT(*) > 1) d
+ON (t.note_id = d.keep_id)
+WHEN MATCHED THEN UPDATE SET t.wrong_count = d.total_count, t.last_wrong_at = d.last_at;
+
+DELETE FROM wrong_note t
+ WHERE t.note_id > (SELECT MIN(x.note_id) FROM wrong_note x
+                     WHERE x.user_id = t.user_id AND x.word_id = t.word_id);
+
+-- 2) 유니크 제약
+ALTER TABLE wrong_note ADD CONSTRAINT uq_wrong_note_user_word UNIQUE (user_id, word_id);
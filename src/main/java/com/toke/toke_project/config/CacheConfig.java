@@ -1,25 +1,39 @@
 package com.toke.toke_project.config;
 
+import java.time.Clock;
 import java.time.Duration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.toke.toke_project.service.model.QuizPaper;
+import com.toke.toke_project.service.JdbcQuizPaperStore;
+import com.toke.toke_project.service.LocalQuizPaperStore;
+import com.toke.toke_project.service.QuizPaperStore;
+import com.toke.toke_project.service.TwoTierQuizPaperStore;
 
 @Configuration
 public class CacheConfig {
 	
 	
-	// @Configuration 어딘가
+	// 진행 중인 퀴즈: id 배열만 담은 압축 시험지 저장소
+	// toke.quiz.store = local(기본) | jdbc | two-tier — 여러 노드/재시작 후에도 이어 풀려면 jdbc 계열
 	@Bean
-	public Cache<String, QuizPaper> quizCache() {
-	  return Caffeine.newBuilder()
-	      .maximumSize(1000)
-	      .expireAfterWrite(Duration.ofMinutes(30))   // ⬅️ 최소 이 정도
-	      .build();
+	public QuizPaperStore quizPaperStore(
+			@Value("${toke.quiz.store:local}") String type,
+			@Value("${toke.quiz.ttl:30m}") Duration ttl,                 // ⬅️ 최소 이 정도
+			@Value("${toke.quiz.cache.max-bytes:8388608}") long maxBytes, // 약 8MB ≒ 10문항 시험지 1만 장 이상
+			@Value("${toke.quiz.store.sweep-interval:5m}") Duration sweepInterval,
+			JdbcTemplate jdbcTemplate) {
+	  Clock clock = Clock.systemDefaultZone();
+	  return switch (type) {
+	    case "local" -> new LocalQuizPaperStore(ttl, maxBytes, clock);
+	    case "jdbc" -> new JdbcQuizPaperStore(jdbcTemplate, ttl, clock, sweepInterval);
+	    case "two-tier" -> new TwoTierQuizPaperStore(
+	        new JdbcQuizPaperStore(jdbcTemplate, ttl, clock, sweepInterval), ttl, maxBytes, clock);
+	    default -> throw new IllegalArgumentException("알 수 없는 toke.quiz.store: " + type);
+	  };
 	}
 
 }
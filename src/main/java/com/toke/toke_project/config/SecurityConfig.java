@@ -56,6 +56,7 @@ public class SecurityConfig {
 
                 // --- 단어/표현 ---
                 .requestMatchers(HttpMethod.GET, "/words", "/words/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/words/suggest", "/api/words/scroll").permitAll()
 
                 // --- 마이페이지 ---
                 .requestMatchers("/mypage/**").authenticated()
@@ -68,6 +69,8 @@ public class SecurityConfig {
 
                 // --- 관리자 ---
                 .requestMatchers("/admin/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                 // 그 외
                 .anyRequest().authenticated()
@@ -1,37 +1,206 @@
 package com.toke.toke_project.config;
 
 import com.toke.toke_project.domain.Word;
-import com.toke.toke_project.repo.WordRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.boot.CommandLineRunner;
+import com.toke.toke_project.service.WordCatalogService;
+import com.toke.toke_project.util.HangulUtil;
+import com.toke.toke_project.util.KanaUtil;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * word 정렬/분류 컬럼(ko/ja group, vowel index, ko_choseong) 점진 재계산.
+ * - 앱 기동 완료(ApplicationReadyEvent) 후 백그라운드 스레드에서 돈다 → 기동을 막지 않는다
+ * - word_id 순으로 chunk-size 건씩 읽고, 저장값이 계산값과 다르거나 index_version 이 낮은 행만
+ *   JDBC 배치 UPDATE 한다 (chunk 마다 자동 커밋 → 행 잠금이 짧다)
+ * - 읽은 뒤 관리자가 뜻/읽기를 바꾼 행은 WHERE 조건에 걸려 건너뛴다 (그 행은 엔티티가 이미 다시 계산함)
+ * - 갱신한 행이 있으면 단어 카탈로그를 다시 읽는다
+ *
+ * 메트릭: word.index.rows(counter, result=scanned|updated), word.index.progress(gauge, 0~1),
+ *         word.index.duration(timer)
+ */
 @Component
-@RequiredArgsConstructor
-public class WordIndexInitializer implements CommandLineRunner {
+public class WordIndexInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(WordIndexInitializer.class);
+
+    private static final String SELECT_CHUNK = """
+            SELECT word_id, korean_meaning, reading_kana,
+                   ko_group, ko_vowel_index, ko_choseong, ja_group, ja_vowel_index, index_version
+              FROM word
+             WHERE word_id > ?
+             ORDER BY word_id
+             FETCH FIRST ? ROWS ONLY
+            """;
+
+    private static final String UPDATE_ROW = """
+            UPDATE word
+               SET ko_group = ?, ko_vowel_index = ?, ko_choseong = ?,
+                   ja_group = ?, ja_vowel_index = ?, index_version = ?
+             WHERE word_id = ?
+               AND korean_meaning = ?
+               AND (reading_kana = ? OR (reading_kana IS NULL AND ? IS NULL))
+            """;
+
+    private static final int[] UPDATE_TYPES = {
+            Types.VARCHAR, Types.INTEGER, Types.VARCHAR,
+            Types.VARCHAR, Types.INTEGER, Types.INTEGER,
+            Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR
+    };
 
-    private final WordRepository repo;
+    /** 읽은 행: 계산 원본(뜻/읽기)과 재계산 필요 여부 */
+    private record Row(long id, String koreanMeaning, String readingKana, boolean stale) {}
 
-    // 실행 여부 플래그 (true → 실행 / false → 건너뜀)
-    private static final boolean RUN_ON_STARTUP = true;
+    private final JdbcTemplate jdbc;
+    private final WordCatalogService wordCatalogService;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final ExecutorService worker;
 
-    @Override
-    public void run(String... args) {
-        if (!RUN_ON_STARTUP) {
-            System.out.println("[WordIndexInitializer] 실행 안 함 (RUN_ON_STARTUP=false)");
+    private final Counter scanned;
+    private final Counter updated;
+    private final Timer duration;
+    private final AtomicLong progressDone = new AtomicLong();
+    private final AtomicLong progressTotal = new AtomicLong();
+
+    public WordIndexInitializer(JdbcTemplate jdbc,
+                                WordCatalogService wordCatalogService,
+                                MeterRegistry registry,
+                                @Value("${toke.word-index.enabled:true}") boolean enabled,
+                                @Value("${toke.word-index.chunk-size:1000}") int chunkSize) {
+        this.jdbc = jdbc;
+        this.wordCatalogService = wordCatalogService;
+        this.enabled = enabled;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.worker = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "word-index-init");
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.scanned = Counter.builder("word.index.rows").tag("result", "scanned").register(registry);
+        this.updated = Counter.builder("word.index.rows").tag("result", "updated").register(registry);
+        this.duration = Timer.builder("word.index.duration").register(registry);
+        Gauge.builder("word.index.progress", this, WordIndexInitializer::progress).register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("[WordIndexInitializer] 실행 안 함 (toke.word-index.enabled=false)");
             return;
         }
+        try {
+            worker.execute(() -> {
+                try {
+                    run();
+                } catch (RuntimeException e) {
+                    log.warn("[WordIndexInitializer] 실패: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
 
-        System.out.println("[WordIndexInitializer] 시작: 전체 Word 데이터 인덱스 갱신");
+    /** 전체를 한 번 훑어 바뀐 행만 갱신하고 갱신 건수를 돌려준다 */
+    public int run() {
+        long started = System.nanoTime();
+        Long total = jdbc.queryForObject("SELECT COUNT(*) FROM word", Long.class);
+        progressTotal.set(total == null ? 0 : total);
+        progressDone.set(0);
 
-        List<Word> all = repo.findAll();
-        for (Word w : all) {
-            w.recalcIndexes(); // ko/ja group, index 자동 계산
+        int changed = 0;
+        long lastId = 0;
+        while (true) {
+            List<Row> chunk = jdbc.query(SELECT_CHUNK, WordIndexInitializer::readRow, lastId, chunkSize);
+            if (chunk.isEmpty()) break;
+
+            List<Object[]> batch = new ArrayList<>();
+            for (Row r : chunk) {
+                if (r.stale()) batch.add(updateArgs(r));
+            }
+            if (!batch.isEmpty()) {
+                for (int n : jdbc.batchUpdate(UPDATE_ROW, batch, UPDATE_TYPES)) {
+                    // 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2) — 요청한 행으로 센다
+                    changed += (n == Statement.SUCCESS_NO_INFO) ? 1 : n;
+                }
+            }
+
+            scanned.increment(chunk.size());
+            progressDone.addAndGet(chunk.size());
+            lastId = chunk.get(chunk.size() - 1).id();
+            if (chunk.size() < chunkSize) break;
         }
-        repo.saveAll(all);
+        updated.increment(changed);
+        progressDone.set(progressTotal.get());
+        duration.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+        if (changed > 0) wordCatalogService.reload();
+        log.info("[WordIndexInitializer] 완료: {}건 중 {}건 갱신 ({}ms)",
+                progressTotal.get(), changed, (System.nanoTime() - started) / 1_000_000);
+        return changed;
+    }
+
+    private static Row readRow(ResultSet rs, int rowNum) throws SQLException {
+        String ko = rs.getString("korean_meaning");
+        String kana = rs.getString("reading_kana");
+        int version = rs.getInt("index_version");
+        boolean stale = rs.wasNull() || version < Word.INDEX_VERSION
+                || !Objects.equals(rs.getString("ko_group"), HangulUtil.groupOf(ko))
+                || !Objects.equals(intOrNull(rs, "ko_vowel_index"), HangulUtil.vowelIndexOf(ko))
+                || !Objects.equals(rs.getString("ko_choseong"), HangulUtil.choseongOf(ko))
+                || !Objects.equals(rs.getString("ja_group"), KanaUtil.groupOf(kana))
+                || !Objects.equals(intOrNull(rs, "ja_vowel_index"), KanaUtil.vowelIndexOf(kana));
+        return new Row(rs.getLong("word_id"), ko, kana, stale);
+    }
+
+    private static Integer intOrNull(ResultSet rs, String column) throws SQLException {
+        int v = rs.getInt(column);
+        return rs.wasNull() ? null : v;
+    }
+
+    private static Object[] updateArgs(Row r) {
+        return new Object[] {
+                HangulUtil.groupOf(r.koreanMeaning()), HangulUtil.vowelIndexOf(r.koreanMeaning()),
+                HangulUtil.choseongOf(r.koreanMeaning()),
+                KanaUtil.groupOf(r.readingKana()), KanaUtil.vowelIndexOf(r.readingKana()), Word.INDEX_VERSION,
+                r.id(), r.koreanMeaning(), r.readingKana(), r.readingKana()
+        };
+    }
+
+    /** 진행 중인(또는 마지막) 실행의 진행률 0~1 */
+    private double progress() {
+        long total = progressTotal.get();
+        return (total == 0) ? 1.0 : Math.min(1.0, (double) progressDone.get() / total);
+    }
 
-        System.out.println("[WordIndexInitializer] 완료: " + all.size() + "건 갱신");
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
     }
 }
@@ -11,8 +11,9 @@ import lombok.Setter;
 @Table(name = "quiz_result")
 public class QuizResult {
 	@Id
+	// pooled: 시퀀스 1회로 id 50개 확보 (DB 시퀀스도 INCREMENT BY 50 — devtools/sql/quiz_result_seq.sql)
 	@SequenceGenerator(name = "quiz_result_seq", sequenceName = "seq_result_id", // 👈 DB 시퀀스명과 일치
-			allocationSize = 1)
+			allocationSize = 50)
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quiz_result_seq")
 	@Column(name = "result_id")
 	private Long resultId;
@@ -54,6 +54,15 @@ public class Word {
 	@Column(name = "ja_vowel_index")
 	private Integer jaVowelIndex; // 일본어 모음 index (0~4)
 
+	@Column(name = "ko_choseong", length = 300)
+	private String koChoseong; // 한국어 뜻의 초성 키 (ㅎㅇ → 회의 검색용)
+
+	@Column(name = "index_version")
+	private Integer indexVersion; // 위 컬럼들을 계산한 규칙 버전 (INDEX_VERSION 보다 낮으면 재계산 대상)
+
+	/** 그룹/모음/초성 계산 규칙 버전 — HangulUtil/KanaUtil 규칙을 바꾸면 올린다 (WordIndexInitializer) */
+	public static final int INDEX_VERSION = 2; // 2: 가타카나/작은 글자/탁음 그룹, 자모 그룹
+
 
 	// ===== 자동 채움 =====
 	@PrePersist
@@ -70,8 +79,10 @@ public class Word {
 	private void fillIndexes() {
 		this.koGroup = HangulUtil.groupOf(this.koreanMeaning);
 		this.koVowelIndex = HangulUtil.vowelIndexOf(this.koreanMeaning);
+		this.koChoseong = HangulUtil.choseongOf(this.koreanMeaning);
 
 		this.jaGroup = KanaUtil.groupOf(this.readingKana);
 		this.jaVowelIndex = KanaUtil.vowelIndexOf(this.readingKana);
+		this.indexVersion = INDEX_VERSION;
 	}
 }
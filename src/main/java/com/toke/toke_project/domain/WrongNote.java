@@ -3,12 +3,15 @@ package com.toke.toke_project.domain;
 
 import java.time.LocalDateTime;
 import jakarta.persistence.*;
+import com.toke.toke_project.service.model.ReviewScore;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
 @Getter @Setter
-@Table(name = "wrong_note")
+@Table(name = "wrong_note",
+       uniqueConstraints = @UniqueConstraint(name = "uq_wrong_note_user_word", columnNames = {"user_id", "word_id"}),
+       indexes = @Index(name = "ix_wrong_note_review", columnList = "user_id, review_score DESC, note_id DESC"))
 public class WrongNote {
 
     @Id
@@ -42,6 +45,10 @@ public class WrongNote {
     @Column(name = "last_wrong_at")
     private LocalDateTime lastWrongAt;
 
+    /** 복습 우선순위 (ReviewScore 참고) — ix_wrong_note_review 로 사용자별 상위 N건 조회 */
+    @Column(name = "review_score", nullable = false)
+    private Long reviewScore = 0L;
+
 
     public WrongNote() { }
 
@@ -50,6 +57,9 @@ public class WrongNote {
         if (createdAt == null) createdAt = LocalDateTime.now();
         if (starred == null) starred = "N";
         if (wrongCount == null) wrongCount = 0L;
+        if (reviewScore == null || reviewScore == 0L) {
+            reviewScore = ReviewScore.of(lastWrongAt != null ? lastWrongAt : createdAt, wrongCount, "Y".equals(starred));
+        }
     }
 
 
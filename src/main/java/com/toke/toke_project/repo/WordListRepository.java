@@ -30,18 +30,7 @@ public interface WordListRepository extends JpaRepository<WordList, Long> {
     @Query("select w from WordList w where lower(w.owner.nickname) like lower(concat('%', :nickname, '%'))")
     List<WordList> searchByOwnerNickname(@Param("nickname") String nickname);
 
-    // 전체 단어장: 태그 검색
-    @Query("""
-           select distinct wl
-           from WordList wl
-           join wl.tags t
-           where lower(t.normalized) = lower(:normalized)
-           """)
-    List<WordList> searchByTagNormalized(@Param("normalized") String normalized);
-    
-    
-    
-    
+    // 태그 검색(AND/OR/NOT)은 WordListTagIndex (hashtag.normalized 비트맵) + WordListQueryService
 
     // 내 단어장: 제목 검색
     @Query("""
@@ -52,40 +41,6 @@ public interface WordListRepository extends JpaRepository<WordList, Long> {
     List<WordList> findByOwnerIdAndListNameContainingIgnoreCase(@Param("ownerId") Long ownerId,
                                                                 @Param("keyword") String keyword);
 
-    // ✅ 내 단어장: 태그 검색
-    @Query("""
-           select distinct wl
-           from WordList wl
-           join wl.tags t
-           where wl.owner.id = :ownerId
-             and lower(t.normalized) = lower(:normalized)
-           """)
-    List<WordList> findByOwnerIdAndTagNormalized(@Param("ownerId") Long ownerId,
-                                                 @Param("normalized") String normalized);
-    
-    
-    @Query("""
-    	       select distinct wl
-    	       from WordList wl
-    	       join wl.tags t
-    	       where lower(t.normalized) in :norms
-    	       """)
-    	List<WordList> searchByTagsNormalized(@Param("norms") List<String> norms);
-    
-
-
-    	@Query("""
-    	       select distinct wl
-    	       from WordList wl
-    	       join wl.tags t
-    	       where wl.owner.id = :ownerId
-    	         and lower(t.normalized) in :norms
-    	       """)
-    	List<WordList> findByOwnerIdAndTagsNormalized(@Param("ownerId") Long ownerId,
-    	                                             @Param("norms") List<String> norms);
-    	
-    	
-    
     List<WordList> findByIsSharedTrue();
     
     @Query("SELECT w FROM WordList w " +
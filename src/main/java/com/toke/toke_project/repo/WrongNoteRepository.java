@@ -1,13 +1,19 @@
 package com.toke.toke_project.repo;
 
 import com.toke.toke_project.domain.WrongNote;
+import com.toke.toke_project.service.model.ReviewScore;
+import com.toke.toke_project.web.dto.WrongNoteDto;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,7 +32,13 @@ public interface WrongNoteRepository extends JpaRepository<WrongNote, Long> {
     // 별표 설정(사용자 소유 검사 포함) — 직접 update로 처리하면 레이스에 대해 더 안전
     @Modifying(clearAutomatically = true)
     @Transactional
-    @Query("UPDATE WrongNote wn SET wn.starred = :starred WHERE wn.noteId = :noteId AND wn.user.id = :userId")
+    // 별표가 바뀌면 복습 점수도 같이 증감 (SET 우변은 변경 전 값 기준)
+    @Query("UPDATE WrongNote wn SET wn.starred = :starred, " +
+           "wn.reviewScore = wn.reviewScore + CASE " +
+           "  WHEN :starred = 'Y' AND COALESCE(wn.starred, 'N') <> 'Y' THEN " + ReviewScore.STAR_BONUS +
+           "  WHEN :starred <> 'Y' AND wn.starred = 'Y' THEN -" + ReviewScore.STAR_BONUS +
+           "  ELSE 0 END " +
+           "WHERE wn.noteId = :noteId AND wn.user.id = :userId")
     int updateStarredByNoteIdAndUserId(@Param("noteId") Long noteId, @Param("userId") Long userId, @Param("starred") String starred);
     
     // 사용자별 starred 리스트 조회
@@ -36,9 +48,115 @@ public interface WrongNoteRepository extends JpaRepository<WrongNote, Long> {
     @Modifying(clearAutomatically = true)
     @Transactional
     @Query("UPDATE WrongNote wn " +
-           "SET wn.starred = CASE WHEN wn.starred = 'Y' THEN 'N' ELSE 'Y' END " +
+           "SET wn.starred = CASE WHEN wn.starred = 'Y' THEN 'N' ELSE 'Y' END, " +
+           "    wn.reviewScore = wn.reviewScore + CASE WHEN wn.starred = 'Y' THEN -" + ReviewScore.STAR_BONUS +
+           "                                           ELSE " + ReviewScore.STAR_BONUS + " END " +
            "WHERE wn.noteId = :noteId AND wn.user.id = :userId")
     int toggleStarByNoteIdAndUserId(@Param("noteId") Long noteId, @Param("userId") Long userId);
     
-}
 
+    /* ====================== 목록(필터/정렬/페이지 DB 처리, DTO 직접 조회) ====================== */
+    // from/to: lastWrongAt 범위 [from, to) — null이면 조건 없음. 정렬 동률은 noteId DESC로 고정
+
+    @Query(value = """
+            SELECT new com.toke.toke_project.web.dto.WrongNoteDto(
+                   wn.noteId, u.id, w.id, w.japaneseWord, w.readingKana, w.koreanMeaning, w.exampleSentenceJp,
+                   wn.wrongCount, wn.lastWrongAt, wn.note, wn.starred, w.category, wn.createdAt)
+            FROM WrongNote wn JOIN wn.user u JOIN wn.word w
+            WHERE u.id = :userId
+              AND (:category IS NULL OR w.category = :category)
+              AND (:from IS NULL OR wn.lastWrongAt >= :from)
+              AND (:to IS NULL OR wn.lastWrongAt < :to)
+            ORDER BY wn.createdAt DESC, wn.noteId DESC
+            """,
+            countQuery = """
+            SELECT COUNT(wn) FROM WrongNote wn JOIN wn.word w
+            WHERE wn.user.id = :userId
+              AND (:category IS NULL OR w.category = :category)
+              AND (:from IS NULL OR wn.lastWrongAt >= :from)
+              AND (:to IS NULL OR wn.lastWrongAt < :to)
+            """)
+    Page<WrongNoteDto> pageLatest(@Param("userId") Long userId, @Param("category") String category,
+                                  @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                  Pageable pageable);
+
+    @Query(value = """
+            SELECT new com.toke.toke_project.web.dto.WrongNoteDto(
+                   wn.noteId, u.id, w.id, w.japaneseWord, w.readingKana, w.koreanMeaning, w.exampleSentenceJp,
+                   wn.wrongCount, wn.lastWrongAt, wn.note, wn.starred, w.category, wn.createdAt)
+            FROM WrongNote wn JOIN wn.user u JOIN wn.word w
+            WHERE u.id = :userId
+              AND (:category IS NULL OR w.category = :category)
+              AND (:from IS NULL OR wn.lastWrongAt >= :from)
+              AND (:to IS NULL OR wn.lastWrongAt < :to)
+            ORDER BY wn.lastWrongAt DESC NULLS LAST, wn.noteId DESC
+            """,
+            countQuery = """
+            SELECT COUNT(wn) FROM WrongNote wn JOIN wn.word w
+            WHERE wn.user.id = :userId
+              AND (:category IS NULL OR w.category = :category)
+              AND (:from IS NULL OR wn.lastWrongAt >= :from)
+              AND (:to IS NULL OR wn.lastWrongAt < :to)
+            """)
+    Page<WrongNoteDto> pageLastWrong(@Param("userId") Long userId, @Param("category") String category,
+                                     @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                     Pageable pageable);
+
+    /* ====================== 키셋 스크롤 (커서 = 마지막 행의 정렬 키 + noteId) ====================== */
+
+    // 최신 등록순: createdAt 은 NOT NULL
+    @Query("""
+            SELECT new com.toke.toke_project.web.dto.WrongNoteDto(
+                   wn.noteId, u.id, w.id, w.japaneseWord, w.readingKana, w.koreanMeaning, w.exampleSentenceJp,
+                   wn.wrongCount, wn.lastWrongAt, wn.note, wn.starred, w.category, wn.createdAt)
+            FROM WrongNote wn JOIN wn.user u JOIN wn.word w
+            WHERE u.id = :userId
+              AND (:category IS NULL OR w.category = :category)
+              AND (:from IS NULL OR wn.lastWrongAt >= :from)
+              AND (:to IS NULL OR wn.lastWrongAt < :to)
+              AND (:cursorId IS NULL
+                   OR wn.createdAt < :cursorAt
+                   OR (wn.createdAt = :cursorAt AND wn.noteId < :cursorId))
+            ORDER BY wn.createdAt DESC, wn.noteId DESC
+            """)
+    Slice<WrongNoteDto> scrollLatest(@Param("userId") Long userId, @Param("category") String category,
+                                     @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                     @Param("cursorAt") LocalDateTime cursorAt, @Param("cursorId") Long cursorId,
+                                     Pageable pageable);
+
+    // 최근 오답순: lastWrongAt 이 null 인 행은 맨 뒤 (커서가 null 구간이면 noteId 로만 이어감)
+    @Query("""
+            SELECT new com.toke.toke_project.web.dto.WrongNoteDto(
+                   wn.noteId, u.id, w.id, w.japaneseWord, w.readingKana, w.koreanMeaning, w.exampleSentenceJp,
+                   wn.wrongCount, wn.lastWrongAt, wn.note, wn.starred, w.category, wn.createdAt)
+            FROM WrongNote wn JOIN wn.user u JOIN wn.word w
+            WHERE u.id = :userId
+              AND (:category IS NULL OR w.category = :category)
+              AND (:from IS NULL OR wn.lastWrongAt >= :from)
+              AND (:to IS NULL OR wn.lastWrongAt < :to)
+              AND (:cursorId IS NULL
+                   OR (:cursorAt IS NOT NULL AND (wn.lastWrongAt IS NULL
+                                                  OR wn.lastWrongAt < :cursorAt
+                                                  OR (wn.lastWrongAt = :cursorAt AND wn.noteId < :cursorId)))
+                   OR (:cursorAt IS NULL AND wn.lastWrongAt IS NULL AND wn.noteId < :cursorId))
+            ORDER BY wn.lastWrongAt DESC NULLS LAST, wn.noteId DESC
+            """)
+    Slice<WrongNoteDto> scrollLastWrong(@Param("userId") Long userId, @Param("category") String category,
+                                        @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                        @Param("cursorAt") LocalDateTime cursorAt, @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
+
+    /* ====================== 복습 우선순위 큐 (ix_wrong_note_review) ====================== */
+    // 점수 상위 N건의 단어 id만 — 비용은 오답노트 전체가 아니라 N에 비례
+    @Query("""
+            SELECT wn.word.id FROM WrongNote wn JOIN wn.word w
+            WHERE wn.user.id = :userId
+              AND (:category IS NULL OR w.category = :category)
+              AND (:from IS NULL OR wn.lastWrongAt >= :from)
+              AND (:to IS NULL OR wn.lastWrongAt < :to)
+            ORDER BY wn.reviewScore DESC, wn.noteId DESC
+            """)
+    List<Long> findReviewQueue(@Param("userId") Long userId, @Param("category") String category,
+                               @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                               Pageable pageable);
+}
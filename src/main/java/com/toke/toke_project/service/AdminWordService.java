@@ -2,25 +2,60 @@ package com.toke.toke_project.service;
 
 import com.toke.toke_project.domain.Word;
 import com.toke.toke_project.repo.WordRepository;
+import com.toke.toke_project.service.model.CatalogWord;
+import com.toke.toke_project.service.model.WordCatalog;
+import com.toke.toke_project.util.CursorCodec;
+import com.toke.toke_project.web.dto.CursorPage;
 import com.toke.toke_project.web.dto.WordForm;
+import com.toke.toke_project.web.dto.WordScrollItem;
+import com.toke.toke_project.web.dto.WordSuggestion;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 public class AdminWordService {
 
     private final WordRepository wordRepo;
+    private final WordCatalogService wordCatalogService;
+    private final WordCache wordCache;
+
+    /** 정렬 기준 (기존 Sort 와 같은 순서, Oracle 기본: ASC 는 NULL 마지막, DESC 는 NULL 처음) */
+    private static final Comparator<CatalogWord> RECENT =
+            Comparator.comparing(CatalogWord::createdAt, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+                    .reversed()
+                    .thenComparing(CatalogWord::id, Comparator.reverseOrder());
+    private static final Comparator<CatalogWord> KO =
+            Comparator.comparing(CatalogWord::koGroup, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                    .thenComparing(CatalogWord::koVowelIndex, Comparator.nullsLast(Comparator.<Integer>naturalOrder()))
+                    .thenComparing(CatalogWord::koreanMeaning, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                    .thenComparing(CatalogWord::id);
+    private static final Comparator<CatalogWord> JA =
+            Comparator.comparing(CatalogWord::jaGroup, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                    .thenComparing(CatalogWord::jaVowelIndex, Comparator.nullsLast(Comparator.<Integer>naturalOrder()))
+                    .thenComparing(CatalogWord::readingKana, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                    .thenComparing(CatalogWord::id);
+
+    /** 커서 페이지 최대 크기 */
+    private static final int MAX_SCROLL_SIZE = 100;
 
     // === 사용자 조회 (검색 + 정렬 + 그룹 + 페이징) ===
+    // 검색/필터는 카탈로그 역색인, DB 는 해당 페이지 id 만 PK 로 읽는다
     public Page<Word> search(String q, String category, String mode, String group, int page, int size) {
         // 정렬 모드
-        Sort sort = switch (mode) {
+        String m = sortMode(mode);
+        Sort sort = switch (m) {
             case "ko" -> Sort.by("koGroup").ascending()
                              .and(Sort.by("koVowelIndex")).ascending()
                              .and(Sort.by("koreanMeaning")).ascending();
@@ -32,22 +67,146 @@ public class AdminWordService {
 
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        // ✅ group 필터까지 반영
-        if (group != null && !group.isEmpty()) {
-            if ("ko".equals(mode)) {
-                return wordRepo.findByKoGroupStartingWithAndCategoryContainingAndKeyword(q, category, group, pageable);
-            } else if ("ja".equals(mode)) {
-                return wordRepo.findByJaGroupStartingWithAndCategoryContainingAndKeyword(q, category, group, pageable);
+        WordCatalog catalog = wordCatalogService.current();
+        long[] ids = matching(catalog, q, category, m, group);
+
+        List<CatalogWord> pageWords = topK(catalog, ids, orderOf(m), null, (int) pageable.getOffset(), size);
+        return new PageImpl<>(load(pageWords), pageable, ids.length);
+    }
+
+    /**
+     * 키셋(커서) 단어 목록 — 무한 스크롤용. COUNT 없이 정렬 키가 커서보다 뒤인 단어만 고르므로
+     * 페이지 비용이 몇 번째 페이지인지와 무관하다.
+     * 커서: (모드, 그룹, 모음 index, id, 뜻/읽기) 또는 (recent, 등록 시각, -, id, -)
+     * 공개 API 응답이므로 엔티티 대신 카탈로그 사본을 WordScrollItem 으로 옮겨 돌려준다 (DB 조회 없음).
+     */
+    public CursorPage<WordScrollItem> scroll(String q, String category, String mode, String group, String cursor, int size) {
+        String m = sortMode(mode);
+        int limit = Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+        CatalogWord after = (cursor == null || cursor.isBlank()) ? null : decodeCursor(m, cursor);
+
+        WordCatalog catalog = wordCatalogService.current();
+        long[] ids = matching(catalog, q, category, m, group);
+        List<CatalogWord> picked = topK(catalog, ids, orderOf(m), after, 0, limit + 1);
+
+        if (picked.size() <= limit) return CursorPage.last(toScrollItems(picked));
+        picked = picked.subList(0, limit);
+        return new CursorPage<>(toScrollItems(picked), encodeCursor(m, picked.get(limit - 1)), true);
+    }
+
+    private static List<WordScrollItem> toScrollItems(List<CatalogWord> words) {
+        return words.stream()
+                .map(w -> new WordScrollItem(w.id(), w.japaneseWord(), w.readingKana(), w.koreanMeaning(),
+                        w.category(), w.exampleSentenceJp()))
+                .toList();
+    }
+
+    private static String sortMode(String mode) {
+        return ("ko".equals(mode) || "ja".equals(mode)) ? mode : "recent";
+    }
+
+    private static Comparator<CatalogWord> orderOf(String mode) {
+        return switch (mode) {
+            case "ko" -> KO;
+            case "ja" -> JA;
+            default -> RECENT;
+        };
+    }
+
+    /** 검색어/카테고리 + (정렬 모드의) 그룹 필터에 맞는 id */
+    private static long[] matching(WordCatalog catalog, String q, String category, String mode, String group) {
+        // ✅ group 필터는 정렬 모드의 그룹에만 적용
+        boolean grouped = group != null && !group.isEmpty();
+        return catalog.search(q, category,
+                grouped && "ko".equals(mode) ? group : null,
+                grouped && "ja".equals(mode) ? group : null);
+    }
+
+    private static String encodeCursor(String mode, CatalogWord w) {
+        return switch (mode) {
+            case "ko" -> CursorCodec.encode(mode, w.koGroup(), w.koVowelIndex(), w.id(), w.koreanMeaning());
+            case "ja" -> CursorCodec.encode(mode, w.jaGroup(), w.jaVowelIndex(), w.id(), w.readingKana());
+            default -> CursorCodec.encode(mode, w.createdAt(), null, w.id(), null);
+        };
+    }
+
+    /** 커서를 정렬 키만 채운 CatalogWord 로 복원 (정렬 비교용) */
+    private static CatalogWord decodeCursor(String mode, String cursor) {
+        try {
+            String[] p = CursorCodec.decode(cursor, 5);
+            if (!mode.equals(p[0]) || p[3] == null) throw new IllegalArgumentException("정렬이 다른 커서");
+            Long id = Long.valueOf(p[3]);
+            Integer vowel = (p[2] == null) ? null : Integer.valueOf(p[2]);
+            return switch (mode) {
+                case "ko" -> new CatalogWord(id, null, null, p[4], null, null, p[1], vowel, null, null, null, null);
+                case "ja" -> new CatalogWord(id, null, p[4], null, null, null, null, null, p[1], vowel, null, null);
+                default -> new CatalogWord(id, null, null, null, null, null, null, null, null, null,
+                        (p[1] == null) ? null : LocalDateTime.parse(p[1]), null);
+            };
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 정렬 기준으로 [offset, offset+size) 구간만 뽑는다 (전체 정렬 대신 크기 offset+size 힙).
+     * after 가 있으면 정렬상 after 보다 뒤인 단어만 본다.
+     */
+    private static List<CatalogWord> topK(WordCatalog catalog, long[] ids, Comparator<CatalogWord> order,
+                                          CatalogWord after, int offset, int size) {
+        long limit = (long) offset + size;
+        if (offset >= ids.length || limit <= 0) return List.of();
+        int k = (int) Math.min(limit, ids.length);
+
+        PriorityQueue<CatalogWord> heap = new PriorityQueue<>(k, order.reversed());
+        for (long id : ids) {
+            CatalogWord w = catalog.get(id);
+            if (after != null && order.compare(w, after) <= 0) continue;
+            if (heap.size() < k) {
+                heap.add(w);
+            } else if (order.compare(w, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(w);
             }
         }
+        List<CatalogWord> sorted = new ArrayList<>(heap);
+        sorted.sort(order);
+        return sorted.subList(Math.min(offset, sorted.size()), sorted.size());
+    }
 
-        // 기본 검색 (group 없음)
-        return wordRepo.search(q, category, pageable);
+    /** 카탈로그 순서대로 엔티티 로딩 (그사이 삭제된 단어는 빠진다) */
+    private List<Word> load(List<CatalogWord> words) {
+        if (words.isEmpty()) return List.of();
+        Map<Long, Word> byId = new HashMap<>();
+        for (Word w : wordRepo.findAllById(words.stream().map(CatalogWord::id).toList())) {
+            byId.put(w.getId(), w);
+        }
+        List<Word> out = new ArrayList<>(words.size());
+        for (CatalogWord cw : words) {
+            Word w = byId.get(cw.id());
+            if (w != null) out.add(w);
+        }
+        return out;
     }
 
     // === 전체 목록 (기존 searchBasic 대체) ===
-    public java.util.List<Word> list(String q, String category) {
-        return wordRepo.search(q, category, Pageable.unpaged()).getContent();
+    public List<Word> list(String q, String category) {
+        WordCatalog catalog = wordCatalogService.current();
+        long[] ids = catalog.search(q, category, null, null);
+        List<CatalogWord> words = new ArrayList<>(ids.length);
+        for (long id : ids) words.add(catalog.get(id));
+        return load(words);
+    }
+
+    /** 자동완성 최대 개수 */
+    private static final int MAX_SUGGESTIONS = 20;
+
+    // === 자동완성 (카탈로그 접두어 색인) ===
+    public List<WordSuggestion> suggest(String prefix, int limit) {
+        int k = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        return wordCatalogService.current().suggest(prefix, k).stream()
+                .map(w -> new WordSuggestion(w.id(), w.japaneseWord(), w.readingKana(), w.koreanMeaning()))
+                .toList();
     }
 
     // === 관리자 기능 (CRUD) ===
@@ -65,6 +224,8 @@ public class AdminWordService {
         w.setExampleSentenceJp(f.getExampleSentenceJp());
         w.setCreatedBy(adminUserId);
         wordRepo.save(w);
+        wordCatalogService.onWordSaved(w);
+        wordCache.invalidate(w.getId());
         return w.getId();
     }
 
@@ -76,10 +237,14 @@ public class AdminWordService {
         w.setKoreanMeaning(f.getKoreanMeaning());
         w.setCategory(f.getCategory());
         w.setExampleSentenceJp(f.getExampleSentenceJp());
+        wordCatalogService.onWordSaved(w);
+        wordCache.invalidate(id);
     }
 
     @Transactional
     public void delete(Long id) {
         wordRepo.deleteById(id);
+        wordCatalogService.onWordDeleted(id);
+        wordCache.invalidate(id);
     }
 }
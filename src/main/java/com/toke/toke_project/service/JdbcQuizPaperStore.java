@@ -0,0 +1,111 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.service.model.CompactQuizPaper;
+import com.toke.toke_project.service.model.QuizPaperCodec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * quiz_paper 테이블 저장소 (devtools/sql/quiz_paper.sql).
+ * - 만료 시각은 애플리케이션 Clock 기준으로 기록/비교한다(노드 간 DB 시간 차이 영향 없음)
+ * - 만료 행은 sweeper가 주기적으로 지운다. get은 sweeper와 무관하게 만료 행을 무시한다.
+ */
+public class JdbcQuizPaperStore implements QuizPaperStore, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcQuizPaperStore.class);
+
+    private final JdbcTemplate jdbc;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ScheduledExecutorService sweeper;
+
+    /** @param sweepInterval 0 이하이면 청소 스레드를 띄우지 않는다 */
+    public JdbcQuizPaperStore(JdbcTemplate jdbc, Duration ttl, Clock clock, Duration sweepInterval) {
+        this.jdbc = jdbc;
+        this.ttl = ttl;
+        this.clock = clock;
+
+        if (!sweepInterval.isNegative() && !sweepInterval.isZero()) {
+            this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "quiz-paper-sweeper");
+                t.setDaemon(true);
+                return t;
+            });
+            long ms = sweepInterval.toMillis();
+            sweeper.scheduleWithFixedDelay(this::sweepQuietly, ms, ms, TimeUnit.MILLISECONDS);
+        } else {
+            this.sweeper = null;
+        }
+    }
+
+    @Override
+    public boolean sharedAcrossNodes() {
+        return true;
+    }
+
+    @Override
+    public void put(CompactQuizPaper paper) {
+        put(paper, now().plus(ttl));
+    }
+
+    void put(CompactQuizPaper paper, LocalDateTime expiresAt) {
+        jdbc.update("INSERT INTO quiz_paper (quiz_id, payload, expires_at) VALUES (?, ?, ?)",
+                paper.quizId(), QuizPaperCodec.toBytes(paper), Timestamp.valueOf(expiresAt));
+    }
+
+    @Override
+    public CompactQuizPaper get(String quizId) {
+        Stored s = find(quizId);
+        return s == null ? null : s.paper();
+    }
+
+    /** 시험지 + 만료 시각 (two-tier near-cache 만료 계산용) */
+    record Stored(CompactQuizPaper paper, LocalDateTime expiresAt) {}
+
+    Stored find(String quizId) {
+        List<Stored> rows = jdbc.query(
+                "SELECT payload, expires_at FROM quiz_paper WHERE quiz_id = ? AND expires_at > ?",
+                (rs, i) -> new Stored(QuizPaperCodec.fromBytes(rs.getBytes(1)), rs.getTimestamp(2).toLocalDateTime()),
+                quizId, Timestamp.valueOf(now()));
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    @Override
+    public void remove(String quizId) {
+        jdbc.update("DELETE FROM quiz_paper WHERE quiz_id = ?", quizId);
+    }
+
+    /** 만료 행 삭제, 삭제 건수 반환 */
+    public int sweepExpired() {
+        return jdbc.update("DELETE FROM quiz_paper WHERE expires_at <= ?", Timestamp.valueOf(now()));
+    }
+
+    private void sweepQuietly() {
+        try {
+            int n = sweepExpired();
+            if (n > 0) log.debug("[JdbcQuizPaperStore] 만료 시험지 {}건 삭제", n);
+        } catch (RuntimeException e) {
+            log.warn("[JdbcQuizPaperStore] 만료 청소 실패: {}", e.getMessage());
+        }
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    @Override
+    public void close() {
+        if (sweeper != null) sweeper.shutdownNow();
+    }
+}
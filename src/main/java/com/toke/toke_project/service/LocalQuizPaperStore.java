@@ -0,0 +1,38 @@
+package com.toke.toke_project.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.toke.toke_project.service.model.CompactQuizPaper;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/** 노드 로컬 Caffeine 저장소 (바이트 가중치 상한 + 쓰기 후 TTL) */
+public class LocalQuizPaperStore implements QuizPaperStore {
+
+    private final Cache<String, CompactQuizPaper> cache;
+
+    public LocalQuizPaperStore(Duration ttl, long maxBytes, Clock clock) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String k, CompactQuizPaper v) -> v.estimatedBytes())
+                .expireAfterWrite(ttl)
+                .ticker(() -> clock.millis() * 1_000_000L)
+                .build();
+    }
+
+    @Override
+    public void put(CompactQuizPaper paper) {
+        cache.put(paper.quizId(), paper);
+    }
+
+    @Override
+    public CompactQuizPaper get(String quizId) {
+        return cache.getIfPresent(quizId);
+    }
+
+    @Override
+    public void remove(String quizId) {
+        cache.invalidate(quizId);
+    }
+}
@@ -0,0 +1,79 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.service.model.CatalogWord;
+import com.toke.toke_project.service.model.QuestionMode;
+import com.toke.toke_project.service.model.WordCatalog;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.random.RandomGenerator;
+
+/**
+ * 한 시험지의 오답 보기를 한 번에 고르는 단계.
+ * 문항마다 (카테고리, 제외할 wordId)를 모아 카탈로그 스냅샷에서 메모리로 처리한다(SQL 0회).
+ *
+ * 보장 사항(기존 Oracle 쿼리 + 필터와 동일):
+ * - 빈 문자열/공백 보기 없음
+ * - 한 문항 안에서 보기 텍스트 중복 없음
+ * - 정답 텍스트와 같은 보기 없음
+ */
+@Component
+public class QuizDistractorSelector {
+
+    /** 무작위 탐색 시도 횟수 = 필요 개수 * 이 값 (실패 시 전체 순회로 보충) */
+    private static final int PROBE_FACTOR = 8;
+
+    /**
+     * @return targets와 같은 순서로, 문항별 오답 보기 단어 목록(최대 perQuestion개)
+     */
+    public List<List<CatalogWord>> select(WordCatalog catalog, List<CatalogWord> targets,
+                                          QuestionMode mode, int perQuestion, RandomGenerator rnd) {
+        List<List<CatalogWord>> result = new ArrayList<>(targets.size());
+        Map<String, long[]> pools = new HashMap<>(); // 같은 카테고리는 한 번만 조회
+
+        for (CatalogWord target : targets) {
+            String key = WordCatalog.normalizeCategory(target.category());
+            long[] pool = (key == null)
+                    ? catalog.idsOf(null)
+                    : pools.computeIfAbsent(key, catalog::idsOf);
+
+            List<CatalogWord> picked = new ArrayList<>(perQuestion);
+            Set<String> seen = new HashSet<>();
+            seen.add(target.optionText(mode));
+
+            fill(catalog, pool, target.id(), mode, perQuestion, rnd, picked, seen);
+            if (picked.size() < perQuestion && key != null) {
+                // 카테고리 단어가 부족하면 전체 카탈로그에서 보충
+                fill(catalog, catalog.idsOf(null), target.id(), mode, perQuestion, rnd, picked, seen);
+            }
+            result.add(picked);
+        }
+        return result;
+    }
+
+    private void fill(WordCatalog catalog, long[] pool, Long excludeId, QuestionMode mode, int need,
+                      RandomGenerator rnd, List<CatalogWord> picked, Set<String> seen) {
+        if (pool.length == 0) return;
+
+        // 1) 무작위 탐색: 큰 카테고리에서는 몇 번 만에 끝난다
+        int probes = need * PROBE_FACTOR;
+        for (int i = 0; i < probes && picked.size() < need; i++) {
+            offer(catalog.get(pool[rnd.nextInt(pool.length)]), excludeId, mode, picked, seen);
+        }
+
+        // 2) 부족하면 임의 시작점부터 한 바퀴 순회 (작은 카테고리 / 중복 텍스트가 많은 경우)
+        int start = rnd.nextInt(pool.length);
+        for (int i = 0; i < pool.length && picked.size() < need; i++) {
+            offer(catalog.get(pool[(start + i) % pool.length]), excludeId, mode, picked, seen);
+        }
+    }
+
+    private void offer(CatalogWord w, Long excludeId, QuestionMode mode,
+                       List<CatalogWord> picked, Set<String> seen) {
+        if (w == null || Objects.equals(w.id(), excludeId)) return;
+        String text = w.optionText(mode);
+        if (text == null || text.isBlank()) return;
+        if (seen.add(text)) picked.add(w);
+    }
+}
@@ -0,0 +1,177 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.service.model.QuestionMode;
+import com.toke.toke_project.service.model.QuizPaper;
+import com.toke.toke_project.service.model.WordCatalog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * (카테고리, 출제 모드, 문항 수)별로 미리 만들어 둔 QuizPaper 풀.
+ * - /quiz/start 는 풀에서 꺼내기만 하고, 비면(miss) 그 자리에서 만든다.
+ * - 꺼낼 때마다 백그라운드 스레드가 풀을 depth까지 다시 채운다.
+ * - 카탈로그 버전이 바뀌면(단어 수정) 예전 시험지는 버린다.
+ *
+ * 메트릭: quiz.pool.depth(gauge), quiz.pool.requests(counter, result=hit|miss|stale),
+ *         quiz.pool.refill.lag(timer: 리필 요청 → 풀이 다시 가득 찰 때까지)
+ */
+@Component
+public class QuizPaperPool {
+
+    private static final Logger log = LoggerFactory.getLogger(QuizPaperPool.class);
+
+    /** 이보다 긴 시험지는 풀에 쌓지 않는다(메모리 보호) */
+    private static final int MAX_POOLED_QUESTIONS = 50;
+
+    /**
+     * 풀 키. category 는 WordCatalog.normalizeCategory 결과(전체는 null)라 공백만 다른 입력은 같은 키가 된다.
+     * 사용자 입력 카테고리로 키가 늘지 않게 카탈로그에 있는 카테고리만, 최대 maxKeys 개까지 등록한다.
+     */
+    public record Key(String category, QuestionMode mode, int questionCount) {
+        public static Key of(String category, QuestionMode mode, int questionCount) {
+            return new Key(WordCatalog.normalizeCategory(category), mode, questionCount);
+        }
+    }
+
+    private record Pooled(QuizPaper paper, long catalogVersion) {}
+
+    private final class Slot {
+        final BlockingQueue<Pooled> queue;
+        final Supplier<QuizPaper> factory;
+        final AtomicBoolean refilling = new AtomicBoolean();
+
+        Slot(Supplier<QuizPaper> factory) {
+            this.queue = new ArrayBlockingQueue<>(depth);
+            this.factory = factory;
+        }
+    }
+
+    private final WordCatalogService wordCatalogService;
+    private final boolean enabled;
+    private final int depth;
+    private final int maxKeys;
+
+    private final Map<Key, Slot> slots = new ConcurrentHashMap<>();
+    private final ExecutorService refiller;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter stale;
+    private final Timer refillLag;
+
+    public QuizPaperPool(WordCatalogService wordCatalogService,
+                         MeterRegistry registry,
+                         @Value("${toke.quiz.pool.enabled:true}") boolean enabled,
+                         @Value("${toke.quiz.pool.depth:20}") int depth,
+                         @Value("${toke.quiz.pool.max-keys:64}") int maxKeys) {
+        this.wordCatalogService = wordCatalogService;
+        this.enabled = enabled && depth > 0;
+        this.depth = Math.max(1, depth);
+        this.maxKeys = maxKeys;
+
+        this.refiller = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "quiz-paper-pool");
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.hits = Counter.builder("quiz.pool.requests").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("quiz.pool.requests").tag("result", "miss").register(registry);
+        this.stale = Counter.builder("quiz.pool.requests").tag("result", "stale").register(registry);
+        this.refillLag = Timer.builder("quiz.pool.refill.lag").register(registry);
+        Gauge.builder("quiz.pool.depth", slots, m -> m.values().stream().mapToInt(s -> s.queue.size()).sum())
+                .register(registry);
+        Gauge.builder("quiz.pool.keys", slots, Map::size).register(registry);
+    }
+
+    /**
+     * 풀에서 시험지 1장을 꺼낸다(quizId는 비어 있음). 없으면 factory로 즉석 생성.
+     * factory는 키별로 처음 등록된 것을 리필에 계속 사용한다.
+     */
+    public QuizPaper take(Key key, Supplier<QuizPaper> factory) {
+        if (!enabled || key.questionCount() > MAX_POOLED_QUESTIONS) return factory.get();
+
+        Slot slot = slots.get(key);
+        if (slot == null) {
+            // 처음 보는 키: 즉석 생성이 성공한 조합만 풀에 등록한다
+            misses.increment();
+            QuizPaper paper = factory.get();
+            if (slots.size() < maxKeys && isKnownCategory(key.category())) {
+                Slot created = slots.computeIfAbsent(key, k -> new Slot(factory));
+                scheduleRefill(key, created);
+            }
+            return paper;
+        }
+
+        long version = wordCatalogService.current().version();
+        QuizPaper paper = null;
+        Pooled p;
+        while ((p = slot.queue.poll()) != null) {
+            if (p.catalogVersion() == version) {
+                paper = p.paper();
+                break;
+            }
+            stale.increment(); // 단어가 바뀌기 전에 만든 시험지
+        }
+
+        if (paper != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            paper = factory.get(); // 실패(문항 부족 등)는 호출자에게 그대로 전달
+        }
+        scheduleRefill(key, slot);
+        return paper;
+    }
+
+    /** 카탈로그에 단어가 있는 카테고리(전체 = null)인지 — 오타/임의 값이 키 자리를 차지하지 못하게 */
+    private boolean isKnownCategory(String category) {
+        return category == null || wordCatalogService.current().idsOf(category).length > 0;
+    }
+
+    private void scheduleRefill(Key key, Slot slot) {
+        if (!slot.refilling.compareAndSet(false, true)) return;
+        long requestedAt = System.nanoTime();
+        try {
+            refiller.execute(() -> refill(key, slot, requestedAt));
+        } catch (RejectedExecutionException e) {
+            slot.refilling.set(false); // 종료 중
+        }
+    }
+
+    private void refill(Key key, Slot slot, long requestedAt) {
+        try {
+            while (slot.queue.remainingCapacity() > 0) {
+                long version = wordCatalogService.current().version();
+                QuizPaper paper = slot.factory.get();
+                if (!slot.queue.offer(new Pooled(paper, version))) break;
+            }
+            refillLag.record(System.nanoTime() - requestedAt, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            // 만들 수 없는 조합(문항 부족 등)은 풀에서 빼서 다시 시도하지 않는다
+            log.warn("[QuizPaperPool] 리필 실패, 키 제거: {} ({})", key, e.getMessage());
+            slots.remove(key, slot);
+        } finally {
+            slot.refilling.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refiller.shutdownNow();
+    }
+}
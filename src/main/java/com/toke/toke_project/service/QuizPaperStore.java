@@ -0,0 +1,30 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.service.model.CompactQuizPaper;
+
+/**
+ * 진행 중인 퀴즈(압축 시험지) 저장소.
+ * 모든 구현은 같은 TTL 의미를 따른다: put 시점 + ttl 이 지나면 get 결과는 null.
+ *
+ * 구현 선택: toke.quiz.store = local | jdbc | two-tier
+ * - local    : 노드 로컬 Caffeine (재시작/다른 노드에서는 사라짐)
+ * - jdbc     : quiz_paper 테이블 + 만료 행 청소
+ * - two-tier : 로컬 near-cache + jdbc
+ *
+ * jdbc / two-tier 는 다른 노드가 꺼낼 수 있으므로(sharedAcrossNodes) 렌더링 문구까지 담은 시험지를 받는다.
+ * 꺼낸 노드의 카탈로그에 그 단어가 아직 없거나 바뀌었어도 출제 당시 문구 그대로 채점된다.
+ */
+public interface QuizPaperStore {
+
+    /** 다른 노드도 같은 시험지를 꺼낼 수 있으면 true → QuizPaperCodec.encode(paper, true) 로 넣는다 */
+    default boolean sharedAcrossNodes() {
+        return false;
+    }
+
+    void put(CompactQuizPaper paper);
+
+    /** 없거나 만료됐으면 null */
+    CompactQuizPaper get(String quizId);
+
+    void remove(String quizId);
+}
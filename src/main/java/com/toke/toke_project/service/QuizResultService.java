@@ -5,6 +5,8 @@ import com.toke.toke_project.repo.QuizResultRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.*;
+
 /**
  * QuizResult 저장 책임을 분리한 서비스.
  * - quiz_result 저장
@@ -39,4 +41,13 @@ public class QuizResultService {
         return saved;
     }
 
+    /**
+     * 풀이 기록(quiz_result)만 일괄 저장한다: pooled 시퀀스 + JDBC 배치 INSERT (hibernate.jdbc.batch_size).
+     * 오답노트 반영은 채점(QuizService.grade)이 자기 트랜잭션에서 먼저 한다 — write-behind 로 미뤄지는 것은 이력뿐이다.
+     */
+    @Transactional
+    public List<QuizResult> saveResults(List<QuizResult> results) {
+        return quizResultRepository.saveAll(results);
+    }
+
 }
@@ -0,0 +1,196 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.domain.QuizResult;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채점 결과(QuizResult) 저장 경로. 풀이 기록 행만 다루고, 오답노트는 채점 트랜잭션에서 바로 반영된다.
+ * toke.quiz.result-write-mode
+ * - sync         : 채점 트랜잭션 안에서 바로 저장 (기본)
+ * - write-behind : 큐에 넣고 바로 응답, 백그라운드 스레드가 배치로 저장
+ *
+ * write-behind 보장 사항:
+ * - 큐가 가득 차면 write 호출당 offer-timeout 까지만 기다리고, 그래도 못 넣은 행은 호출 스레드에서 직접 저장(back-pressure)
+ * - 배치 저장이 실패하면 반으로 나눠 다시 저장해, 실제로 실패하는 행만 버린다(실패 카운터 + 로그)
+ * - 종료 시 큐에 남은 행을 모두 저장한 뒤 스레드를 멈춘다 (30초 안에 못 비우면 종료 스레드가 직접 저장)
+ *
+ * 메트릭: quiz.results.queue.depth(gauge), quiz.results.batch.size(summary),
+ *         quiz.results.flush(timer), quiz.results.backpressure / quiz.results.write.failures(counter)
+ */
+@Component
+public class QuizResultWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(QuizResultWriter.class);
+
+    /** 큐가 비었을 때 종료 여부를 확인하는 주기 */
+    private static final long POLL_MS = 200;
+
+    private final QuizResultService quizResultService;
+    private final boolean writeBehind;
+    private final int batchSize;
+    private final long offerTimeoutMs;
+
+    private final BlockingQueue<QuizResult> queue;
+    private final Thread drainer;
+    private volatile boolean running = true;
+
+    private final DistributionSummary batchSizes;
+    private final Timer flushTimer;
+    private final Counter backpressure;
+    private final Counter failures;
+
+    public QuizResultWriter(QuizResultService quizResultService,
+                            MeterRegistry registry,
+                            @Value("${toke.quiz.result-write-mode:sync}") String mode,
+                            @Value("${toke.quiz.result-queue.capacity:10000}") int capacity,
+                            @Value("${toke.quiz.result-queue.batch-size:500}") int batchSize,
+                            @Value("${toke.quiz.result-queue.offer-timeout:200ms}") Duration offerTimeout) {
+        this.quizResultService = quizResultService;
+        this.writeBehind = switch (mode) {
+            case "sync" -> false;
+            case "write-behind" -> true;
+            default -> throw new IllegalArgumentException("알 수 없는 toke.quiz.result-write-mode: " + mode);
+        };
+        this.batchSize = Math.max(1, batchSize);
+        this.offerTimeoutMs = offerTimeout.toMillis();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+
+        this.batchSizes = DistributionSummary.builder("quiz.results.batch.size").register(registry);
+        this.flushTimer = Timer.builder("quiz.results.flush").register(registry);
+        this.backpressure = Counter.builder("quiz.results.backpressure").register(registry);
+        this.failures = Counter.builder("quiz.results.write.failures").register(registry);
+        Gauge.builder("quiz.results.queue.depth", queue, BlockingQueue::size).register(registry);
+
+        if (writeBehind) {
+            this.drainer = new Thread(this::drainLoop, "quiz-result-writer");
+            drainer.setDaemon(true);
+            drainer.start();
+        } else {
+            this.drainer = null;
+        }
+    }
+
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    /** 시험지 1장의 풀이 기록 저장 (write-behind면 큐에 넣고 바로 반환) */
+    public void write(List<QuizResult> results) {
+        if (!writeBehind) {
+            quizResultService.saveResults(results);
+            return;
+        }
+
+        // 대기 시간은 행마다가 아니라 호출 전체에 한 번 (시험지 1장이 offer-timeout × 문항 수만큼 막히지 않게)
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMs);
+        List<QuizResult> overflow = null;
+        for (QuizResult r : results) {
+            if (!enqueue(r, deadline)) {
+                if (overflow == null) overflow = new ArrayList<>();
+                overflow.add(r);
+            }
+        }
+        if (overflow != null) {
+            // 큐가 가득 참(또는 종료 중): 호출자가 직접 저장해서 속도를 맞춘다
+            backpressure.increment(overflow.size());
+            quizResultService.saveResults(overflow);
+        }
+    }
+
+    private boolean enqueue(QuizResult r, long deadline) {
+        if (!running) return false;
+        try {
+            return queue.offer(r, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drainLoop() {
+        List<QuizResult> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                QuizResult first = queue.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                // 종료 신호는 running 으로 전달된다. 남은 행은 계속 비운다.
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<QuizResult> batch) {
+        batchSizes.record(batch.size());
+        long start = System.nanoTime();
+        try {
+            save(new ArrayList<>(batch));
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 배치 저장. 실패하면(트랜잭션 전체 롤백) 반으로 나눠 다시 시도하고, 1건까지 줄여도 실패하는 행만 버린다.
+     * 한 행의 문제로 다른 사용자들의 기록이 함께 사라지지 않게 한다.
+     */
+    private void save(List<QuizResult> rows) {
+        try {
+            quizResultService.saveResults(rows);
+        } catch (RuntimeException e) {
+            rows.forEach(r -> r.setResultId(null)); // 롤백된 시퀀스 값은 버리고 새로 받는다
+            if (rows.size() == 1) {
+                QuizResult r = rows.get(0);
+                failures.increment();
+                log.error("[QuizResultWriter] 풀이 기록 저장 실패 (user={}, word={})", r.getUserId(), r.getWordId(), e);
+                return;
+            }
+            int mid = rows.size() / 2;
+            save(new ArrayList<>(rows.subList(0, mid)));
+            save(new ArrayList<>(rows.subList(mid, rows.size())));
+        }
+    }
+
+    /** 남은 큐를 모두 저장하고 멈춘다 */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (drainer == null) return;
+        try {
+            drainer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 제한 시간 안에 못 비웠으면 남은 행은 이 스레드에서 직접 저장한다 (버리지 않음)
+        if (!queue.isEmpty()) {
+            log.warn("[QuizResultWriter] 종료 대기 초과, 남은 {}건을 직접 저장", queue.size());
+            List<QuizResult> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+}
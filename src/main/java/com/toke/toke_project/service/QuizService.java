@@ -1,19 +1,22 @@
 package com.toke.toke_project.service;
 
-import com.github.benmanes.caffeine.cache.Cache;
 import com.toke.toke_project.domain.QuizResult;
 import com.toke.toke_project.domain.Word;
 import com.toke.toke_project.domain.WrongNote;
-import com.toke.toke_project.repo.WordRepository;
 import com.toke.toke_project.repo.WrongNoteRepository;
+import com.toke.toke_project.service.model.CatalogWord;
+import com.toke.toke_project.service.model.CompactQuizPaper;
 import com.toke.toke_project.service.model.QuestionMode;
 import com.toke.toke_project.service.model.QuizPaper;
+import com.toke.toke_project.service.model.QuizPaperCodec;
 import com.toke.toke_project.service.model.QuizQuestion;
+import com.toke.toke_project.service.model.WordCatalog;
 import com.toke.toke_project.web.dto.*;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
@@ -23,38 +26,46 @@ import org.springframework.web.server.ResponseStatusException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 @Service
 public class QuizService {
 
-    private final WordRepository wordRepository;
+    private final WordCache wordCache;
     private final WrongNoteRepository wrongNoteRepository;
     private final WrongNoteService wrongNoteService;
-    private final QuizResultService quizResultService;
+    private final QuizResultWriter quizResultWriter;
+    private final WordCatalogService wordCatalogService;
+    private final QuizDistractorSelector distractorSelector;
+    private final QuizPaperPool quizPaperPool;
 
-    private final Cache<String, QuizPaper> quizCache;
+    private final QuizPaperStore quizPaperStore;
 
     @PersistenceContext
     private EntityManager em;
 
-    public QuizService(WordRepository wordRepository,
+    public QuizService(WordCache wordCache,
                        WrongNoteRepository wrongNoteRepository,
                        WrongNoteService wrongNoteService,
-                       QuizResultService quizResultService,
-                       Cache<String, QuizPaper> quizCache) {
-        this.wordRepository = wordRepository;
+                       QuizResultWriter quizResultWriter,
+                       WordCatalogService wordCatalogService,
+                       QuizDistractorSelector distractorSelector,
+                       QuizPaperPool quizPaperPool,
+                       QuizPaperStore quizPaperStore) {
+        this.wordCache = wordCache;
         this.wrongNoteRepository = wrongNoteRepository;
         this.wrongNoteService = wrongNoteService;
-        this.quizResultService = quizResultService;
-        this.quizCache = quizCache;
+        this.quizResultWriter = quizResultWriter;
+        this.wordCatalogService = wordCatalogService;
+        this.distractorSelector = distractorSelector;
+        this.quizPaperPool = quizPaperPool;
+        this.quizPaperStore = quizPaperStore;
     }
 
-    /** 오답노트 기반 퀴즈 생성 */
+    /** 오답노트 기반 퀴즈 생성 (mode=PRIORITY 면 복습 점수 상위 N건) */
     @Transactional
     public QuizView generateFromWrongNotesForUser(Long userId, WrongNoteQuizRequest req) {
-        List<WrongNote> notes = wrongNoteRepository.findByUserIdWithWord(userId);
-
         // 날짜 필터
         LocalDateTime fFrom = null, fTo = null;
         if (req.getDateFrom() != null) fFrom = LocalDate.parse(req.getDateFrom()).atStartOfDay();
@@ -64,7 +75,57 @@ public class QuizService {
         final String categoryFilter = (req.getCategory() == null || req.getCategory().isBlank())
                 ? null : req.getCategory().trim();
 
+        List<CatalogWord> picked = req.isPriorityMode()
+                ? pickByReviewScore(userId, categoryFilter, filterFrom, filterTo, req.getCount())
+                : pickRandomWrongNotes(userId, categoryFilter, filterFrom, filterTo, req.getCount());
+
+        QuestionMode mode = QuestionMode.JP_TO_KR;
+
+        // QuizPaper + ViewItem 동시에 구성
+        List<QuizQuestion> questions = buildQuestions(picked, mode);
+        List<QuizViewItem> items = toViewItems(questions);
+
+        String quizUuid = UUID.randomUUID().toString();
+        QuizPaper paper = new QuizPaper(
+                quizUuid,
+                categoryFilter == null ? "오답노트" : categoryFilter,
+                mode,
+                questions
+        );
+
+        quizPaperStore.put(QuizPaperCodec.encode(paper, quizPaperStore.sharedAcrossNodes()));
+
+        return new QuizView(
+                quizUuid,
+                categoryFilter == null ? "오답노트" : categoryFilter,
+                mode,
+                items
+        );
+    }
+
+    /** 복습 우선순위: 점수 인덱스에서 상위 count건만 읽고 단어는 카탈로그에서 꺼낸다 */
+    private List<CatalogWord> pickByReviewScore(Long userId, String categoryFilter,
+                                                LocalDateTime filterFrom, LocalDateTime filterTo, Integer count) {
+        int n = (count == null || count <= 0) ? 10 : count;
+        WordCatalog catalog = wordCatalogService.current();
+        List<CatalogWord> picked = wrongNoteRepository
+                .findReviewQueue(userId, categoryFilter, filterFrom, filterTo, PageRequest.of(0, n))
+                .stream()
+                .map(catalog::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        if (picked.isEmpty()) {
+            throw new IllegalArgumentException("조건에 맞는 오답노트가 없습니다.");
+        }
+        return picked;
+    }
+
+    /** 무작위: 조건에 맞는 오답노트 중 count건 */
+    private List<CatalogWord> pickRandomWrongNotes(Long userId, String categoryFilter,
+                                                   LocalDateTime filterFrom, LocalDateTime filterTo, Integer count) {
         // 후보 단어 필터링
+        List<WrongNote> notes = wrongNoteRepository.findByUserIdWithWord(userId);
         List<Word> candidates = notes.stream()
                 .filter(wn -> {
                     if (categoryFilter != null) {
@@ -87,65 +148,18 @@ public class QuizService {
             throw new IllegalArgumentException("조건에 맞는 오답노트가 없습니다.");
         }
 
-        int n = (req.getCount() == null || req.getCount() <= 0)
+        int n = (count == null || count <= 0)
                 ? Math.min(10, candidates.size())
-                : Math.min(req.getCount(), candidates.size());
+                : Math.min(count, candidates.size());
         Collections.shuffle(candidates);
-        List<Word> picked = candidates.subList(0, n);
-
-        QuestionMode mode = QuestionMode.JP_TO_KR;
-
-        // QuizPaper + ViewItem 동시에 구성
-        List<QuizQuestion> questions = new ArrayList<>();
-        List<QuizViewItem> items = new ArrayList<>();
-
-        for (Word w : picked) {
-            String prompt, correctText;
-            if (mode == QuestionMode.JP_TO_KR) {
-                prompt = "'" + w.getJapaneseWord() + "'란 무슨 뜻입니까?";
-                correctText = w.getKoreanMeaning();
-            } else {
-                prompt = "'" + w.getKoreanMeaning() + "'에 해당하는 일본어는?";
-                correctText = w.getJapaneseWord();
-            }
-
-            List<String> options = buildOptions(w.getCategory(), w, mode, correctText);
-            int answerIndex = options.indexOf(correctText);
-
-            // ✅ 오타 수정: geId → getId
-            QuizQuestion q = new QuizQuestion(
-                    w.getId(),   // quizId 자리엔 wordId를 넣어 둠
-                    prompt,
-                    options,
-                    answerIndex
-            );
-            questions.add(q);
-            items.add(new QuizViewItem(prompt, options));
-        }
-
-        String quizUuid = UUID.randomUUID().toString();
-        QuizPaper paper = new QuizPaper(
-                quizUuid,
-                categoryFilter == null ? "오답노트" : categoryFilter,
-                mode,
-                questions
-        );
-
-        quizCache.put(quizUuid, paper);
-
-        return new QuizView(
-                quizUuid,
-                categoryFilter == null ? "오답노트" : categoryFilter,
-                mode,
-                items
-        );
+        return candidates.subList(0, n).stream().map(CatalogWord::of).toList();
     }
 
     /** 채점 */
     @PreAuthorize("hasAnyRole('ROLE_USER','ROLE_ADMIN')")
     @Transactional
     public GradeResponse grade(String quizUuid, GradeRequest req, Long userId) {
-        QuizPaper paper = quizCache.getIfPresent(quizUuid);
+        QuizPaper paper = findPaper(quizUuid);
         if (paper == null) {
             throw new ResponseStatusException(HttpStatus.GONE, "퀴즈가 만료되었거나 존재하지 않습니다.");
         }
@@ -154,8 +168,16 @@ public class QuizService {
         Map<Integer, Integer> answerMap = (req != null && req.answers() != null)
                 ? req.answers() : Collections.emptyMap();
 
+        // 해설용 단어는 캐시에서 (없는 것만 한 번에 조회)
+        Map<Long, CatalogWord> words = wordCache.getAll(
+                paper.questions().stream().map(QuizQuestion::quizId).toList());
+
+        LocalDateTime now = LocalDateTime.now();
         int correctCount = 0;
         List<QuestionResult> results = new ArrayList<>();
+        List<QuizResult> records = new ArrayList<>(total);
+        List<WrongNoteService.WrongKey> wrong = new ArrayList<>();
+        List<WrongNoteService.WrongKey> correct = new ArrayList<>();
 
         for (int i = 0; i < total; i++) {
             var q = paper.questions().get(i);
@@ -164,30 +186,29 @@ public class QuizService {
             boolean isCorrect = (pick != null && pick >= 0 && pick < q.options().size() && q.answerIndex() == pick);
             if (isCorrect) correctCount++;
 
-            // 풀이 기록 저장 (wordId를 QuizResult.quizId 필드에 저장)
+            // 풀이 기록 (wordId를 QuizResult.wordId에 저장) — 저장은 루프 밖에서 일괄
             QuizResult r = new QuizResult();
             r.setUserId(userId);
             r.setWordId(q.quizId()); // wordId 저장
             r.setUserAnswer((pick == null || pick < 0 || pick > 3) ? null : indexToKey(pick));
             r.setIsCorrect(isCorrect ? "Y" : "N");
-            r.setCreatedAt(LocalDateTime.now());
-            quizResultService.saveResult(r);
-
-       
+            r.setCreatedAt(now);
+            records.add(r);
+            (isCorrect ? correct : wrong).add(new WrongNoteService.WrongKey(userId, q.quizId()));
 
             // 해설/예문
-            Word w = wordRepository.findById((long) q.quizId()).orElse(null);
+            CatalogWord w = words.get(q.quizId());
             String explain;
             String ex;
             if (w != null) {
                 if (paper.mode() == QuestionMode.JP_TO_KR) {
                     explain = String.format("'%s'(%s)의 뜻은 '%s' 입니다.",
-                            ns(w.getJapaneseWord()), ns(w.getReadingKana()), ns(w.getKoreanMeaning()));
+                            ns(w.japaneseWord()), ns(w.readingKana()), ns(w.koreanMeaning()));
                 } else {
                     explain = String.format("'%s'에 해당하는 일본어는 '%s'(%s) 입니다.",
-                            ns(w.getKoreanMeaning()), ns(w.getJapaneseWord()), ns(w.getReadingKana()));
+                            ns(w.koreanMeaning()), ns(w.japaneseWord()), ns(w.readingKana()));
                 }
-                ex = w.getExampleSentenceJp();
+                ex = w.exampleSentenceJp();
             } else {
                 explain = "해설: 정답을 중심으로 의미 차이를 확인해 보세요.";
                 ex = null;
@@ -209,27 +230,44 @@ public class QuizService {
             ));
         }
 
+        // 오답노트는 이 트랜잭션에서 바로 반영: MERGE 1회 + 정답 복습 점수 배치 UPDATE 1회
+        // (채점 직후 오답노트 화면 / PRIORITY 복습이 최신 상태를 보도록 write-behind 와 무관하게 동기)
+        wrongNoteService.recordWrongAll(wrong);
+        wrongNoteService.recordCorrectAll(correct);
+        // 풀이 기록 INSERT 배치 1회 (write-behind 모드면 큐에 넣고 바로 응답)
+        quizResultWriter.write(records);
+
         return new GradeResponse(total, correctCount, results);
     }
 
-    /** 보기 4개 구성 */
-    private List<String> buildOptions(String category, Word target, QuestionMode mode, String correctText) {
-        List<String> options = new ArrayList<>();
-        options.add(correctText);
-
-        List<String> distractors = (mode == QuestionMode.JP_TO_KR)
-                ? wordRepository.findRandomMeaningsForDistractorsOracle(category, target.getId(), 20)
-                : wordRepository.findRandomJapaneseForDistractorsOracle(category, target.getId(), 20);
-
-        distractors = distractors.stream()
-                .filter(s -> s != null && !s.isBlank() && !s.equals(correctText))
-                .distinct()
-                .collect(Collectors.toList());
+    /**
+     * 문항 구성: 오답 보기는 시험지 전체를 한 번에 선택한다(문항별 SQL 없음).
+     * 보기 = 정답 1 + 오답 최대 3, 순서는 섞는다.
+     */
+    private List<QuizQuestion> buildQuestions(List<CatalogWord> picked, QuestionMode mode) {
+        List<List<CatalogWord>> distractors = distractorSelector.select(
+                wordCatalogService.current(), picked, mode, 3, ThreadLocalRandom.current());
+
+        List<QuizQuestion> questions = new ArrayList<>(picked.size());
+        for (int i = 0; i < picked.size(); i++) {
+            CatalogWord w = picked.get(i);
+
+            List<CatalogWord> optionWords = new ArrayList<>(4);
+            optionWords.add(w);
+            optionWords.addAll(distractors.get(i));
+            Collections.shuffle(optionWords);
+
+            List<String> options = optionWords.stream().map(o -> o.optionText(mode)).toList();
+            List<Long> optionIds = optionWords.stream().map(CatalogWord::id).toList();
+            questions.add(new QuizQuestion(w.id(), w.promptText(mode), options, optionIds, optionWords.indexOf(w)));
+        }
+        return questions;
+    }
 
-        Collections.shuffle(distractors);
-        options.addAll(distractors.subList(0, Math.min(3, distractors.size())));
-        Collections.shuffle(options);
-        return options;
+    private static List<QuizViewItem> toViewItems(List<QuizQuestion> questions) {
+        return questions.stream()
+                .map(q -> new QuizViewItem(q.prompt(), q.options()))
+                .toList();
     }
 
     /** ✅ 옵션별 간단 해설 (필요시 고도화 가능) */
@@ -274,59 +312,51 @@ public class QuizService {
         QuestionMode mode = (req.mode() == null) ? QuestionMode.JP_TO_KR : req.mode();
         int n = (req.questionCount() == null || req.questionCount() <= 0) ? 10 : req.questionCount();
 
-        List<Word> picked = isAll
-                ? wordRepository.findRandomOracle(n)
-                : wordRepository.findRandomByCategoryOracleFlex(category, n);
-
-        if (picked.size() < n) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "해당 카테고리에 문제가 부족합니다.");
-        }
-
-        List<QuizQuestion> questions = new ArrayList<>();
-        List<QuizViewItem> items = new ArrayList<>();
+        String label = isAll ? "전체" : category;
 
-        for (Word w : picked) {
-            String prompt, correctText;
-            if (mode == QuestionMode.JP_TO_KR) {
-                prompt = "'" + w.getJapaneseWord() + "'란 무슨 뜻입니까?";
-                correctText = w.getKoreanMeaning();
-            } else {
-                prompt = "'" + w.getKoreanMeaning() + "'에 해당하는 일본어는?";
-                correctText = w.getJapaneseWord();
-            }
-
-            List<String> options = buildOptions(w.getCategory(), w, mode, correctText);
-            int answerIndex = options.indexOf(correctText);
-
-            QuizQuestion q = new QuizQuestion(w.getId(), prompt, options, answerIndex);
-            questions.add(q);
-            items.add(new QuizViewItem(prompt, options));
-        }
+        // 미리 만들어 둔 시험지를 꺼내고(없으면 즉석 생성), 새 quizId로 캐시에 등록
+        QuizPaper pooled = quizPaperPool.take(QuizPaperPool.Key.of(isAll ? null : category, mode, n),
+                () -> newPaper(isAll ? null : category, label, mode, n));
 
         String quizUuid = UUID.randomUUID().toString();
-        QuizPaper paper = new QuizPaper(quizUuid, isAll ? "전체" : category, mode, questions);
+        QuizPaper paper = new QuizPaper(quizUuid, pooled.category(), pooled.mode(), pooled.questions());
 
-        quizCache.put(quizUuid, paper);
+        quizPaperStore.put(QuizPaperCodec.encode(paper, quizPaperStore.sharedAcrossNodes()));
 
         return new QuizView(
                 quizUuid,
-                isAll ? "전체" : category,
+                paper.category(),
                 mode,
-                items
+                toViewItems(paper.questions())
         );
     }
 
+    /** 시험지 1장 생성 (quizId 없음). 풀 리필 스레드에서도 호출된다. */
+    private QuizPaper newPaper(String category, String label, QuestionMode mode, int n) {
+        // 카탈로그 스냅샷에서 메모리 샘플링 (DBMS_RANDOM 전체 정렬 제거)
+        List<CatalogWord> picked = wordCatalogService.current()
+                .sample(category, n, ThreadLocalRandom.current());
+
+        if (picked.size() < n) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "해당 카테고리에 문제가 부족합니다.");
+        }
+        return new QuizPaper(null, label, mode, buildQuestions(picked, mode));
+    }
+
     /** -------------------- 캐시된 퀴즈 조회 -------------------- */
+    /** 저장소의 압축 시험지를 렌더링 (id만 있으면 현재 카탈로그로, 없거나 단어가 삭제됐으면 null) */
+    private QuizPaper findPaper(String uuid) {
+        CompactQuizPaper compact = quizPaperStore.get(uuid);
+        return (compact == null) ? null : QuizPaperCodec.decode(compact, wordCatalogService.current());
+    }
+
     @Transactional(readOnly = true)
     public QuizView getViewByUuid(String uuid) {
-        QuizPaper paper = quizCache.getIfPresent(uuid);
+        QuizPaper paper = findPaper(uuid);
         if (paper == null) {
             throw new ResponseStatusException(HttpStatus.GONE, "퀴즈가 만료되었습니다.");
         }
-        var items = paper.questions().stream()
-                .map(q -> new QuizViewItem(q.prompt(), q.options()))
-                .toList();
-        return new QuizView(uuid, paper.category(), paper.mode(), items);
+        return new QuizView(uuid, paper.category(), paper.mode(), toViewItems(paper.questions()));
     }
 
 }
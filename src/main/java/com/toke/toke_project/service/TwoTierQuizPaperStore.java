@@ -0,0 +1,87 @@
+package com.toke.toke_project.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.toke.toke_project.service.model.CompactQuizPaper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 로컬 near-cache + JDBC 저장소.
+ * - put: DB에 먼저 쓰고(다른 노드에서도 보이게) 로컬에 올린다
+ * - get: 로컬 miss면 DB에서 읽어 로컬에 올린다
+ * - 로컬 항목은 DB 행의 만료 시각에 같이 만료된다(노드마다 TTL이 늘어나지 않음)
+ * - remove 는 DB 와 이 노드의 near-cache 에서만 지운다. 다른 노드의 near-cache 에 올라간 사본은
+ *   만료 시각까지 남으므로, 지운 뒤 즉시 모든 노드에서 사라져야 하는 용도에는 jdbc 를 쓴다
+ */
+public class TwoTierQuizPaperStore implements QuizPaperStore, AutoCloseable {
+
+    private final JdbcQuizPaperStore db;
+    private final Cache<String, JdbcQuizPaperStore.Stored> near;
+    private final Duration ttl;
+    private final Clock clock;
+
+    public TwoTierQuizPaperStore(JdbcQuizPaperStore db, Duration ttl, long maxBytes, Clock clock) {
+        this.db = db;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.near = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String k, JdbcQuizPaperStore.Stored v) -> v.paper().estimatedBytes())
+                .expireAfter(new Expiry<String, JdbcQuizPaperStore.Stored>() {
+                    @Override
+                    public long expireAfterCreate(String key, JdbcQuizPaperStore.Stored value, long currentTime) {
+                        return Math.max(0, Duration.between(LocalDateTime.now(clock), value.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JdbcQuizPaperStore.Stored value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JdbcQuizPaperStore.Stored value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(() -> clock.millis() * 1_000_000L)
+                .build();
+    }
+
+    @Override
+    public boolean sharedAcrossNodes() {
+        return true;
+    }
+
+    @Override
+    public void put(CompactQuizPaper paper) {
+        LocalDateTime expiresAt = LocalDateTime.now(clock).plus(ttl);
+        db.put(paper, expiresAt);
+        near.put(paper.quizId(), new JdbcQuizPaperStore.Stored(paper, expiresAt));
+    }
+
+    @Override
+    public CompactQuizPaper get(String quizId) {
+        JdbcQuizPaperStore.Stored s = near.getIfPresent(quizId);
+        if (s == null) {
+            s = db.find(quizId);
+            if (s == null) return null;
+            near.put(quizId, s);
+        }
+        return s.paper();
+    }
+
+    @Override
+    public void remove(String quizId) {
+        db.remove(quizId);
+        near.invalidate(quizId);
+    }
+
+    @Override
+    public void close() {
+        db.close();
+    }
+}
@@ -0,0 +1,134 @@
+package com.toke.toke_project.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.toke.toke_project.repo.WordRepository;
+import com.toke.toke_project.service.model.CatalogWord;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * word id → 단어(읽기 전용 사본) read-through 캐시.
+ * - 없는 id 는 DB 에서 읽어 채운다 (묶음 조회는 빠진 id 만 findAllById 1회)
+ * - 관리자 등록/수정/삭제는 커밋 이후 해당 id 만 무효화한다 (AdminWordService)
+ * - 값은 CatalogWord 이므로 호출자가 바꿀 수 없고, 영속성 컨텍스트와도 무관하다
+ * - 다른 노드에서 바뀐 단어는 WordCatalogService 가 변경을 알아챌 때(refresh-interval) 통째로 비운다
+ * - 관리 화면을 거치지 않은 수정(직접 SQL 등)은 ttl 이 지나면 반영된다
+ * - 읽는 도중 무효화가 끼어들면 무효화가 이긴다 (읽은 값은 돌려주되 캐시에 남기지 않는다)
+ *
+ * WordCatalog 스냅샷이 아닌 별도 캐시를 두는 이유: 카탈로그는 퀴즈 출제/검색처럼 조금 지난 값이어도
+ * 되는 읽기용이고, 스냅샷 전체를 다시 읽어야 바뀐다. 여기서 읽은 값은 단어장 사본/채점처럼 DB 에 다시
+ * 쓰이므로, 건별로 무효화되고 직접 SQL 변경도 ttl 안에 반영되는 DB read-through 로 읽는다.
+ *
+ * 메트릭: word.cache.requests(counter, result=hit|miss), word.cache.size(gauge)
+ */
+@Component
+public class WordCache {
+
+    private final WordRepository wordRepository;
+    private final Cache<Long, CatalogWord> cache;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    /** invalidate 호출 횟수 — 묶음 조회 중에 바뀌었으면 읽은 값을 캐시에서 뺀다 */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public WordCache(WordRepository wordRepository,
+                     MeterRegistry registry,
+                     @Value("${toke.word-cache.max-size:20000}") long maxSize,
+                     @Value("${toke.word-cache.ttl:1h}") Duration ttl) {
+        this.wordRepository = wordRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        this.hits = Counter.builder("word.cache.requests").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("word.cache.requests").tag("result", "miss").register(registry);
+        Gauge.builder("word.cache.size", cache, Cache::estimatedSize).register(registry);
+    }
+
+    /** 단어 1건 (없으면 empty) */
+    public Optional<CatalogWord> get(Long id) {
+        if (id == null) return Optional.empty();
+        CatalogWord w = cache.getIfPresent(id);
+        if (w != null) {
+            hits.increment();
+            return Optional.of(w);
+        }
+        misses.increment();
+        // 없는 id 는 캐시에 남기지 않는다 (곧 등록될 수 있으므로)
+        return Optional.ofNullable(cache.get(id, k -> wordRepository.findById(k).map(CatalogWord::of).orElse(null)));
+    }
+
+    /** 여러 건 — 캐시에 없는 id 만 한 번에 조회한다. 없는 id 는 결과에서 빠진다. */
+    public Map<Long, CatalogWord> getAll(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return Collections.emptyMap();
+        Set<Long> keys = new LinkedHashSet<>(ids);
+        keys.remove(null);
+        Map<Long, CatalogWord> out = new HashMap<>(cache.getAllPresent(keys));
+        hits.increment(out.size());
+        if (out.size() == keys.size()) return out;
+
+        keys.removeAll(out.keySet());
+        misses.increment(keys.size());
+        long seen = invalidations.get();
+        Map<Long, CatalogWord> loaded = cache.getAll(keys, this::loadAll);
+        // 조회 중 커밋된 수정의 무효화가 먼저 지나갔을 수 있으므로, 그사이 무효화가 있었으면 방금 넣은 값을 뺀다
+        if (invalidations.get() != seen) cache.invalidateAll(loaded.keySet());
+        out.putAll(loaded);
+        return out;
+    }
+
+    private Map<Long, CatalogWord> loadAll(Set<? extends Long> ids) {
+        Map<Long, CatalogWord> loaded = new HashMap<>(ids.size() * 2);
+        wordRepository.findAllById(new LinkedHashSet<Long>(ids)).forEach(entity -> {
+            CatalogWord w = CatalogWord.of(entity);
+            loaded.put(w.id(), w);
+        });
+        return loaded;
+    }
+
+    /** 단어 변경 반영 (트랜잭션 안이면 커밋 후, 롤백되면 그대로 둔다) */
+    public void invalidate(Long id) {
+        if (id == null) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(id);
+                }
+            });
+        } else {
+            evict(id);
+        }
+    }
+
+    /** 횟수를 먼저 올린다 — 진행 중인 getAll 이 자기가 넣은 값을 지울 수 있도록 */
+    private void evict(Long id) {
+        invalidations.incrementAndGet();
+        cache.invalidate(id);
+    }
+
+    /** 전부 비운다 (다른 노드의 변경처럼 바뀐 id 를 모를 때) */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,227 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.domain.Word;
+import com.toke.toke_project.repo.WordRepository;
+import com.toke.toke_project.service.model.CatalogWord;
+import com.toke.toke_project.service.model.WordCatalog;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * 단어 카탈로그 스냅샷 보관/교체 담당.
+ * - 최초 접근(또는 앱 기동 완료) 시 word 테이블을 한 번 읽어 스냅샷 생성
+ * - 관리자 단어 등록/수정/삭제는 커밋 이후 새 스냅샷으로 원자적으로 교체
+ * - 검색 역색인 이후 바뀐 단어가 reindex-threshold 를 넘으면 백그라운드에서 역색인을 다시 만든다
+ * - 단어를 바꾸는 쪽은 같은 트랜잭션에서 word_catalog_version 을 올리고(markChanged),
+ *   각 노드는 refresh-interval 마다 그 값만 읽어 바뀌었으면 통째로 다시 읽고 WordCache 도 비운다.
+ *   다른 노드의 변경은 이 주기 안에 반영된다 (이 노드의 변경도 한 번 더 다시 읽게 되지만 주기당 최대 1회)
+ * 퀴즈 출제 같은 읽기 경로는 current()만 호출하고 DB에 가지 않는다.
+ */
+@Service
+public class WordCatalogService {
+
+    private static final Logger log = LoggerFactory.getLogger(WordCatalogService.class);
+
+    private static final String VERSION_SQL = "SELECT version FROM word_catalog_version WHERE id = 1";
+    private static final String BUMP_SQL = "UPDATE word_catalog_version SET version = version + 1 WHERE id = 1";
+
+    private final WordRepository wordRepository;
+    private final JdbcTemplate jdbc;
+    private final WordCache wordCache;
+    private final int reindexThreshold;
+    private final Duration refreshInterval;
+    private final AtomicReference<WordCatalog> ref = new AtomicReference<>();
+    private final AtomicBoolean reindexing = new AtomicBoolean();
+    private final ScheduledExecutorService worker;
+
+    /** 마지막 reload 직전에 읽은 word_catalog_version (못 읽었으면 null) */
+    private volatile Long loadedVersion;
+
+    /** @param refreshInterval 0 이하이면 다른 노드의 변경을 확인하지 않는다 */
+    public WordCatalogService(WordRepository wordRepository,
+                              JdbcTemplate jdbc,
+                              WordCache wordCache,
+                              @Value("${toke.search.reindex-threshold:512}") int reindexThreshold,
+                              @Value("${toke.word-catalog.refresh-interval:1m}") Duration refreshInterval) {
+        this.wordRepository = wordRepository;
+        this.jdbc = jdbc;
+        this.wordCache = wordCache;
+        this.reindexThreshold = reindexThreshold;
+        this.refreshInterval = refreshInterval;
+        this.worker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "word-catalog");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        current();
+        if (refreshInterval.isNegative() || refreshInterval.isZero()) return;
+        long ms = refreshInterval.toMillis();
+        try {
+            worker.scheduleWithFixedDelay(this::refreshQuietly, ms, ms, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    /** 현재 스냅샷 (없으면 로딩) */
+    public WordCatalog current() {
+        WordCatalog c = ref.get();
+        return (c != null) ? c : loadIfAbsent();
+    }
+
+    private synchronized WordCatalog loadIfAbsent() {
+        WordCatalog c = ref.get();
+        return (c != null) ? c : reload();
+    }
+
+    /** DB 전체를 다시 읽어 스냅샷 교체 */
+    public synchronized WordCatalog reload() {
+        // 먼저 읽는다 — 읽는 도중 바뀌면 다음 확인에서 한 번 더 읽힌다
+        Long version = readVersion();
+        List<CatalogWord> words = wordRepository.findAll().stream()
+                .map(CatalogWord::of)
+                .toList();
+        WordCatalog prev = ref.get();
+        WordCatalog next = WordCatalog.of(prev == null ? 1L : prev.version() + 1, words);
+        ref.set(next);
+        loadedVersion = version;
+        WordCatalog.SearchIndex idx = next.searchIndex();
+        log.info("[WordCatalog] v{} 로딩: {}건 (검색 색인어 {}개 약 {}KB, 자동완성 {}건 약 {}KB)",
+                next.version(), next.size(),
+                idx.ngrams().termCount(), idx.ngrams().estimatedBytes() / 1024,
+                idx.prefixes().entryCount(), idx.prefixes().estimatedBytes() / 1024);
+        return next;
+    }
+
+    /**
+     * 다른 노드에 단어 변경을 알린다: word_catalog_version 을 1 올린다 (호출자의 트랜잭션에 참여).
+     * 여러 건을 바꾸는 경로(CSV 가져오기)는 끝에 한 번 부른다.
+     */
+    public void markChanged() {
+        try {
+            jdbc.update(BUMP_SQL);
+        } catch (DataAccessException e) {
+            // 스크립트 적용 전: 편집은 막지 않고, 다른 노드에는 재기동 후 반영된다
+            log.warn("[WordCatalog] word_catalog_version 갱신 실패 (devtools/sql/word_catalog_version.sql): {}", e.getMessage());
+        }
+    }
+
+    /** 다른 노드(또는 직접 SQL)의 변경 확인: 버전이 바뀌었으면 다시 읽고 WordCache 를 비운다 */
+    public boolean refreshIfChanged() {
+        Long version = readVersion();
+        if (version == null || version.equals(loadedVersion)) return false;
+        reload();
+        wordCache.invalidateAll();
+        return true;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refreshIfChanged();
+        } catch (RuntimeException e) {
+            log.warn("[WordCatalog] 변경 확인 실패, 현재 스냅샷을 계속 사용: {}", e.getMessage());
+        }
+    }
+
+    /** word_catalog_version 이 없으면(스크립트 적용 전) null — 이 노드의 변경만 반영된다 */
+    private Long readVersion() {
+        try {
+            return jdbc.queryForObject(VERSION_SQL, Long.class);
+        } catch (DataAccessException e) {
+            log.debug("[WordCatalog] word_catalog_version 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /** 단어 등록/수정 반영 (트랜잭션 안이면 커밋 후) */
+    public void onWordSaved(Word w) {
+        markChanged();
+        // 그룹 컬럼은 flush(@PreUpdate) 때 채워지므로 커밋 이후에 복사한다
+        afterCommit(c -> c.withUpsert(CatalogWord.of(w)));
+    }
+
+    /** 단어 삭제 반영 (트랜잭션 안이면 커밋 후) */
+    public void onWordDeleted(Long wordId) {
+        markChanged();
+        afterCommit(c -> c.withRemoval(wordId));
+    }
+
+    private void afterCommit(UnaryOperator<WordCatalog> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private synchronized void apply(UnaryOperator<WordCatalog> change) {
+        WordCatalog c = ref.get();
+        if (c == null) return; // 아직 로딩 전이면 다음 current()에서 최신 상태로 읽힌다
+        WordCatalog next = change.apply(c);
+        ref.set(next);
+        if (next.dirtyCount() > reindexThreshold) scheduleReindex();
+    }
+
+    private void scheduleReindex() {
+        if (!reindexing.compareAndSet(false, true)) return;
+        try {
+            worker.execute(this::reindex);
+        } catch (RejectedExecutionException e) {
+            reindexing.set(false); // 종료 중
+        }
+    }
+
+    /** 현재 스냅샷으로 역색인을 새로 만들고, 그동안 바뀐 단어만 dirty 로 남겨 교체 */
+    private void reindex() {
+        try {
+            WordCatalog base = ref.get();
+            WordCatalog.SearchIndex index = base.buildSearchIndex();
+            synchronized (this) {
+                WordCatalog c = ref.get();
+                // 그사이 reload() 로 색인이 통째로 바뀌었으면 버린다
+                if (c.searchIndex() != base.searchIndex()) return;
+                ref.set(c.withSearchIndex(index, base.version()));
+            }
+            log.info("[WordCatalog] v{} 검색 색인 재작성: 약 {}KB", base.version(), index.estimatedBytes() / 1024);
+        } catch (RuntimeException e) {
+            log.warn("[WordCatalog] 검색 색인 재작성 실패: {}", e.getMessage());
+        } finally {
+            reindexing.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+}
@@ -0,0 +1,233 @@
+package com.toke.toke_project.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Locale;
+
+/**
+ * 단어 / 단어장 항목 내보내기 (CSV, JSON Lines).
+ * 엔티티를 거치지 않고 forward-only JDBC 커서에서 읽은 행을 바로 출력 스트림에 쓴다.
+ * 메모리에는 fetch-size 만큼의 행과 출력 버퍼만 있으므로 행 수와 무관하게 일정하다.
+ *
+ * 단어장 항목은 화면(lists/detail)과 같이 공식 단어 값이 있으면 그것을, 없으면 커스텀 값을 쓴다.
+ */
+@Service
+public class WordExportService {
+
+    public enum Format {
+        CSV("text/csv;charset=UTF-8", "csv"),
+        JSONL("application/x-ndjson;charset=UTF-8", "jsonl");
+
+        public final String contentType;
+        public final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static Format of(String s) {
+            try {
+                return valueOf(s.trim().toUpperCase(Locale.ROOT));
+            } catch (RuntimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 형식입니다 (csv | jsonl).");
+            }
+        }
+    }
+
+    private static final String WORDS_SQL = """
+            SELECT word_id, japanese_word, reading_kana, korean_meaning, category, example_sentence_jp, created_at
+              FROM word
+             ORDER BY word_id
+            """;
+    private static final String[] WORD_COLUMNS = {
+            "word_id", "japanese_word", "reading_kana", "korean_meaning", "category", "example_sentence_jp", "created_at"
+    };
+
+    private static final String LIST_ITEMS_SQL = """
+            SELECT i.list_item_id, i.word_id,
+                   CASE WHEN i.word_id IS NULL THEN 'custom' ELSE 'official' END AS source,
+                   COALESCE(w.japanese_word, i.custom_japanese_word) AS japanese_word,
+                   COALESCE(w.reading_kana, i.custom_reading_kana) AS reading_kana,
+                   COALESCE(w.korean_meaning, i.custom_korean_meaning) AS korean_meaning,
+                   COALESCE(w.example_sentence_jp, i.custom_example_sentence_jp) AS example_sentence_jp,
+                   i.created_at
+              FROM word_list_item i
+              LEFT JOIN word w ON w.word_id = i.word_id
+             WHERE i.list_id = ?
+             ORDER BY i.list_item_id
+            """;
+    private static final String[] LIST_ITEM_COLUMNS = {
+            "list_item_id", "word_id", "source", "japanese_word", "reading_kana", "korean_meaning",
+            "example_sentence_jp", "created_at"
+    };
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final JdbcTemplate jdbc;
+    private final int fetchSize;
+
+    public WordExportService(JdbcTemplate jdbc,
+                             @Value("${toke.export.fetch-size:1000}") int fetchSize) {
+        this.jdbc = jdbc;
+        this.fetchSize = Math.max(1, fetchSize);
+    }
+
+    /** 공식 단어 전체 */
+    public void writeWords(Format format, OutputStream out) throws IOException {
+        stream(WORDS_SQL, null, WORD_COLUMNS, format, out);
+    }
+
+    /** 단어장 1개의 항목 (커스텀/공식 값 해석 포함) */
+    public void writeListItems(Long listId, Format format, OutputStream out) throws IOException {
+        stream(LIST_ITEMS_SQL, listId, LIST_ITEM_COLUMNS, format, out);
+    }
+
+    private void stream(String sql, Long param, String[] columns, Format format, OutputStream out) throws IOException {
+        RowSink sink = (format == Format.CSV) ? new CsvSink(out, columns) : new JsonLinesSink(out, columns);
+        int[][] types = new int[1][]; // 첫 행에서 ResultSetMetaData 로 한 번 읽는다
+        try {
+            jdbc.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                if (param != null) ps.setLong(1, param);
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    if (types[0] == null) types[0] = sqlTypes(rs, columns.length);
+                    sink.row(rs, types[0]);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e); // 클라이언트가 끊으면 여기서 커서를 닫고 멈춘다
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        sink.finish();
+    }
+
+    private static int[] sqlTypes(ResultSet rs, int width) throws SQLException {
+        ResultSetMetaData md = rs.getMetaData();
+        int[] types = new int[width];
+        for (int i = 0; i < width; i++) types[i] = md.getColumnType(i + 1);
+        return types;
+    }
+
+    /**
+     * 숫자 컬럼(id)은 Long, 시각은 ISO-8601 문자열, 나머지는 문자열.
+     * 시각 컬럼은 getTimestamp 로 읽는다 — Oracle 드라이버의 getObject 는 java.sql.Timestamp 가 아니라
+     * oracle.sql.TIMESTAMP 를 돌려준다 (J2EE13Compliant 미설정 시).
+     */
+    private static Object value(ResultSet rs, int index, int sqlType) throws SQLException {
+        if (sqlType == Types.TIMESTAMP || sqlType == Types.DATE) {
+            Timestamp t = rs.getTimestamp(index);
+            return (t == null) ? null : t.toLocalDateTime().toString();
+        }
+        Object o = rs.getObject(index);
+        if (o == null) return null;
+        if (o instanceof Number n) return n.longValue();
+        return o.toString();
+    }
+
+    private interface RowSink {
+        void row(ResultSet rs, int[] types) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    /** RFC 4180 CSV (UTF-8 BOM + 헤더 줄, 줄바꿈 CRLF) */
+    private static final class CsvSink implements RowSink {
+        private final Writer w;
+        private final int width;
+
+        CsvSink(OutputStream out, String[] columns) throws IOException {
+            this.w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+            this.width = columns.length;
+            w.write('\uFEFF'); // 엑셀에서 한글/일본어가 깨지지 않게
+            w.write(String.join(",", columns));
+            w.write("\r\n");
+        }
+
+        @Override
+        public void row(ResultSet rs, int[] types) throws SQLException, IOException {
+            for (int i = 1; i <= width; i++) {
+                if (i > 1) w.write(',');
+                Object v = value(rs, i, types[i - 1]);
+                if (v != null) writeCell(v.toString());
+            }
+            w.write("\r\n");
+        }
+
+        private void writeCell(String s) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < s.length() && !quote; i++) {
+                char c = s.charAt(i);
+                quote = (c == ',' || c == '"' || c == '\n' || c == '\r');
+            }
+            if (!quote) {
+                w.write(s);
+                return;
+            }
+            w.write('"');
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c == '"') w.write('"');
+                w.write(c);
+            }
+            w.write('"');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            w.flush();
+        }
+    }
+
+    /** 한 줄에 JSON 객체 하나 (키는 컬럼 이름) */
+    private static final class JsonLinesSink implements RowSink {
+        private final JsonGenerator g;
+        private final String[] columns;
+
+        JsonLinesSink(OutputStream out, String[] columns) throws IOException {
+            this.g = JSON.createGenerator(out);
+            this.g.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.g.setRootValueSeparator(null); // 기본값은 공백 — 두 번째 줄부터 " {" 로 시작하게 된다
+            this.columns = columns;
+        }
+
+        @Override
+        public void row(ResultSet rs, int[] types) throws SQLException, IOException {
+            g.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                Object v = value(rs, i + 1, types[i]);
+                g.writeFieldName(columns[i]);
+                if (v == null) g.writeNull();
+                else if (v instanceof Long l) g.writeNumber(l);
+                else g.writeString(v.toString());
+            }
+            g.writeEndObject();
+            g.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            g.close(); // 버퍼를 비운다 (대상 스트림은 닫지 않음)
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.domain.Word;
+import com.toke.toke_project.service.model.CatalogWord;
+import com.toke.toke_project.service.model.WordCatalog;
+import com.toke.toke_project.util.HangulUtil;
+import com.toke.toke_project.util.KanaUtil;
+import com.toke.toke_project.web.dto.WordImportResult;
+import com.toke.toke_project.web.dto.WordImportResult.RowError;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 관리자 단어 일괄 가져오기 (CSV 또는 TSV, UTF-8).
+ * 열 순서: 일본어, 읽기(가나), 한국어 뜻[, 카테고리[, 일본어 예문]] — 첫 줄이 "japanese_word" 등으로 시작하면 헤더로 보고 건너뛴다.
+ *
+ * - 업로드는 한 줄씩 읽고, 메모리에는 batch-size 건만 모아 둔다
+ * - 검증은 WordForm 과 같은 기준(필수/길이), 실패한 행은 줄 번호와 함께 돌려준다
+ * - 기존 단어(카탈로그) + 앞서 읽은 행과 (일본어, 한국어 뜻)이 같으면 중복으로 건너뛴다 (HashSet 조회)
+ * - 저장은 JDBC 배치 INSERT, id 는 INSERT 안의 seq_word_id.NEXTVAL 로 DB 가 채운다 (행마다 시퀀스 왕복 없음)
+ * - 배치마다 커밋한다. 저장 중 DB 오류가 나면 거기서 멈추고 그때까지의 결과를 돌려준다
+ */
+@Service
+public class WordImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(WordImportService.class);
+
+    /** 응답에 담는 오류 행 최대 수 */
+    static final int MAX_ERRORS = 100;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO word (word_id, japanese_word, reading_kana, korean_meaning, category, example_sentence_jp,
+                              created_by, created_at, ko_group, ko_vowel_index, ja_group, ja_vowel_index,
+                              ko_choseong, index_version)
+            VALUES (seq_word_id.NEXTVAL, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final int[] INSERT_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.BIGINT, Types.TIMESTAMP, Types.VARCHAR, Types.INTEGER, Types.VARCHAR, Types.INTEGER,
+            Types.VARCHAR, Types.INTEGER
+    };
+
+    /** 검증을 통과한 행 */
+    private record Row(long line, String japaneseWord, String readingKana, String koreanMeaning,
+                       String category, String exampleSentenceJp) {}
+
+    private final JdbcTemplate jdbc;
+    private final WordCatalogService wordCatalogService;
+    private final int batchSize;
+
+    public WordImportService(JdbcTemplate jdbc,
+                             WordCatalogService wordCatalogService,
+                             @Value("${toke.word-import.batch-size:1000}") int batchSize) {
+        this.jdbc = jdbc;
+        this.wordCatalogService = wordCatalogService;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public WordImportResult importWords(InputStream in, Long adminUserId) throws IOException {
+        long started = System.nanoTime();
+        Set<String> seen = existingPairs();
+        List<Row> pending = new ArrayList<>(batchSize);
+        List<RowError> errors = new ArrayList<>();
+        long total = 0, inserted = 0, duplicates = 0, errorCount = 0;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<String> cells = new ArrayList<>(5);
+        Character delimiter = null;
+        long lineNo = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (lineNo == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') line = line.substring(1); // BOM
+            if (line.isBlank()) continue;
+            if (delimiter == null) {
+                delimiter = (line.indexOf('\t') >= 0) ? '\t' : ',';
+                if (isHeader(line)) continue;
+            }
+            total++;
+
+            String error = split(line, delimiter, cells) ? validate(cells) : "따옴표가 닫히지 않았습니다.";
+            if (error != null) {
+                errorCount++;
+                if (errors.size() < MAX_ERRORS) errors.add(new RowError(lineNo, error));
+                continue;
+            }
+            Row row = new Row(lineNo, cells.get(0), cell(cells, 1), cells.get(2), cell(cells, 3), cell(cells, 4));
+            if (!seen.add(pairKey(row.japaneseWord(), row.koreanMeaning()))) {
+                duplicates++;
+                continue;
+            }
+            pending.add(row);
+            if (pending.size() >= batchSize) {
+                int saved = flush(pending, adminUserId, errors);
+                if (saved < 0) {
+                    errorCount++;
+                    break;
+                }
+                inserted += saved;
+            }
+        }
+        if (!pending.isEmpty()) {
+            int saved = flush(pending, adminUserId, errors);
+            if (saved < 0) errorCount++;
+            else inserted += saved;
+        }
+
+        if (inserted > 0) {
+            wordCatalogService.markChanged();
+            wordCatalogService.reload();
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        double perSecond = (elapsedNanos == 0) ? 0 : total * 1_000_000_000.0 / elapsedNanos;
+        log.info("[WordImport] {}행: 등록 {}, 중복 {}, 오류 {} ({}ms, {}행/초)",
+                total, inserted, duplicates, errorCount, elapsedNanos / 1_000_000, Math.round(perSecond));
+        return new WordImportResult(total, inserted, duplicates, errorCount, errors,
+                elapsedNanos / 1_000_000, perSecond);
+    }
+
+    /** 기존 단어의 (일본어, 한국어 뜻) 키 — 카탈로그에서 만든다 (DB 조회 없음) */
+    private Set<String> existingPairs() {
+        WordCatalog catalog = wordCatalogService.current();
+        long[] ids = catalog.idsOf(null);
+        Set<String> keys = new HashSet<>(Math.max(16, ids.length * 2));
+        for (long id : ids) {
+            CatalogWord w = catalog.get(id);
+            if (w != null) keys.add(pairKey(trimToNull(w.japaneseWord()), trimToNull(w.koreanMeaning())));
+        }
+        return keys;
+    }
+
+    private static String pairKey(String japaneseWord, String koreanMeaning) {
+        return japaneseWord + '\u0000' + koreanMeaning;
+    }
+
+    /**
+     * 쌓인 행을 배치 INSERT 하고 비운다. 저장한 행 수를 돌려주고, DB 오류면 오류를 남기고 -1.
+     * 그룹/모음/초성 컬럼은 엔티티(Word.fillIndexes)와 같은 값을 한 번에 계산한다.
+     */
+    private int flush(List<Row> rows, Long adminUserId, List<RowError> errors) {
+        int n = rows.size();
+        List<String> meanings = new ArrayList<>(n);
+        List<String> kanas = new ArrayList<>(n);
+        for (Row r : rows) {
+            meanings.add(r.koreanMeaning());
+            kanas.add(r.readingKana());
+        }
+        String[] koGroups = new String[n], jaGroups = new String[n];
+        int[] koVowels = new int[n], jaVowels = new int[n];
+        HangulUtil.classifyAll(meanings, koGroups, koVowels);
+        KanaUtil.classifyAll(kanas, jaGroups, jaVowels);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Row r = rows.get(i);
+            args.add(new Object[] {
+                    r.japaneseWord(), r.readingKana(), r.koreanMeaning(), r.category(), r.exampleSentenceJp(),
+                    adminUserId, now, koGroups[i], koVowels[i], jaGroups[i], jaVowels[i],
+                    HangulUtil.choseongOf(r.koreanMeaning()), Word.INDEX_VERSION
+            });
+        }
+        try {
+            jdbc.batchUpdate(INSERT_SQL, args, INSERT_TYPES);
+            return n;
+        } catch (DataAccessException e) {
+            log.warn("[WordImport] 저장 실패 ({}~{}행): {}", rows.get(0).line(), rows.get(n - 1).line(), e.getMessage());
+            errors.add(new RowError(rows.get(0).line(),
+                    "저장 실패(" + rows.get(0).line() + "~" + rows.get(n - 1).line() + "행), 이후 행은 처리하지 않았습니다."));
+            return -1;
+        } finally {
+            rows.clear();
+        }
+    }
+
+    private static boolean isHeader(String line) {
+        String first = line.trim().toLowerCase(Locale.ROOT);
+        return first.startsWith("japanese") || first.startsWith("\"japanese") || first.startsWith("일본어");
+    }
+
+    /** WordForm 과 같은 검증. 통과하면 null */
+    private static String validate(List<String> cells) {
+        if (cells.size() < 3 || cells.size() > 5) return "열 수가 맞지 않습니다 (3~5개, 현재 " + cells.size() + "개).";
+        if (cells.get(0).isEmpty()) return "일본어는 필수입니다.";
+        if (cells.get(2).isEmpty()) return "한국어 뜻은 필수입니다.";
+        if (cells.get(0).length() > 300) return "일본어는 300자 이하여야 합니다.";
+        if (cells.get(1).length() > 300) return "읽기는 300자 이하여야 합니다.";
+        if (cells.get(2).length() > 300) return "한국어 뜻은 300자 이하여야 합니다.";
+        if (cells.size() > 3 && cells.get(3).length() > 200) return "카테고리는 200자 이하여야 합니다.";
+        if (cells.size() > 4 && cells.get(4).length() > 1000) return "예문은 1000자 이하여야 합니다.";
+        return null;
+    }
+
+    private static String cell(List<String> cells, int i) {
+        return (i < cells.size() && !cells.get(i).isEmpty()) ? cells.get(i) : null;
+    }
+
+    private static String trimToNull(String s) {
+        if (s == null) return null;
+        String t = s.trim();
+        return t.isEmpty() ? null : t;
+    }
+
+    /**
+     * 한 줄을 칸으로 나눠 out 에 담는다 (각 칸은 trim).
+     * CSV 는 큰따옴표로 감싼 칸과 "" 이스케이프를 지원하고, TSV 는 탭으로만 나눈다.
+     * 따옴표가 닫히지 않으면 false (칸 안 줄바꿈은 지원하지 않는다).
+     */
+    static boolean split(String line, char delimiter, List<String> out) {
+        out.clear();
+        if (delimiter == '\t') {
+            int start = 0;
+            for (int i = 0; i <= line.length(); i++) {
+                if (i == line.length() || line.charAt(i) == '\t') {
+                    out.add(line.substring(start, i).trim());
+                    start = i + 1;
+                }
+            }
+            return true;
+        }
+        StringBuilder sb = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    sb.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    sb.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                out.add(sb.toString().trim());
+                sb.setLength(0);
+            } else {
+                sb.append(c);
+            }
+        }
+        out.add(sb.toString().trim());
+        return !quoted;
+    }
+}
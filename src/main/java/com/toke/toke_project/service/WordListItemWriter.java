@@ -0,0 +1,109 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.service.model.CatalogWord;
+import com.toke.toke_project.web.dto.AddWordsResult;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 공식 단어 여러 개를 단어장에 커스텀 사본으로 추가 (단어 수와 관계없이 문장 2회).
+ * 1) 단어장의 기존 항목 (공식 word_id + 일본어) 조회 1회
+ * 2) 요청 순서대로 중복/없는 단어를 거르고
+ * 3) 남은 단어를 word_list_item 배치 INSERT 1회
+ *
+ * 중복 기준은 추가 전 확인(/lists/addWords/check)과 같다:
+ * 같은 공식 단어가 이미 연결되어 있거나, 같은 일본어(trim + 소문자) 항목이 이미 있으면 중복.
+ */
+@Component
+public class WordListItemWriter {
+
+    private static final String EXISTING_SQL = """
+            SELECT i.word_id, COALESCE(i.custom_japanese_word, w.japanese_word) jp
+              FROM word_list_item i
+              LEFT JOIN word w ON w.word_id = i.word_id
+             WHERE i.list_id = ?
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO word_list_item (list_item_id, list_id, custom_japanese_word, custom_reading_kana,
+                                        custom_korean_meaning, custom_example_sentence_jp)
+            VALUES (seq_list_item_id.NEXTVAL, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbc;
+
+    public WordListItemWriter(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** 요청 단어 분류 결과 (추가할 단어는 요청 순서대로) */
+    private record Plan(List<CatalogWord> toAdd, List<Long> duplicates, List<Long> missing) {}
+
+    /**
+     * words(WordCache.getAll 결과)의 내용을 커스텀 필드로 복사해 넣는다.
+     * 권한 확인은 호출하는 쪽(WordListService)이 한 번 한다.
+     */
+    public AddWordsResult addCopies(Long listId, List<Long> wordIds, Map<Long, CatalogWord> words) {
+        Plan plan = plan(listId, wordIds, words);
+        if (!plan.toAdd().isEmpty()) {
+            jdbc.batchUpdate(INSERT_SQL, plan.toAdd(), plan.toAdd().size(), (ps, w) -> {
+                ps.setLong(1, listId);
+                ps.setString(2, w.japaneseWord());
+                ps.setString(3, w.readingKana());
+                ps.setString(4, w.koreanMeaning());
+                ps.setString(5, w.exampleSentenceJp());
+            });
+        }
+        return new AddWordsResult(plan.toAdd().stream().map(CatalogWord::id).toList(),
+                plan.duplicates(), plan.missing());
+    }
+
+    /** 추가하면 중복으로 건너뛸 단어 id (조회 1회, 쓰기 없음) */
+    public Set<Long> findDuplicates(Long listId, List<Long> wordIds, Map<Long, CatalogWord> words) {
+        return new LinkedHashSet<>(plan(listId, wordIds, words).duplicates());
+    }
+
+    private Plan plan(Long listId, List<Long> wordIds, Map<Long, CatalogWord> words) {
+        Set<Long> officialIds = new HashSet<>();
+        Set<String> jps = new HashSet<>();
+        if (wordIds != null && !wordIds.isEmpty()) {
+            jdbc.query(EXISTING_SQL, (RowCallbackHandler) rs -> {
+                long wordId = rs.getLong("word_id");
+                if (!rs.wasNull()) officialIds.add(wordId);
+                String jp = jpKey(rs.getString("jp"));
+                if (jp != null) jps.add(jp);
+            }, listId);
+        }
+
+        List<CatalogWord> toAdd = new ArrayList<>();
+        List<Long> duplicates = new ArrayList<>();
+        List<Long> missing = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (Long id : (wordIds == null) ? List.<Long>of() : wordIds) {
+            if (id == null) continue;
+            CatalogWord w = words.get(id);
+            if (w == null) {
+                missing.add(id);
+                continue;
+            }
+            String jp = jpKey(w.japaneseWord());
+            // 요청 안에서 같은 id 나 같은 일본어가 다시 나와도 중복 (seen / jps 에 바로 넣는다)
+            if (!seen.add(id) || officialIds.contains(id) || (jp != null && !jps.add(jp))) {
+                duplicates.add(id);
+            } else {
+                toAdd.add(w);
+            }
+        }
+        return new Plan(toAdd, duplicates, missing);
+    }
+
+    private static String jpKey(String jp) {
+        if (jp == null) return null;
+        String key = jp.trim().toLowerCase();
+        return key.isEmpty() ? null : key;
+    }
+}
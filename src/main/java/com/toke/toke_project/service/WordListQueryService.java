@@ -0,0 +1,277 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.service.model.TagFilter;
+import com.toke.toke_project.util.CursorCodec;
+import com.toke.toke_project.web.dto.CursorPage;
+import com.toke.toke_project.web.dto.WordListCardView;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * 단어장 카드 목록 조회 (모두의 단어장·검색 / 내 단어장 / 단어장 선택 모달).
+ * WordList 엔티티는 owner, tags 가 EAGER 라 목록마다 사용자 행과 단어장별 태그 조회가 따라온다.
+ * 카드에는 제목/설명/닉네임/태그 이름만 필요하므로 users 조인 + 태그 LISTAGG 로 쿼리 1회에 채운다.
+ *
+ * 검색 조건(제목, 닉네임, 태그 OR)은 기존과 같이 OR 로 묶고, 조건이 하나도 없으면 전체를 돌려준다.
+ * 태그 AND / NOT 조건은 그 결과에 더 건다 (TagFilter). 태그만으로 고르는 조회는 WordListTagIndex 비트맵을 쓴다.
+ * 모두의 단어장/검색(scrollShared)은 공개 단어장만, 정렬 + 키셋 커서로 한 페이지씩 읽는다.
+ */
+@Service
+public class WordListQueryService {
+
+    /** LISTAGG 구분자 (태그 이름에는 들어오지 않는 제어 문자) */
+    private static final char TAG_SEPARATOR = '\u001F';
+
+    /** 모두의 단어장 한 페이지 최대 카드 수 */
+    static final int MAX_PAGE_SIZE = 60;
+
+    /** 카드 행 (태그 제외) — 조건/정렬/행 수 제한은 여기서 끝낸다 */
+    private static final String CARDS_SQL = """
+            SELECT wl.list_id, wl.list_name, wl.description, wl.user_id, u.nickname, wl.is_shared, wl.created_at
+              FROM word_list wl
+              JOIN users u ON u.user_id = wl.user_id
+            """;
+
+    /** 고른 카드에만 태그를 붙인다 (LISTAGG, 페이지 밖의 단어장은 태그를 읽지 않음) */
+    private static final String WITH_TAGS_SQL = """
+            SELECT p.list_id, p.list_name, p.description, p.user_id, p.nickname, p.is_shared, p.created_at,
+                   LISTAGG(h.tag_name, CHR(31)) WITHIN GROUP (ORDER BY h.tag_name) AS tag_names
+              FROM (%s) p
+              LEFT JOIN word_list_tag t ON t.list_id = p.list_id
+              LEFT JOIN hashtag h ON h.tag_id = t.tag_id
+             GROUP BY p.list_id, p.list_name, p.description, p.user_id, p.nickname, p.is_shared, p.created_at
+             ORDER BY %s
+            """;
+
+    /** 태그 조건은 EXISTS 로 걸어서 카드에 붙는 태그 목록은 줄이지 않는다 */
+    private static final String TAG_EXISTS_SQL = """
+            EXISTS (SELECT 1 FROM word_list_tag x JOIN hashtag y ON y.tag_id = x.tag_id
+                     WHERE x.list_id = wl.list_id AND y.normalized IN (%s))""";
+
+    /**
+     * 모두의 단어장 정렬. id 는 시퀀스라 최신순 = list_id 내림차순 (PK 인덱스로 키셋).
+     * 이름순은 (list_name, list_id) 로 동률을 끊는다.
+     */
+    public enum Sort {
+        RECENT("wl.list_id DESC", "p.list_id DESC"),
+        NAME("wl.list_name, wl.list_id", "p.list_name, p.list_id");
+
+        final String orderBy;
+        final String outerOrderBy;
+
+        Sort(String orderBy, String outerOrderBy) {
+            this.orderBy = orderBy;
+            this.outerOrderBy = outerOrderBy;
+        }
+
+        public static Sort of(String s) {
+            return "name".equalsIgnoreCase(s) ? NAME : RECENT;
+        }
+    }
+
+    private static final RowMapper<WordListCardView> CARD = (rs, i) -> {
+        Object isShared = rs.getObject("is_shared");
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new WordListCardView(
+                rs.getLong("list_id"),
+                rs.getString("list_name"),
+                rs.getString("description"),
+                rs.getLong("user_id"),
+                rs.getString("nickname"),
+                isShared == null ? null : ((Number) isShared).intValue(),
+                createdAt == null ? null : createdAt.toLocalDateTime(),
+                splitTags(rs.getString("tag_names")));
+    };
+
+    /** 태그 조건이 있는 id 목록 조회를 IN (...) 으로 나눌 크기 (Oracle IN 목록 상한) */
+    private static final int IN_CHUNK = 1000;
+
+    private final JdbcTemplate jdbc;
+    private final WordListTagIndex tagIndex;
+
+    public WordListQueryService(JdbcTemplate jdbc, WordListTagIndex tagIndex) {
+        this.jdbc = jdbc;
+        this.tagIndex = tagIndex;
+    }
+
+    /** 요청 파라미터 → 태그 조건 (hashtag.normalized 규칙으로 정규화) */
+    public static TagFilter tagFilter(List<String> tags, String tagMode, List<String> excludeTags) {
+        return TagFilter.of(tags, tagMode, excludeTags, WordListService::normalizeTag);
+    }
+
+    /**
+     * 내 단어장: 제목 키워드 OR 태그 조건 (둘 다 없으면 내 단어장 전체).
+     * 키워드 없이 태그만 주면 태그 색인(소유자 ∩ 태그 비트맵)으로 id 를 고른 뒤 카드만 읽는다.
+     */
+    public List<WordListCardView> findMineCards(Long ownerId, String keyword, TagFilter tags) {
+        if (isBlank(keyword) && !tags.isEmpty() && tagIndex.isReady()) {
+            int[] ids = tagIndex.match(tags, ownerId, false).toArray();
+            List<WordListCardView> cards = new ArrayList<>(ids.length);
+            for (int from = 0; from < ids.length; from += IN_CHUNK) {
+                List<Object> chunk = new ArrayList<>();
+                for (int i = from; i < Math.min(ids.length, from + IN_CHUNK); i++) chunk.add((long) ids[i]);
+                cards.addAll(queryByIds(chunk, false, "wl.list_id", "p.list_id"));
+            }
+            return cards;
+        }
+        Filter f = new Filter();
+        f.and("wl.user_id = ?", ownerId);
+        f.match(keyword, null, tags);
+        return query(f, "wl.list_id", "p.list_id", null);
+    }
+
+    /**
+     * 모두의 단어장 (공개만) 키셋 페이지.
+     * 조건/정렬/행 수 제한은 모두 SQL 에서 하고, 태그는 고른 size 건에만 LISTAGG 로 붙인다.
+     * 제목/닉네임 없이 태그 조건만 있는 최신순 조회는 태그 색인에서 페이지 id 를 바로 고른다.
+     * nextCursor 는 정렬 키(정렬, 마지막 id, 마지막 이름)를 CursorCodec 으로 감싼 값 (두 경로가 같은 형식).
+     */
+    public CursorPage<WordListCardView> scrollShared(String title, String nickname, TagFilter tags,
+                                                     Sort sort, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        String[] after = (cursor == null || cursor.isBlank()) ? null : decodeCursor(sort, cursor);
+        Long afterId = (after == null) ? null : Long.valueOf(after[1]);
+
+        if (sort == Sort.RECENT && isBlank(title) && isBlank(nickname) && !tags.isEmpty() && tagIndex.isReady()) {
+            return scrollSharedByIndex(tags, afterId, limit);
+        }
+
+        Filter f = new Filter();
+        f.and("wl.is_shared = 1");
+        f.match(title, nickname, tags);
+        if (after != null) {
+            if (sort == Sort.NAME) {
+                f.and("(wl.list_name > ? OR (wl.list_name = ? AND wl.list_id > ?))", after[2], after[2], afterId);
+            } else {
+                f.and("wl.list_id < ?", afterId);
+            }
+        }
+        List<WordListCardView> cards = query(f, sort.orderBy, sort.outerOrderBy, limit + 1);
+
+        if (cards.size() <= limit) return CursorPage.last(cards);
+        cards = cards.subList(0, limit);
+        WordListCardView tail = cards.get(limit - 1);
+        return new CursorPage<>(cards, CursorCodec.encode(sort.name(), tail.id(), tail.listName()), true);
+    }
+
+    /**
+     * 태그 색인 경로 (최신순). 색인은 다른 노드의 변경을 재로딩 전까지 모를 수 있으므로
+     * 카드 SQL 이 공개 여부를 다시 확인하고, 다음 페이지 여부/커서는 카드 수가 아니라 색인이 고른 id 로 정한다.
+     */
+    private CursorPage<WordListCardView> scrollSharedByIndex(TagFilter tags, Long afterId, int limit) {
+        List<Long> ids = tagIndex.page(tags, null, true, afterId, limit + 1);
+        if (ids.size() <= limit) {
+            return CursorPage.last(queryByIds(new ArrayList<>(ids), true, Sort.RECENT.orderBy, Sort.RECENT.outerOrderBy));
+        }
+        ids = ids.subList(0, limit);
+        List<WordListCardView> cards = queryByIds(new ArrayList<>(ids), true, Sort.RECENT.orderBy, Sort.RECENT.outerOrderBy);
+        return new CursorPage<>(cards, CursorCodec.encode(Sort.RECENT.name(), ids.get(limit - 1), null), true);
+    }
+
+    private static String[] decodeCursor(Sort sort, String cursor) {
+        try {
+            String[] parts = CursorCodec.decode(cursor, 3);
+            if (!sort.name().equals(parts[0]) || parts[1] == null) throw new IllegalArgumentException("정렬이 다른 커서");
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+
+    /** 고른 id 들의 카드 (쿼리 1회). sharedOnly 면 그사이 비공개로 바뀐 단어장은 빠진다 */
+    private List<WordListCardView> queryByIds(List<Object> ids, boolean sharedOnly, String orderBy, String outerOrderBy) {
+        if (ids.isEmpty()) return new ArrayList<>();
+        Filter f = new Filter();
+        f.and("wl.list_id IN (" + placeholders(ids.size()) + ")", ids.toArray());
+        if (sharedOnly) f.and("wl.is_shared = 1");
+        return query(f, orderBy, outerOrderBy, null);
+    }
+
+    private List<WordListCardView> query(Filter f, String orderBy, String outerOrderBy, Integer limit) {
+        StringBuilder cards = new StringBuilder(CARDS_SQL);
+        if (!f.where.isEmpty()) cards.append(" WHERE ").append(String.join(" AND ", f.where)).append('\n');
+        cards.append(" ORDER BY ").append(orderBy);
+        List<Object> args = new ArrayList<>(f.args);
+        if (limit != null) {
+            cards.append(" FETCH FIRST ? ROWS ONLY");
+            args.add(limit);
+        }
+        return jdbc.query(WITH_TAGS_SQL.formatted(cards, outerOrderBy), CARD, args.toArray());
+    }
+
+    /** WHERE 조건 (AND) + 검색 조건 묶음 (OR) */
+    private static final class Filter {
+        final List<String> where = new ArrayList<>();
+        final List<Object> args = new ArrayList<>();
+
+        void and(String condition, Object... values) {
+            where.add(condition);
+            args.addAll(Arrays.asList(values));
+        }
+
+        /**
+         * (제목 OR 닉네임 OR any 태그) AND all 태그 각각 AND NOT none 태그.
+         * 태그 비교는 hashtag.normalized 그대로 (UNIQUE 인덱스를 탄다)
+         */
+        void match(String title, String nickname, TagFilter tags) {
+            List<String> any = new ArrayList<>();
+            List<Object> anyArgs = new ArrayList<>();
+            if (!isBlank(title)) {
+                any.add("LOWER(wl.list_name) LIKE ? ESCAPE '\\'");
+                anyArgs.add(containsPattern(title));
+            }
+            if (!isBlank(nickname)) {
+                any.add("LOWER(u.nickname) LIKE ? ESCAPE '\\'");
+                anyArgs.add(containsPattern(nickname));
+            }
+            if (!tags.any().isEmpty()) {
+                any.add(TAG_EXISTS_SQL.formatted(placeholders(tags.any().size())));
+                anyArgs.addAll(tags.any());
+            }
+            if (!any.isEmpty()) and("(" + String.join(" OR ", any) + ")", anyArgs.toArray());
+
+            for (String n : tags.all()) {
+                and(TAG_EXISTS_SQL.formatted("?"), n);
+            }
+            if (!tags.none().isEmpty()) {
+                and("NOT " + TAG_EXISTS_SQL.formatted(placeholders(tags.none().size())), tags.none().toArray());
+            }
+        }
+    }
+
+    private static String placeholders(int n) {
+        return String.join(", ", Collections.nCopies(n, "?"));
+    }
+
+    private static boolean isBlank(String s) {
+        return s == null || s.isBlank();
+    }
+
+    /** 부분 일치 LIKE 패턴 (입력의 %, _ 는 글자 그대로) */
+    private static String containsPattern(String s) {
+        String escaped = s.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static List<String> splitTags(String joined) {
+        if (joined == null || joined.isEmpty()) return List.of();
+        List<String> tags = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= joined.length(); i++) {
+            if (i == joined.length() || joined.charAt(i) == TAG_SEPARATOR) {
+                tags.add(joined.substring(start, i));
+                start = i + 1;
+            }
+        }
+        return tags;
+    }
+}
@@ -4,17 +4,18 @@ package com.toke.toke_project.service;
 단어장 생성/수정/삭제 (소유자만 가능).
 단어 항목 추가 (공식 단어 or 커스텀 입력).
 단어 항목 삭제.
-태그 attach & normalized 처리(중복/경합 대응).
+태그 attach & normalized 처리(중복/경합 대응, WordListTagWriter 배치).
 모두의 단어장/내 단어장/검색 기능.
 단어장 상세(항목까지) 조회.
  */
 import com.toke.toke_project.domain.*;
 import com.toke.toke_project.repo.*;
+import com.toke.toke_project.service.model.CatalogWord;
+import com.toke.toke_project.web.dto.AddWordsResult;
 import lombok.RequiredArgsConstructor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,9 +33,11 @@ public class WordListService {
 	private final WordListRepository wordListRepo;
 	private final WordListItemRepository itemRepo;
 	private final WordRepository wordRepo;
-	private final HashtagRepository hashtagRepo;
-	private final WordListTagRepository wltRepo;
+	private final WordCache wordCache;
+	private final WordListTagWriter tagWriter;
+	private final WordListItemWriter itemWriter;
 	private final UsersRepository usersRepo;
+	private final WordListTagIndex tagIndex;
 	private static final Logger logger = LoggerFactory.getLogger(WordListService.class);
 
 	public boolean isAdmin(Long userId) {
@@ -68,6 +71,16 @@ public class WordListService {
 		return role.equals("ROLE_ADMIN") || role.equals("ADMIN") || role.contains("ADMIN");
 	}
 
+	/* 단어장 내보내기 권한: 공개 단어장이거나 소유자/관리자 (스트리밍 시작 전에 호출) */
+	@Transactional(readOnly = true)
+	public void requireExportable(Long listId, Long userId) {
+		WordList wl = wordListRepo.findById(listId)
+				.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "단어장을 찾을 수 없습니다."));
+		if (Objects.equals(wl.getIsShared(), 1) || isOwnerOrAdmin(wl, userId))
+			return;
+		throw new ResponseStatusException(HttpStatus.FORBIDDEN, "비공개 단어장은 소유자만 내보낼 수 있습니다.");
+	}
+
 	/* 단어장 생성 */
 	@Transactional
 	public Long createList(Long ownerId, String name, String desc, List<String> tags) {
@@ -76,7 +89,8 @@ public class WordListService {
 		wl.setOwner(owner);
 		wl.setListName(name);
 		wl.setDescription(desc);
-		wordListRepo.save(wl);
+		wordListRepo.saveAndFlush(wl); // 태그 연결은 JDBC 로 넣으므로 word_list 행을 먼저 내보낸다
+		tagIndex.putList(wl.getId(), ownerId, Objects.equals(wl.getIsShared(), 1));
 
 		if (tags != null)
 			attachTags(wl.getId(), tags);
@@ -97,8 +111,7 @@ public class WordListService {
 			wl.setDescription(desc);
 
 		if (tags != null) {
-			wltRepo.deleteByListId(listId); // 기존 태그 전부 제거 후
-			attachTags(listId, tags); // 새 태그 부착
+			replaceTags(listId, tags); // 바뀐 연결만 지우고 넣는다
 		}
 	}
 
@@ -113,6 +126,7 @@ public class WordListService {
 		wl.getTags().clear();
 		itemRepo.deleteByWordList_Id(listId);
 		wordListRepo.delete(wl);
+		tagIndex.removeList(listId);
 	}
 
 	@Transactional
@@ -120,25 +134,24 @@ public class WordListService {
 		WordList wl = wordListRepo.findById(listId).orElseThrow();
 		if (!isOwnerOrAdmin(wl, ownerId))
 			throw new SecurityException("권한 없음");
-		Word w = wordRepo.findById(wordId).orElseThrow();
+		// 존재 확인은 캐시로, 연결은 프록시 참조로 (단어 행을 다시 읽지 않는다)
+		wordCache.get(wordId).orElseThrow();
 
 		WordListItem it = new WordListItem();
 		it.setWordList(wl);
-		it.setWord(w);
+		it.setWord(wordRepo.getReferenceById(wordId));
 		itemRepo.save(it);
 		return it.getId();
 	}
 
+	/* 여러 공식 단어를 커스텀 사본으로 추가: 권한 확인 1회, 단어는 캐시 묶음 조회, 중복 제외 후 배치 INSERT */
 	@Transactional
-	public void addWordsToMyList(Long listId, Long ownerId, List<Long> wordIds) {
+	public AddWordsResult addWordsToMyList(Long listId, Long ownerId, List<Long> wordIds) {
 		WordList wl = wordListRepo.findById(listId).orElseThrow();
 		if (!isOwnerOrAdmin(wl, ownerId)) {
 			throw new SecurityException("권한 없음");
 		}
-
-		for (Long wordId : wordIds) {
-			addItemAsCustomCopy(listId, ownerId, wordId);
-		}
+		return itemWriter.addCopies(listId, wordIds, wordCache.getAll(wordIds));
 	}
 
 	@Transactional
@@ -186,16 +199,16 @@ public class WordListService {
 		if (!isOwnerOrAdmin(wl, ownerId)) {
 			throw new SecurityException("권한 없음");
 		}
-		Word w = wordRepo.findById(wordId).orElseThrow();
+		CatalogWord w = wordCache.get(wordId).orElseThrow();
 
 		WordListItem it = new WordListItem();
 		it.setWordList(wl);
 
 		// 공식 단어 내용을 커스텀 필드로 복사
-		it.setCustomJapaneseWord(w.getJapaneseWord());
-		it.setCustomReadingKana(w.getReadingKana());
-		it.setCustomKoreanMeaning(w.getKoreanMeaning());
-		it.setCustomExampleSentenceJp(w.getExampleSentenceJp());
+		it.setCustomJapaneseWord(w.japaneseWord());
+		it.setCustomReadingKana(w.readingKana());
+		it.setCustomKoreanMeaning(w.koreanMeaning());
+		it.setCustomExampleSentenceJp(w.exampleSentenceJp());
 
 		// Word 참조는 null 처리 (공식 연결 안 함)
 		it.setWord(null);
@@ -212,79 +225,22 @@ public class WordListService {
 		itemRepo.delete(it);
 	}
 
-	/* 태그 부착: normalized 중복 방지 + UNIQUE 경합 대응 + 연결 중복 방지 */
+	/* 태그 부착: normalized 중복 방지 + UNIQUE 경합 대응 + 연결 중복 방지 (태그 수와 관계없이 문장 수 고정) */
 	@Transactional
 	public void attachTags(Long listId, List<String> tags) {
 		if (tags == null || tags.isEmpty())
 			return;
-
-		for (String raw : tags) {
-			String norm = normalizeTag(raw);
-			if (norm.isEmpty())
-				continue;
-
-			// 1) hashtag 테이블: normalized UNIQUE 경합 대비(두 번 조회 패턴)
-			Hashtag tag = hashtagRepo.findByNormalized(norm).orElseGet(() -> {
-				try {
-					Hashtag ht = new Hashtag();
-					ht.setTagName(raw.trim());
-					ht.setNormalized(norm);
-					return hashtagRepo.save(ht);
-				} catch (DataIntegrityViolationException e) {
-					// 다른 트랜잭션이 먼저 넣은 경우
-					return hashtagRepo.findByNormalized(norm).orElseThrow();
-				}
-			});
-
-			// 2) 연결 테이블 중복 방지
-			if (!wltRepo.existsByListIdAndTagId(listId, tag.getId())) {
-				WordListTag wlt = new WordListTag();
-				wlt.setListId(listId);
-				wlt.setTagId(tag.getId());
-				wltRepo.save(wlt);
-			}
-		}
+		tagIndex.addTags(listId, tagWriter.add(listId, tags));
 	}
 
-	/* 모두의 단어장/내 단어장 */
-	@Transactional(readOnly = true)
-	public List<WordList> findAll() {
-		return wordListRepo.findAll();
+	/* 태그 교체: 기존 연결과 비교해 차이만 반영 */
+	private void replaceTags(Long listId, List<String> tags) {
+		List<String> norms = tagWriter.replace(listId, tags);
+		tagIndex.clearTags(listId);
+		tagIndex.addTags(listId, norms);
 	}
 
-	// WordListService.java
-	@Transactional(readOnly = true)
-	public List<WordList> findMine(Long ownerId, String keyword, List<String> tags) {
-		logger.debug("내 단어장 검색 (multi-tag): ownerId={}, keyword={}, tags={}", ownerId, keyword, tags);
-
-		Set<WordList> result = new LinkedHashSet<>();
-
-		// 1) keyword(제목) 검색 (owner 한정)
-		if (keyword != null && !keyword.isBlank()) {
-			List<WordList> byTitle = wordListRepo.findByOwnerIdAndListNameContainingIgnoreCase(ownerId, keyword.trim());
-			result.addAll(byTitle);
-		}
-
-		// 2) tags 검색 (복수, OR)
-		if (tags != null && !tags.isEmpty()) {
-			// 정규화: 소문자 + 불필요 문자 제거 (서비스에 이미 normalizeTag 메서드가 있으니 재사용)
-			List<String> norms = tags.stream().filter(Objects::nonNull).map(String::trim).map(this::normalizeTag)
-					.filter(s -> !s.isEmpty()).map(String::toLowerCase) // repository JPQL 비교가 lower(...) 사용하면 이건 선택
-					.toList();
-
-			if (!norms.isEmpty()) {
-				List<WordList> byTags = wordListRepo.findByOwnerIdAndTagsNormalized(ownerId, norms);
-				result.addAll(byTags);
-			}
-		}
-
-		// 3) 아무 필터도 없으면 소유자 전체 반환
-		if ((keyword == null || keyword.isBlank()) && (tags == null || tags.isEmpty())) {
-			return wordListRepo.findByOwner_Id(ownerId);
-		}
-
-		return new ArrayList<>(result);
-	}
+	/* 모두의 단어장/내 단어장 카드 목록은 WordListQueryService (엔티티 대신 카드 프로젝션) */
 
 	// WordListService.java
 	@Transactional(readOnly = true)
@@ -307,49 +263,10 @@ public class WordListService {
 		return map;
 	}
 
-	/* 검색: 제목/닉네임/태그 */
-	@Transactional(readOnly = true)
-	public List<WordList> search(String title, String nickname, List<String> tags) {
-		Set<WordList> resultSet = new LinkedHashSet<>();
-		logger.debug("검색 시작: title={}, nickname={}, tags={}", title, nickname, tags);
-
-		if (title != null && !title.isBlank()) {
-			resultSet.addAll(wordListRepo.searchByTitle(title.trim().toLowerCase()));
-		}
-
-		if (nickname != null && !nickname.isBlank()) {
-			resultSet.addAll(wordListRepo.searchByOwnerNickname(nickname.trim().toLowerCase()));
-		}
-
-		if (tags != null && !tags.isEmpty()) {
-			// 정규화(소문자) 및 공백 제거
-			List<String> norms = tags.stream().filter(Objects::nonNull).map(String::trim).filter(s -> !s.isEmpty())
-					.map(s -> s.toLowerCase()).toList();
-
-			if (!norms.isEmpty()) {
-				// 레포지토리에 다중 조회 메서드가 있으면 한 번에 가져오기 (권장)
-				try {
-					List<WordList> byTags = wordListRepo.searchByTagsNormalized(norms);
-					resultSet.addAll(byTags);
-				} catch (Exception ex) {
-					// 만약 레포지토리에 findByTagNormalizedIn 가 없으면 폴백: 태그별로 합침 (OR)
-					for (String tag : norms) {
-						resultSet.addAll(wordListRepo.searchByTagNormalized(tag));
-					}
-				}
-			}
-		}
-
-		if (resultSet.isEmpty()) {
-			return wordListRepo.findAll();
-		}
-		return new ArrayList<>(resultSet);
-	}
-
 	// 태그 정규화: 소문자 + 한글/영문/숫자만 남기고 나머지 제거
 	private static final Pattern KEEP = Pattern.compile("[^0-9A-Za-z가-힣]");
 
-	private String normalizeTag(String raw) {
+	public static String normalizeTag(String raw) {
 		if (raw == null || raw.trim().isEmpty()) {
 			return "";
 		}
@@ -398,26 +315,9 @@ public class WordListService {
 	/* 단어장에 태그 추가 메서드 */
 	@Transactional
 	public void addTagsToWordList(Long listId, List<String> tagNames) {
-		WordList wordList = wordListRepo.findById(listId).orElseThrow(() -> new RuntimeException("단어장이 존재하지 않습니다."));
-
-		Set<Hashtag> tags = new HashSet<>();
-		for (String tagName : tagNames) {
-			String normalizedTag = normalizeTag(tagName);
-			if (normalizedTag.isEmpty())
-				continue; // 정규화된 태그가 빈 문자열이면 건너뜀
-
-			Hashtag hashtag = hashtagRepo.findByNormalized(normalizedTag).orElseGet(() -> {
-				Hashtag ht = new Hashtag();
-				ht.setTagName(tagName);
-				ht.setNormalized(normalizedTag);
-				return hashtagRepo.save(ht);
-			});
-
-			tags.add(hashtag);
-		}
-
-		wordList.setTags(tags);
-		wordListRepo.save(wordList);
+		if (!wordListRepo.existsById(listId))
+			throw new RuntimeException("단어장이 존재하지 않습니다.");
+		replaceTags(listId, tagNames);
 	}
 
 	@Transactional
@@ -428,6 +328,7 @@ public class WordListService {
 		System.out.println("Before sharing: " + wordList.getIsShared());
 		wordList.setIsShared(1);
 		wordListRepo.save(wordList);
+		tagIndex.setShared(listId, true);
 		System.out.println("After sharing: " + wordList.getIsShared());
 
 	}
@@ -453,47 +354,12 @@ public class WordListService {
 				.collect(Collectors.toSet());
 	}
 	
+	/* 추가 전 중복 확인 (addWordsToMyList 와 같은 기준: 같은 공식 단어 또는 같은 일본어 항목) */
 	@Transactional(readOnly = true)
 	public Set<Long> findExistingWordIdsInList(Long listId, List<Long> wordIds) {
-	    if (listId == null || wordIds == null || wordIds.isEmpty()) return Collections.emptySet();
-
-	    // 1) 리스트에 있는 항목들 모두 조회 (작업 단순화; 규모가 크면 repository에 조건 쿼리 추가 권장)
-	    List<WordListItem> itemsInList = itemRepo.findByWordList_Id(listId); // 존재한다고 가정
-
-	    // 기존에 공식(Word)로 들어간 id 집합
-	    Set<Long> existingOfficialIds = itemsInList.stream()
-	            .map(WordListItem::getWord)
-	            .filter(Objects::nonNull)
-	            .map(Word::getId)
-	            .filter(Objects::nonNull)
-	            .collect(Collectors.toSet());
-
-	    // 기존에 커스텀으로 들어간 일본어 표현들(정규화: 소문자 트림)
-	    Set<String> existingCustomJps = itemsInList.stream()
-	            .filter(it -> it.getWord() == null && it.getCustomJapaneseWord() != null)
-	            .map(it -> it.getCustomJapaneseWord().trim().toLowerCase())
-	            .collect(Collectors.toSet());
-
-	    // 2) 선택된 wordIds 중 공식으로 동일한 id가 이미 존재하면 중복
-	    Set<Long> duplicates = wordIds.stream()
-	            .filter(existingOfficialIds::contains)
-	            .collect(Collectors.toCollection(LinkedHashSet::new));
-
-	    // 3) 선택된 공식 Word들의 JapaneseWord를 가져와서, 커스텀 표현이 같은지 체크
-	    List<Word> words = wordRepo.findAllById(wordIds); // JPA 기본 메서드
-	    Map<Long, String> idToNormJp = words.stream()
-	            .filter(w -> w.getJapaneseWord() != null)
-	            .collect(Collectors.toMap(Word::getId, w -> w.getJapaneseWord().trim().toLowerCase()));
-
-	    for (Map.Entry<Long, String> e : idToNormJp.entrySet()) {
-	        Long wid = e.getKey();
-	        String normJp = e.getValue();
-	        if (existingCustomJps.contains(normJp)) {
-	            duplicates.add(wid);
-	        }
-	    }
-
-	    return duplicates;
+		if (listId == null || wordIds == null || wordIds.isEmpty())
+			return Collections.emptySet();
+		return itemWriter.findDuplicates(listId, wordIds, wordCache.getAll(wordIds));
 	}
 
 	/**
@@ -502,10 +368,9 @@ public class WordListService {
 	@Transactional(readOnly = true)
 	public Map<Long, String> getJapaneseByIds(List<Long> wordIds) {
 	    if (wordIds == null || wordIds.isEmpty()) return Collections.emptyMap();
-	    List<Word> words = wordRepo.findAllById(wordIds);
-	    return words.stream().filter(Objects::nonNull)
-	            .collect(Collectors.toMap(Word::getId,
-	                    w -> w.getJapaneseWord() == null ? "" : w.getJapaneseWord()));
+	    return wordCache.getAll(wordIds).values().stream()
+	            .collect(Collectors.toMap(CatalogWord::id,
+	                    w -> w.japaneseWord() == null ? "" : w.japaneseWord()));
 	}
 
 	public WordList getWordListById(Long listId) {
@@ -0,0 +1,333 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.service.model.TagFilter;
+import com.toke.toke_project.util.IdBitmap;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 단어장 태그 비트맵 색인 (메모리).
+ * hashtag.normalized 마다 그 태그가 붙은 list_id 의 압축 비트맵(IdBitmap)을 두고,
+ * 공개 단어장 / 소유자별 비트맵과 AND · OR · AND NOT 으로 태그 조건(TagFilter)을 계산한다.
+ *
+ * - 기동 완료 후 백그라운드에서 word_list / word_list_tag 를 한 번 읽어 만든다 (그 전에는 isReady() == false → SQL 로 조회)
+ * - 이후 변경은 WordListService 가 커밋 후에 반영한다 (createList, updateList, attachTags, shareList, deleteList …)
+ * - 다른 노드나 직접 SQL 로 바뀐 단어장은 reload-interval 마다 DB 에서 통째로 다시 읽어 맞춘다
+ *   (그 사이 공개 여부가 어긋나도 조회 SQL 이 is_shared 를 다시 확인한다)
+ * - 로딩 중에 들어온 변경은 기록해 두었다가 새 색인에 다시 적용한다 (모든 변경은 같은 결과를 두 번 적용해도 같다)
+ *
+ * 메트릭: wordlist.tag.index.lists / wordlist.tag.index.tags (gauge), wordlist.tag.index.load (timer)
+ */
+@Component
+public class WordListTagIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(WordListTagIndex.class);
+
+    private static final String LISTS_SQL = "SELECT list_id, user_id, is_shared FROM word_list";
+    private static final String TAGS_SQL = """
+            SELECT t.list_id, h.normalized
+              FROM word_list_tag t
+              JOIN hashtag h ON h.tag_id = t.tag_id
+            """;
+
+    private static final IdBitmap EMPTY = new IdBitmap();
+
+    /** 색인 본체. lock 아래에서만 읽고 쓴다 */
+    static final class State {
+        final IdBitmap all = new IdBitmap();
+        final IdBitmap shared = new IdBitmap();
+        final Map<Long, IdBitmap> byOwner = new HashMap<>();
+        final Map<String, IdBitmap> byTag = new HashMap<>();
+        final Map<Integer, Long> ownerOf = new HashMap<>();
+        final Map<Integer, Set<String>> tagsOf = new HashMap<>();
+
+        void putList(int id, Long ownerId, boolean isShared) {
+            Long before = ownerOf.put(id, ownerId);
+            if (before != null && !before.equals(ownerId)) unset(byOwner, before, id);
+            all.add(id);
+            if (ownerId != null) byOwner.computeIfAbsent(ownerId, k -> new IdBitmap()).add(id);
+            setShared(id, isShared);
+        }
+
+        void setShared(int id, boolean isShared) {
+            if (isShared) shared.add(id);
+            else shared.remove(id);
+        }
+
+        void addTags(int id, Collection<String> norms) {
+            Set<String> tags = tagsOf.computeIfAbsent(id, k -> new HashSet<>());
+            for (String n : norms) {
+                if (tags.add(n)) byTag.computeIfAbsent(n, k -> new IdBitmap()).add(id);
+            }
+        }
+
+        void clearTags(int id) {
+            Set<String> tags = tagsOf.remove(id);
+            if (tags == null) return;
+            for (String n : tags) unset(byTag, n, id);
+        }
+
+        void removeList(int id) {
+            clearTags(id);
+            Long ownerId = ownerOf.remove(id);
+            if (ownerId != null) unset(byOwner, ownerId, id);
+            all.remove(id);
+            shared.remove(id);
+        }
+
+        private static <K> void unset(Map<K, IdBitmap> map, K key, int id) {
+            IdBitmap b = map.get(key);
+            if (b != null && b.remove(id) && b.isEmpty()) map.remove(key);
+        }
+    }
+
+    private final JdbcTemplate jdbc;
+    private final boolean enabled;
+    private final Duration reloadInterval;
+    private final ScheduledExecutorService worker;
+    private final Timer loadTimer;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private State state = new State();
+    /** 로딩 중에 들어온 변경 (로딩이 아니면 null) */
+    private List<Consumer<State>> pending;
+    private volatile boolean ready;
+
+    /** @param reloadInterval 0 이하이면 기동 후 한 번만 읽는다 */
+    public WordListTagIndex(JdbcTemplate jdbc,
+                            MeterRegistry registry,
+                            @Value("${toke.tag-index.enabled:true}") boolean enabled,
+                            @Value("${toke.tag-index.reload-interval:5m}") Duration reloadInterval) {
+        this.jdbc = jdbc;
+        this.enabled = enabled;
+        this.reloadInterval = reloadInterval;
+        this.worker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "word-list-tag-index");
+            t.setDaemon(true);
+            return t;
+        });
+        this.loadTimer = Timer.builder("wordlist.tag.index.load").register(registry);
+        Gauge.builder("wordlist.tag.index.lists", this, i -> i.read(s -> s.all.cardinality())).register(registry);
+        Gauge.builder("wordlist.tag.index.tags", this, i -> i.read(s -> s.byTag.size())).register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("[WordListTagIndex] 사용 안 함 (toke.tag-index.enabled=false)");
+            return;
+        }
+        try {
+            worker.execute(this::loadQuietly);
+            if (!reloadInterval.isNegative() && !reloadInterval.isZero()) {
+                long ms = reloadInterval.toMillis();
+                worker.scheduleWithFixedDelay(this::loadQuietly, ms, ms, TimeUnit.MILLISECONDS);
+            }
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    private void loadQuietly() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.warn("[WordListTagIndex] 로딩 실패, {}: {}", ready ? "이전 색인을 계속 사용" : "SQL 조회를 계속 사용",
+                    e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /** DB 에서 새로 만들어 교체한다 */
+    public void load() {
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State next = new State();
+        try {
+            jdbc.query(LISTS_SQL, (RowCallbackHandler) rs -> {
+                Object shared = rs.getObject("is_shared");
+                next.putList(key(rs.getLong("list_id")), rs.getLong("user_id"),
+                        shared != null && ((Number) shared).intValue() == 1);
+            });
+            jdbc.query(TAGS_SQL, (RowCallbackHandler) rs ->
+                    next.addTags(key(rs.getLong("list_id")), List.of(rs.getString("normalized"))));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Consumer<State> change : pending) change.accept(next);
+            pending = null;
+            state = next;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        loadTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        log.info("[WordListTagIndex] 단어장 {}개, 태그 {}개 ({}ms)", read(s -> s.all.cardinality()),
+                read(s -> s.byTag.size()), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // --- 변경 반영 (트랜잭션 안이면 커밋 후) ---
+
+    /** 새 단어장 / 소유자·공개 여부 변경 */
+    public void putList(Long listId, Long ownerId, boolean isShared) {
+        afterCommit(s -> s.putList(key(listId), ownerId, isShared));
+    }
+
+    public void setShared(Long listId, boolean isShared) {
+        afterCommit(s -> s.setShared(key(listId), isShared));
+    }
+
+    /** 정규화된 태그를 붙인다 (이미 붙은 태그는 그대로) */
+    public void addTags(Long listId, Collection<String> normalizedTags) {
+        List<String> norms = List.copyOf(normalizedTags);
+        if (norms.isEmpty()) return;
+        afterCommit(s -> s.addTags(key(listId), norms));
+    }
+
+    /** 태그를 모두 뗀다 (태그 교체 = clearTags 후 addTags) */
+    public void clearTags(Long listId) {
+        afterCommit(s -> s.clearTags(key(listId)));
+    }
+
+    public void removeList(Long listId) {
+        afterCommit(s -> s.removeList(key(listId)));
+    }
+
+    // --- 조회 ---
+
+    /**
+     * 조건에 맞는 단어장 id 비트맵 (새 비트맵이라 잠금 밖에서 써도 된다).
+     * (공개 또는 전체) ∩ 소유자 ∩ all 태그 각각 ∩ (any 태그 합집합) − (none 태그 합집합)
+     */
+    public IdBitmap match(TagFilter filter, Long ownerId, boolean sharedOnly) {
+        return read(s -> {
+            IdBitmap result = sharedOnly ? s.shared : s.all;
+            if (ownerId != null) result = IdBitmap.and(result, s.byOwner.getOrDefault(ownerId, EMPTY));
+
+            // 작은 비트맵부터 AND 해서 중간 결과를 빨리 줄인다
+            List<IdBitmap> required = new ArrayList<>();
+            for (String n : filter.all()) required.add(s.byTag.getOrDefault(n, EMPTY));
+            required.sort(Comparator.comparingInt(IdBitmap::cardinality));
+            for (IdBitmap b : required) {
+                if (result.isEmpty()) break;
+                result = IdBitmap.and(result, b);
+            }
+            if (!filter.any().isEmpty()) result = IdBitmap.and(result, union(s, filter.any()));
+            if (!filter.none().isEmpty()) result = IdBitmap.andNot(result, union(s, filter.none()));
+            return (result == s.all || result == s.shared) ? result.copy() : result;
+        });
+    }
+
+    /** match 결과 중 beforeId 보다 작은 id 를 큰 것부터 limit 개 (최신순 키셋 페이지) */
+    public List<Long> page(TagFilter filter, Long ownerId, boolean sharedOnly, Long beforeId, int limit) {
+        IdBitmap matched = match(filter, ownerId, sharedOnly);
+        List<Long> ids = new ArrayList<>(limit);
+        int before = (beforeId == null || beforeId > Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int) (long) beforeId;
+        matched.forEachDescending(before, id -> {
+            ids.add((long) id);
+            return ids.size() < limit;
+        });
+        return ids;
+    }
+
+    private static IdBitmap union(State s, List<String> norms) {
+        IdBitmap u = new IdBitmap();
+        for (String n : norms) {
+            IdBitmap b = s.byTag.get(n);
+            if (b != null) u = IdBitmap.or(u, b);
+        }
+        return u;
+    }
+
+    private <T> T read(Function<State, T> f) {
+        lock.readLock().lock();
+        try {
+            return f.apply(state);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void afterCommit(Consumer<State> change) {
+        if (!enabled) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<State> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(state);
+            if (pending != null) pending.add(change);
+        } catch (RuntimeException e) {
+            // 색인에 담을 수 없는 id 등: 색인을 끄고 SQL 로 조회한다
+            ready = false;
+            log.warn("[WordListTagIndex] 변경 반영 실패, SQL 조회로 전환: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** list_id → 비트맵 원소 (시퀀스 값이 int 범위를 넘으면 색인할 수 없다) */
+    private static int key(long listId) {
+        if (listId < 0 || listId > Integer.MAX_VALUE) {
+            throw new IllegalStateException("색인 범위를 넘는 list_id: " + listId);
+        }
+        return (int) listId;
+    }
+}
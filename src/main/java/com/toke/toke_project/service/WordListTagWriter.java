@@ -0,0 +1,126 @@
+package com.toke.toke_project.service;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 단어장 태그 쓰기 (태그 개수와 관계없이 문장 수 고정).
+ * 1) 원본 태그를 한 번에 정규화 (빈 값/중복 제거)
+ * 2) hashtag 에 없는 태그를 MERGE 한 문장으로 생성
+ * 3) 정규화 값으로 tag_id 조회 + 현재 word_list_tag 연결 조회
+ * 4) 차이만 DELETE / INSERT 배치 (각 1회)
+ *
+ * 기존: 태그마다 findByNormalized + save(경합 시 재조회) + existsByListIdAndTagId + save → 태그당 최대 4회
+ */
+@Component
+public class WordListTagWriter {
+
+    /** MERGE 동시 INSERT 충돌(normalized 유니크 제약) 시 재시도 횟수 */
+    private static final int MERGE_RETRIES = 3;
+    /** hashtag.tag_name / normalized 길이 */
+    private static final int MAX_TAG_LENGTH = 50;
+
+    private final JdbcTemplate jdbc;
+
+    public WordListTagWriter(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** 태그를 덧붙인다 (이미 붙은 태그는 그대로). @return 요청한 태그의 정규화 값 */
+    public List<String> add(Long listId, Collection<String> rawTags) {
+        return write(listId, rawTags, false);
+    }
+
+    /** 태그를 교체한다 (빠진 연결만 지우고 새 연결만 넣는다). @return 새 태그의 정규화 값 */
+    public List<String> replace(Long listId, Collection<String> rawTags) {
+        return write(listId, rawTags, true);
+    }
+
+    private List<String> write(Long listId, Collection<String> rawTags, boolean replace) {
+        Map<String, String> tags = normalize(rawTags);
+        if (tags.isEmpty() && !replace) return List.of();
+
+        Map<Long, String> wanted = tags.isEmpty() ? Map.of() : upsert(tags);
+        Set<Long> linked = new HashSet<>(
+                jdbc.queryForList("SELECT tag_id FROM word_list_tag WHERE list_id = ?", Long.class, listId));
+
+        List<Long> inserts = new ArrayList<>();
+        for (Long tagId : wanted.keySet()) {
+            if (!linked.contains(tagId)) inserts.add(tagId);
+        }
+        List<Long> deletes = new ArrayList<>();
+        if (replace) {
+            for (Long tagId : linked) {
+                if (!wanted.containsKey(tagId)) deletes.add(tagId);
+            }
+        }
+        batch("DELETE FROM word_list_tag WHERE list_id = ? AND tag_id = ?", listId, deletes);
+        batch("INSERT INTO word_list_tag (list_id, tag_id) VALUES (?, ?)", listId, inserts);
+        return List.copyOf(tags.keySet());
+    }
+
+    /** 정규화 값 → 표시 이름 (같은 정규화 값이면 처음 나온 원본) */
+    static Map<String, String> normalize(Collection<String> rawTags) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        if (rawTags == null) return tags;
+        for (String raw : rawTags) {
+            String norm = WordListService.normalizeTag(raw);
+            if (norm.isEmpty()) continue;
+            String name = raw.trim();
+            tags.putIfAbsent(norm, name.length() > MAX_TAG_LENGTH ? name.substring(0, MAX_TAG_LENGTH) : name);
+        }
+        return tags;
+    }
+
+    /** 없는 태그는 만들고, 모든 태그의 tag_id → 정규화 값을 돌려준다 (MERGE 1 + SELECT 1) */
+    private Map<Long, String> upsert(Map<String, String> tags) {
+        StringBuilder source = new StringBuilder();
+        List<Object> args = new ArrayList<>(tags.size() * 2);
+        for (Map.Entry<String, String> e : tags.entrySet()) {
+            // 길이는 글자 단위(CHAR): 기본 BYTE 면 AL32UTF8 에서 한글/일본어 17자부터 ORA-25137
+            source.append(source.isEmpty()
+                    ? "SELECT CAST(? AS VARCHAR2(50 CHAR)) tag_name, CAST(? AS VARCHAR2(50 CHAR)) normalized FROM dual"
+                    : " UNION ALL SELECT ?, ? FROM dual");
+            args.add(e.getValue());
+            args.add(e.getKey());
+        }
+        String sql = """
+                MERGE INTO hashtag h
+                USING (%s) src
+                ON (h.normalized = src.normalized)
+                WHEN NOT MATCHED THEN INSERT (tag_id, tag_name, normalized)
+                     VALUES (seq_tag_id.NEXTVAL, src.tag_name, src.normalized)
+                """.formatted(source);
+
+        // 두 트랜잭션이 같은 새 태그를 동시에 넣으면 한쪽은 normalized 유니크 제약에 걸린다.
+        // 문장 단위로 롤백되므로 다시 실행하면 이미 있는 태그로 처리된다.
+        for (int attempt = 1; ; attempt++) {
+            try {
+                jdbc.update(sql, args.toArray());
+                break;
+            } catch (DuplicateKeyException e) {
+                if (attempt >= MERGE_RETRIES) throw e;
+            }
+        }
+
+        Map<Long, String> ids = new LinkedHashMap<>();
+        jdbc.query("SELECT tag_id, normalized FROM hashtag WHERE normalized IN ("
+                        + String.join(", ", Collections.nCopies(tags.size(), "?")) + ")",
+                rs -> {
+                    ids.put(rs.getLong("tag_id"), rs.getString("normalized"));
+                },
+                tags.keySet().toArray());
+        return ids;
+    }
+
+    private void batch(String sql, Long listId, List<Long> tagIds) {
+        if (tagIds.isEmpty()) return;
+        jdbc.batchUpdate(sql, tagIds, tagIds.size(), (ps, tagId) -> {
+            ps.setLong(1, listId);
+            ps.setLong(2, tagId);
+        });
+    }
+}
@@ -1,20 +1,23 @@
 package com.toke.toke_project.service;
 
 
-import com.toke.toke_project.domain.Users;
 import com.toke.toke_project.domain.Word;
 import com.toke.toke_project.domain.WrongNote;
 import com.toke.toke_project.repo.WrongNoteRepository;
-import com.toke.toke_project.repo.WordRepository;
+import com.toke.toke_project.service.model.ReviewScore;
+import com.toke.toke_project.util.CursorCodec;
+import com.toke.toke_project.web.dto.CursorPage;
 import com.toke.toke_project.web.dto.WrongNoteDto;
 import com.toke.toke_project.web.dto.BulkDeleteResponse;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -26,16 +29,16 @@ import java.util.stream.Collectors;
 @Service
 public class WrongNoteService {
 
-    private final WrongNoteRepository wrongNoteRepository;
-    private final WordRepository wordRepository;
+    /** 오답노트 한 페이지(스크롤 한 번) 최대 행 수 */
+    static final int MAX_PAGE_SIZE = 100;
 
-    @PersistenceContext
-    private EntityManager em;
+    private final WrongNoteRepository wrongNoteRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     public WrongNoteService(WrongNoteRepository wrongNoteRepository,
-                            WordRepository wordRepository) {
+                            JdbcTemplate jdbcTemplate) {
         this.wrongNoteRepository = wrongNoteRepository;
-        this.wordRepository = wordRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     /* -------------------- 기본 유틸 / 목록 -------------------- */
@@ -46,6 +49,7 @@ public class WrongNoteService {
         return notes.stream().map(this::toDto).collect(Collectors.toList());
     }
 
+    /** 필터/정렬/페이지를 모두 DB에서 처리하고 DTO로 바로 조회한다 */
     @Transactional(readOnly = true)
     public Page<WrongNoteDto> listByUserWithFilters(
             Long userId,
@@ -57,90 +61,194 @@ public class WrongNoteService {
             int page,
             int size) {
 
-        List<WrongNote> notes = wrongNoteRepository.findByUserIdWithWord(userId);
-        List<WrongNoteDto> dtos = notes.stream().map(this::toDto).collect(Collectors.toList());
-
-        LocalDateTime tmpFrom = null;
-        LocalDateTime tmpTo = null;
-        if (dateFilter != null && !"ALL".equalsIgnoreCase(dateFilter)) {
-            LocalDate now = LocalDate.now(ZoneId.systemDefault());
-            switch (dateFilter) {
-                case "1M" -> { tmpFrom = now.minusMonths(1).atStartOfDay(); tmpTo = now.plusDays(1).atStartOfDay(); }
-                case "3M" -> { tmpFrom = now.minusMonths(3).atStartOfDay(); tmpTo = now.plusDays(1).atStartOfDay(); }
-                case "LAST_MONTH" -> {
-                    LocalDate firstOfLast = now.minusMonths(1).with(TemporalAdjusters.firstDayOfMonth());
-                    LocalDate lastOfLast  = now.minusMonths(1).with(TemporalAdjusters.lastDayOfMonth());
-                    tmpFrom = firstOfLast.atStartOfDay();
-                    tmpTo   = lastOfLast.plusDays(1).atStartOfDay();
-                }
-                case "CUSTOM" -> {
-                    if (from != null) tmpFrom = LocalDate.parse(from).atStartOfDay();
-                    if (to   != null) tmpTo   = LocalDate.parse(to).plusDays(1).atStartOfDay();
-                }
-                default -> {}
+        DateRange range = resolveRange(dateFilter, from, to);
+        String cat = normalizeCategory(category);
+        PageRequest pageable = PageRequest.of(Math.max(0, page), clampSize(size));
+
+        return isLastWrongSort(sort)
+                ? wrongNoteRepository.pageLastWrong(userId, cat, range.from(), range.to(), pageable)
+                : wrongNoteRepository.pageLatest(userId, cat, range.from(), range.to(), pageable);
+    }
+
+    /**
+     * 무한 스크롤용 키셋 페이지. cursor 는 직전 응답의 nextCursor (첫 페이지는 null).
+     * OFFSET 없이 마지막 행의 (정렬 키, noteId) 다음부터 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<WrongNoteDto> scrollByUserWithFilters(
+            Long userId,
+            String sort,
+            String dateFilter,
+            String from,
+            String to,
+            String category,
+            String cursor,
+            int size) {
+
+        boolean lastWrong = isLastWrongSort(sort);
+        String sortKey = lastWrong ? "LAST_WRONG_DATE" : "LATEST";
+        DateRange range = resolveRange(dateFilter, from, to);
+        String cat = normalizeCategory(category);
+
+        LocalDateTime cursorAt = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] parts = CursorCodec.decode(cursor, 3);
+                if (!sortKey.equals(parts[0]) || parts[2] == null) throw new IllegalArgumentException("정렬이 다른 커서");
+                cursorAt = (parts[1] == null) ? null : LocalDateTime.parse(parts[1]);
+                cursorId = Long.valueOf(parts[2]);
+            } catch (RuntimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
             }
         }
 
-        final LocalDateTime filterFrom = tmpFrom;
-        final LocalDateTime filterTo   = tmpTo;
-        final String filterCategory = (category == null || category.isBlank()) ? null : category.trim();
-
-        List<WrongNoteDto> filtered = dtos.stream()
-                .filter(dto -> {
-                    if (filterCategory != null) {
-                        String dtoCat = dto.getCategory();
-                        if (dtoCat == null) return false;
-                        if (!dtoCat.equals(filterCategory)) return false;
-                    }
-                    if (filterFrom != null) {
-                        LocalDateTime lastWrong = dto.getLastWrongAt();
-                        if (lastWrong == null) return false;
-                        if (lastWrong.isBefore(filterFrom)) return false;
-                        if (filterTo != null && !lastWrong.isBefore(filterTo)) return false;
-                    }
-                    return true;
-                })
-                .collect(Collectors.toList());
+        PageRequest limit = PageRequest.of(0, clampSize(size));
+        Slice<WrongNoteDto> slice = lastWrong
+                ? wrongNoteRepository.scrollLastWrong(userId, cat, range.from(), range.to(), cursorAt, cursorId, limit)
+                : wrongNoteRepository.scrollLatest(userId, cat, range.from(), range.to(), cursorAt, cursorId, limit);
 
-        Comparator<WrongNoteDto> comparator;
-        if ("LAST_WRONG_DATE".equalsIgnoreCase(sort)) {
-            comparator = Comparator.comparing(WrongNoteDto::getLastWrongAt,
-                    Comparator.nullsLast(Comparator.reverseOrder()));
-        } else {
-            comparator = Comparator.comparing(WrongNoteDto::getNoteCreatedAt,
-                    Comparator.nullsLast(Comparator.reverseOrder()));
-        }
-        filtered.sort(comparator);
+        List<WrongNoteDto> items = slice.getContent();
+        if (!slice.hasNext() || items.isEmpty()) return CursorPage.last(items);
 
-        int fromIndex = page * size;
-        int toIndex = Math.min(fromIndex + size, filtered.size());
-        List<WrongNoteDto> pageContent = (fromIndex >= filtered.size()) ? List.of() : filtered.subList(fromIndex, toIndex);
+        WrongNoteDto tail = items.get(items.size() - 1);
+        String next = CursorCodec.encode(sortKey,
+                lastWrong ? tail.getLastWrongAt() : tail.getNoteCreatedAt(), tail.getNoteId());
+        return new CursorPage<>(items, next, true);
+    }
+
+    private static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
 
-        return new PageImpl<>(pageContent, PageRequest.of(page, size), filtered.size());
+    private static boolean isLastWrongSort(String sort) {
+        return "LAST_WRONG_DATE".equalsIgnoreCase(sort);
+    }
+
+    private static String normalizeCategory(String category) {
+        return (category == null || category.isBlank()) ? null : category.trim();
+    }
+
+    /** lastWrongAt 범위 [from, to) — null이면 해당 쪽 조건 없음 */
+    record DateRange(LocalDateTime from, LocalDateTime to) {}
+
+    static DateRange resolveRange(String dateFilter, String from, String to) {
+        if (dateFilter == null || "ALL".equalsIgnoreCase(dateFilter)) return new DateRange(null, null);
+
+        LocalDate now = LocalDate.now(ZoneId.systemDefault());
+        return switch (dateFilter) {
+            case "1M" -> new DateRange(now.minusMonths(1).atStartOfDay(), now.plusDays(1).atStartOfDay());
+            case "3M" -> new DateRange(now.minusMonths(3).atStartOfDay(), now.plusDays(1).atStartOfDay());
+            case "LAST_MONTH" -> {
+                LocalDate firstOfLast = now.minusMonths(1).with(TemporalAdjusters.firstDayOfMonth());
+                LocalDate lastOfLast  = now.minusMonths(1).with(TemporalAdjusters.lastDayOfMonth());
+                yield new DateRange(firstOfLast.atStartOfDay(), lastOfLast.plusDays(1).atStartOfDay());
+            }
+            case "CUSTOM" -> new DateRange(
+                    (from == null || from.isBlank()) ? null : LocalDate.parse(from).atStartOfDay(),
+                    (to == null || to.isBlank()) ? null : LocalDate.parse(to).plusDays(1).atStartOfDay());
+            default -> new DateRange(null, null);
+        };
     }
 
     /* -------------------- 오답 기록 (word 기준) -------------------- */
 
+    /** 오답 키 (사용자, 단어) */
+    public record WrongKey(Long userId, Long wordId) {}
+
+    /** MERGE 동시 INSERT 충돌(유니크 제약) 시 재시도 횟수 */
+    private static final int MERGE_RETRIES = 3;
+
+    /**
+     * 오답 1건 기록: MERGE 한 문장으로 생성 또는 횟수+1 / 마지막 오답 시각 갱신.
+     * 동시에 같은 (사용자, 단어)를 기록해도 횟수가 유실되지 않는다.
+     */
     @Transactional
     public void recordWrong(Long userId, Long wordId) {
-        Word word = wordRepository.findById(wordId)
-                .orElseThrow(() -> new IllegalArgumentException("Word not found: " + wordId));
-
-        WrongNote wn = wrongNoteRepository.findByUser_IdAndWord_Id(userId, word.getId())
-                .orElseGet(() -> {
-                    WrongNote n = new WrongNote();
-                    n.setUser(em.getReference(Users.class, userId));
-                    n.setWord(word);
-                    n.setCreatedAt(LocalDateTime.now());
-                    n.setStarred("N");
-                    n.setWrongCount(0L);
-                    return n;
-                });
+        if (mergeWrong(Map.of(new WrongKey(userId, wordId), 1)) == 0) {
+            throw new IllegalArgumentException("Word not found: " + wordId);
+        }
+    }
+
+    /** 한 사용자의 여러 단어(시험지 1장) 오답을 MERGE 한 문장으로 기록 */
+    @Transactional
+    public void recordWrongAll(Long userId, Collection<Long> wordIds) {
+        recordWrongAll(wordIds.stream().map(id -> new WrongKey(userId, id)).toList());
+    }
 
-        wn.setWrongCount( (wn.getWrongCount() == null ? 0L : wn.getWrongCount()) + 1 );
-        wn.setLastWrongAt(LocalDateTime.now());
+    /**
+     * 여러 사용자/단어 오답을 MERGE 한 문장으로 기록한다(write-behind 배치용).
+     * 같은 키가 여러 번 들어오면 한 행으로 묶어 횟수만큼 더한다. 삭제된 단어는 건너뛴다.
+     */
+    @Transactional
+    public void recordWrongAll(Collection<WrongKey> keys) {
+        Map<WrongKey, Integer> counts = new LinkedHashMap<>();
+        for (WrongKey k : keys) counts.merge(k, 1, Integer::sum);
+        if (!counts.isEmpty()) mergeWrong(counts);
+    }
+
+    /**
+     * 맞힌 단어의 복습 점수를 낮춘다(오답노트에 있는 단어만 해당). 배치 UPDATE 1회.
+     * 다음 오답이 기록되면 점수는 그 시점 기준으로 다시 계산된다.
+     */
+    @Transactional
+    public void recordCorrectAll(Collection<WrongKey> keys) {
+        List<WrongKey> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        if (distinct.isEmpty()) return;
+        jdbcTemplate.batchUpdate(
+                "UPDATE wrong_note SET review_score = review_score - " + ReviewScore.CORRECT_PENALTY
+                        + " WHERE user_id = ? AND word_id = ?",
+                distinct, distinct.size(),
+                (ps, k) -> {
+                    ps.setLong(1, k.userId());
+                    ps.setLong(2, k.wordId());
+                });
+    }
 
-        wrongNoteRepository.save(wn);
+    /** @return MERGE로 생성/갱신된 행 수 */
+    private int mergeWrong(Map<WrongKey, Integer> counts) {
+        StringBuilder source = new StringBuilder();
+        List<Object> args = new ArrayList<>(counts.size() * 3 + 3);
+        for (Map.Entry<WrongKey, Integer> e : counts.entrySet()) {
+            source.append(source.isEmpty()
+                    ? "SELECT CAST(? AS NUMBER(19)) user_id, CAST(? AS NUMBER(19)) word_id, CAST(? AS NUMBER(10)) cnt FROM dual"
+                    : " UNION ALL SELECT ?, ?, ? FROM dual");
+            args.add(e.getKey().userId());
+            args.add(e.getKey().wordId());
+            args.add(e.getValue());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        long nowHours = ReviewScore.epochHours(now);
+        args.add(now);      // last_wrong_at (update)
+        args.add(nowHours); // review_score (update)
+        args.add(now);      // created_at
+        args.add(now);      // last_wrong_at (insert)
+        args.add(nowHours); // review_score (insert)
+
+        String sql = """
+                MERGE INTO wrong_note t
+                USING (SELECT s.user_id, s.word_id, s.cnt
+                         FROM (%1$s) s JOIN word w ON w.word_id = s.word_id) src
+                ON (t.user_id = src.user_id AND t.word_id = src.word_id)
+                WHEN MATCHED THEN UPDATE SET
+                     t.wrong_count = NVL(t.wrong_count, 0) + src.cnt,
+                     t.last_wrong_at = ?,
+                     t.review_score = ? + %2$d * (NVL(t.wrong_count, 0) + src.cnt)
+                                        + CASE WHEN t.starred = 'Y' THEN %3$d ELSE 0 END
+                WHEN NOT MATCHED THEN INSERT
+                     (note_id, user_id, word_id, starred, created_at, wrong_count, last_wrong_at, review_score)
+                     VALUES (seq_note_id.NEXTVAL, src.user_id, src.word_id, 'N', ?, src.cnt, ?, ? + %2$d * src.cnt)
+                """.formatted(source, ReviewScore.WRONG_WEIGHT, ReviewScore.STAR_BONUS);
+
+        // 두 트랜잭션이 동시에 NOT MATCHED → INSERT 하면 한쪽은 uq_wrong_note_user_word 에 걸린다.
+        // 문장 단위로 롤백되므로 다시 실행하면 MATCHED 로 처리된다.
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return jdbcTemplate.update(sql, args.toArray());
+            } catch (DuplicateKeyException e) {
+                if (attempt >= MERGE_RETRIES) throw e;
+            }
+        }
     }
 
     /* -------------------- CRUD: 수정/삭제/토글/별표 리스트 -------------------- */
@@ -155,9 +263,15 @@ public class WrongNoteService {
         }
 
         wn.setNote(noteContent);
-        if (starred != null) wn.setStarred(starred);
-
-        WrongNote saved = wrongNoteRepository.save(wn);
+        // 별표 UPDATE 가 영속성 컨텍스트를 비우므로 메모 변경을 먼저 내보낸다
+        WrongNote saved = wrongNoteRepository.saveAndFlush(wn);
+
+        if (starred != null && !starred.equals(saved.getStarred())) {
+            // 별표는 setStarred / toggleStar 와 같은 UPDATE 로 바꾼다 (복습 점수 ± STAR_BONUS)
+            wrongNoteRepository.updateStarredByNoteIdAndUserId(noteId, userId, starred);
+            saved = wrongNoteRepository.findById(noteId)
+                    .orElseThrow(() -> new IllegalArgumentException("WrongNote not found after update: " + noteId));
+        }
         return toDto(saved);
     }
 
@@ -0,0 +1,62 @@
+package com.toke.toke_project.service.model;
+
+import com.toke.toke_project.domain.Word;
+import com.toke.toke_project.util.HangulUtil;
+
+import java.time.LocalDateTime;
+
+/**
+ * 단어 카탈로그 스냅샷에 들어가는 불변 단어 1건 (엔티티와 분리된 읽기 전용 사본).
+ * 그룹/정렬 컬럼(ko/ja group, vowel index, createdAt)은 /words 검색 정렬용, koChoseong 은 초성 검색용.
+ */
+public record CatalogWord(
+        Long id,
+        String japaneseWord,
+        String readingKana,
+        String koreanMeaning,
+        String category,
+        String exampleSentenceJp,
+        String koGroup,
+        Integer koVowelIndex,
+        String jaGroup,
+        Integer jaVowelIndex,
+        LocalDateTime createdAt,
+        String koChoseong
+) {
+    /** 퀴즈 출제에 필요한 필드만 있는 사본 (그룹/정렬 컬럼 없음, 초성 키는 뜻에서 계산) */
+    public CatalogWord(Long id, String japaneseWord, String readingKana, String koreanMeaning,
+                       String category, String exampleSentenceJp) {
+        this(id, japaneseWord, readingKana, koreanMeaning, category, exampleSentenceJp,
+                null, null, null, null, null, HangulUtil.choseongOf(koreanMeaning));
+    }
+
+    /** 모드별 정답/보기 텍스트 (JP_TO_KR → 한국어 뜻, KR_TO_JP → 일본어) */
+    public String optionText(QuestionMode mode) {
+        return (mode == QuestionMode.KR_TO_JP) ? japaneseWord : koreanMeaning;
+    }
+
+    /** 모드별 문제 문구 */
+    public String promptText(QuestionMode mode) {
+        return (mode == QuestionMode.KR_TO_JP)
+                ? "'" + koreanMeaning + "'에 해당하는 일본어는?"
+                : "'" + japaneseWord + "'란 무슨 뜻입니까?";
+    }
+
+    public static CatalogWord of(Word w) {
+        return new CatalogWord(
+                w.getId(),
+                w.getJapaneseWord(),
+                w.getReadingKana(),
+                w.getKoreanMeaning(),
+                w.getCategory(),
+                w.getExampleSentenceJp(),
+                w.getKoGroup(),
+                w.getKoVowelIndex(),
+                w.getJaGroup(),
+                w.getJaVowelIndex(),
+                w.getCreatedAt(),
+                // 컬럼이 아직 채워지지 않은 행(백필 전)은 뜻에서 바로 계산
+                w.getKoChoseong() != null ? w.getKoChoseong() : HangulUtil.choseongOf(w.getKoreanMeaning())
+        );
+    }
+}
@@ -0,0 +1,73 @@
+package com.toke.toke_project.service.model;
+
+/**
+ * 캐시에 저장되는 압축형 시험지(정답 포함).
+ * 문구/보기 텍스트는 저장하지 않고 word id만 기본형 배열로 들고 있다가,
+ * 필요할 때 단어 카탈로그에서 다시 렌더링한다(QuizPaperCodec).
+ *
+ * - wordIds[i]                       : i번 문항의 정답 단어
+ * - optionWordIds[i * SLOTS + j]     : i번 문항 j번 보기의 단어 (빈 칸은 0)
+ * - answerIndexes[i]                 : i번 문항 정답 보기 번호
+ * - texts[i * (SLOTS + 1)]           : i번 문항 문구, 이어서 보기 SLOTS 칸 (빈 칸은 null)
+ *
+ * texts 는 여러 노드가 함께 쓰는 저장소(jdbc, two-tier)에만 채운다. 다른 노드의 카탈로그에는
+ * 아직 없는(또는 바뀐) 단어가 있을 수 있으므로, 출제 때 보여준 문구를 그대로 들고 가서 카탈로그 없이 복원한다.
+ * 로컬 저장소는 null (id만, 같은 노드의 카탈로그로 렌더링).
+ */
+public record CompactQuizPaper(
+        String quizId,
+        String category,
+        QuestionMode mode,
+        long[] wordIds,
+        long[] optionWordIds,
+        byte[] answerIndexes,
+        String[] texts
+) {
+    /** 문항당 보기 칸 수 */
+    public static final int SLOTS = 4;
+
+    /** 렌더링 문구 없이 id만 (로컬 저장소) */
+    public CompactQuizPaper(String quizId, String category, QuestionMode mode,
+                            long[] wordIds, long[] optionWordIds, byte[] answerIndexes) {
+        this(quizId, category, mode, wordIds, optionWordIds, answerIndexes, null);
+    }
+
+    public boolean hasTexts() {
+        return texts != null;
+    }
+
+    public int size() {
+        return wordIds.length;
+    }
+
+    /**
+     * 힙 점유량 추정치(바이트) — Caffeine weigher용.
+     * 64bit JVM(compressed oops) 기준: 객체 헤더 12~16B, 배열 헤더 16B, 문자열 = 헤더 + byte[]
+     */
+    public int estimatedBytes() {
+        return 32                                   // record 본체 (헤더 + 참조 7개)
+                + 16 + 8 * wordIds.length
+                + 16 + 8 * optionWordIds.length
+                + align(16 + answerIndexes.length)
+                + stringBytes(quizId)
+                + stringBytes(category)
+                + textBytes();
+    }
+
+    private int textBytes() {
+        if (texts == null) return 0;
+        int bytes = 16 + 4 * texts.length;
+        for (String t : texts) bytes += stringBytes(t);
+        return bytes;
+    }
+
+    static int stringBytes(String s) {
+        if (s == null) return 0;
+        boolean latin1 = s.chars().allMatch(c -> c < 256);
+        return 24 + align(16 + s.length() * (latin1 ? 1 : 2));
+    }
+
+    private static int align(int n) {
+        return (n + 7) & ~7;
+    }
+}
@@ -0,0 +1,229 @@
+package com.toke.toke_project.service.model;
+
+import com.toke.toke_project.util.SearchNormalizer;
+
+import java.io.ByteArrayOutputStream;
+import java.util.*;
+
+/**
+ * 단어 검색용 불변 역색인 (LIKE '%q%' 대체).
+ *
+ * 색인어:
+ * - 검색 키(일본어/읽기/한국어 뜻을 SearchNormalizer 로 정규화해 이은 문자열)의
+ *   글자 1-gram, 2-gram (필드 경계를 넘지 않음)
+ * - 한국어 뜻 초성 키(CatalogWord.koChoseong)의 1-gram, 2-gram (초성 검색용, 별도 접두 문자)
+ * - 필터용 패싯: 카테고리(정확히 일치), 한글 그룹, 가나 그룹
+ *
+ * 포스팅 리스트는 오름차순 word id 의 차이값을 varint 로 압축한 byte[] 이다.
+ * 2-gram 교집합은 후보일 뿐이므로(예: "abc" 는 "ab","bc" 가 따로 있어도 걸림)
+ * 호출자가 검색 키에 실제로 포함되는지 확인한다.
+ */
+public final class NgramIndex {
+
+    private static final long[] EMPTY = new long[0];
+    private static final char FACET = '\u0001';
+
+    /** 압축 포스팅 (count = id 개수) */
+    private record Postings(byte[] data, int count) {}
+
+    private final Map<String, Postings> postings;
+    private final long bytes;
+
+    private NgramIndex(Map<String, Postings> postings) {
+        this.postings = postings;
+        long b = 0;
+        for (Map.Entry<String, Postings> e : postings.entrySet()) {
+            b += e.getValue().data().length + e.getKey().length() * 2L + 64; // 항목당 대략의 객체 오버헤드 포함
+        }
+        this.bytes = b;
+    }
+
+    public static NgramIndex empty() {
+        return new NgramIndex(Map.of());
+    }
+
+    /** @param searchKeys word id → searchKey(word) (WordCatalog 가 미리 계산해 둔 값) */
+    public static NgramIndex build(Collection<CatalogWord> words, Map<Long, String> searchKeys) {
+        // id 오름차순으로 넣으면 포스팅이 자연히 정렬된다
+        List<CatalogWord> sorted = new ArrayList<>(words);
+        sorted.sort(Comparator.comparing(CatalogWord::id));
+
+        Map<String, LongBuffer> raw = new HashMap<>();
+        Set<String> terms = new HashSet<>();
+        for (CatalogWord w : sorted) {
+            terms.clear();
+            termsOf(w, searchKeys.get(w.id()), terms);
+            long id = w.id();
+            for (String t : terms) {
+                raw.computeIfAbsent(t, k -> new LongBuffer()).add(id);
+            }
+        }
+
+        Map<String, Postings> map = new HashMap<>(raw.size() * 2);
+        raw.forEach((t, ids) -> map.put(t, new Postings(encode(ids.values, ids.size), ids.size)));
+        return new NgramIndex(Collections.unmodifiableMap(map));
+    }
+
+    /** 단어 1건의 색인어 (검색어/패싯 모두) */
+    static void termsOf(CatalogWord w, String searchKey, Set<String> out) {
+        addGrams(searchKey, out);
+        if (w.koChoseong() != null) {
+            for (String g : gramsOf(w.koChoseong())) out.add(choseongTerm(g));
+        }
+        if (w.category() != null) out.add(categoryTerm(w.category()));
+        if (w.koGroup() != null) out.add(koGroupTerm(w.koGroup()));
+        if (w.jaGroup() != null) out.add(jaGroupTerm(w.jaGroup()));
+    }
+
+    private static void addGrams(String s, Set<String> out) {
+        if (s == null) return;
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) == SearchNormalizer.FIELD_SEP) continue;
+            out.add(s.substring(i, i + 1));
+            if (i + 1 < s.length() && s.charAt(i + 1) != SearchNormalizer.FIELD_SEP) out.add(s.substring(i, i + 2));
+        }
+    }
+
+    /**
+     * 단어의 검색 키: 세 필드를 각각 정규화해 FIELD_SEP 로 잇는다.
+     * 정규화된 검색어에는 FIELD_SEP 가 없으므로 key.contains(q) 는 "어느 한 필드에 포함"과 같다.
+     */
+    public static String searchKey(CatalogWord w) {
+        StringBuilder sb = new StringBuilder();
+        appendField(w.japaneseWord(), sb);
+        sb.append(SearchNormalizer.FIELD_SEP);
+        appendField(w.readingKana(), sb);
+        sb.append(SearchNormalizer.FIELD_SEP);
+        appendField(w.koreanMeaning(), sb);
+        return sb.toString();
+    }
+
+    private static void appendField(String field, StringBuilder sb) {
+        if (field != null) SearchNormalizer.normalize(field, sb);
+    }
+
+    private static List<String> gramsOf(String s) {
+        List<String> out = new ArrayList<>(s.length() * 2);
+        for (int i = 0; i < s.length(); i++) {
+            out.add(s.substring(i, i + 1));
+            if (i + 1 < s.length()) out.add(s.substring(i, i + 2));
+        }
+        return out;
+    }
+
+    public static String categoryTerm(String category) { return FACET + "c" + category; }
+    private static String choseongTerm(String gram) { return FACET + "h" + gram; }
+    public static String koGroupTerm(String group) { return FACET + "k" + group; }
+    public static String jaGroupTerm(String group) { return FACET + "j" + group; }
+
+    /** 정규화된 검색어의 색인어: 1글자면 1-gram, 아니면 서로 다른 2-gram 전부 (빈 문자열이면 없음) */
+    public static List<String> queryTerms(String key) {
+        if (key.length() <= 1) return key.isEmpty() ? List.of() : List.of(key);
+        LinkedHashSet<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < key.length(); i++) grams.add(key.substring(i, i + 2));
+        return new ArrayList<>(grams);
+    }
+
+    /** 초성 검색어(HangulUtil.choseongOf 결과)의 색인어 */
+    public static List<String> choseongQueryTerms(String choseong) {
+        List<String> terms = new ArrayList<>();
+        for (String g : queryTerms(choseong)) terms.add(choseongTerm(g));
+        return terms;
+    }
+
+    /**
+     * 모든 색인어를 가진 id (오름차순). 짧은 리스트부터 교집합하므로
+     * 비용은 가장 짧은 포스팅 길이에 비례한다. terms 가 비어 있으면 null(= 제한 없음).
+     */
+    public long[] intersect(Collection<String> terms) {
+        if (terms.isEmpty()) return null;
+        List<Postings> lists = new ArrayList<>(terms.size());
+        for (String t : terms) {
+            Postings p = postings.get(t);
+            if (p == null) return EMPTY;
+            lists.add(p);
+        }
+        lists.sort(Comparator.comparingInt(Postings::count));
+
+        long[] acc = decode(lists.get(0));
+        for (int i = 1; i < lists.size() && acc.length > 0; i++) {
+            acc = intersect(acc, lists.get(i));
+        }
+        return acc;
+    }
+
+    public int termCount() { return postings.size(); }
+
+    /** 포스팅 + 키의 대략적인 메모리 (bytes) */
+    public long estimatedBytes() { return bytes; }
+
+    /* ---------------- 포스팅 인코딩 ---------------- */
+
+    private static byte[] encode(long[] ids, int n) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(n + 4);
+        long prev = 0;
+        for (int i = 0; i < n; i++) {
+            long gap = ids[i] - prev;
+            prev = ids[i];
+            while ((gap & ~0x7FL) != 0) {
+                out.write((int) ((gap & 0x7F) | 0x80));
+                gap >>>= 7;
+            }
+            out.write((int) gap);
+        }
+        return out.toByteArray();
+    }
+
+    private static long[] decode(Postings p) {
+        long[] ids = new long[p.count()];
+        byte[] d = p.data();
+        int pos = 0;
+        long prev = 0;
+        for (int i = 0; i < ids.length; i++) {
+            long gap = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = d[pos++];
+                gap |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            prev += gap;
+            ids[i] = prev;
+        }
+        return ids;
+    }
+
+    /** 정렬된 acc 와 압축 포스팅의 교집합 (포스팅은 풀지 않고 순차 디코딩) */
+    private static long[] intersect(long[] acc, Postings p) {
+        long[] out = new long[acc.length];
+        int n = 0, ai = 0, pos = 0;
+        byte[] d = p.data();
+        long cur = 0;
+        for (int i = 0; i < p.count() && ai < acc.length; i++) {
+            long gap = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = d[pos++];
+                gap |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            cur += gap;
+            while (ai < acc.length && acc[ai] < cur) ai++;
+            if (ai < acc.length && acc[ai] == cur) out[n++] = acc[ai++];
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /** 빌드용 가변 long 배열 */
+    private static final class LongBuffer {
+        long[] values = new long[4];
+        int size;
+
+        void add(long v) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = v;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.toke.toke_project.service.model;
+
+import com.toke.toke_project.util.SearchNormalizer;
+
+import java.util.*;
+
+/**
+ * 자동완성용 불변 접두어 색인.
+ *
+ * 색인어: 검색 키(NgramIndex.searchKey)의 각 필드, 그리고 한국어 뜻처럼 "회의, 미팅" 으로
+ * 나열된 필드는 구분자(, 、 ; /) 뒤부터 시작하는 부분도 따로 넣는다.
+ *
+ * (색인어, word id)를 정렬해 16개 단위 블록으로 front coding 한 char[] 에 담는다.
+ * 블록 첫 항목만 전체 문자열, 나머지는 (앞 항목과 겹치는 길이, 나머지 글자)이므로
+ * 정렬된 trie 를 한 줄로 편 것과 같은 구조이고, 조회는 블록 이진 탐색 + 블록 안 순차 복원이다.
+ * 완성 순서는 색인어 사전순(짧은 완전 일치가 먼저)이다.
+ */
+public final class PrefixSuggester {
+
+    private static final int BLOCK = 16;
+
+    /** (색인어, word id) 1건 — 조회 결과 병합용 */
+    public record Entry(String term, long wordId) {}
+
+    private final char[] data;
+    private final int[] blockStarts;
+    private final long[] ids;
+
+    private PrefixSuggester(char[] data, int[] blockStarts, long[] ids) {
+        this.data = data;
+        this.blockStarts = blockStarts;
+        this.ids = ids;
+    }
+
+    public static PrefixSuggester empty() {
+        return new PrefixSuggester(new char[0], new int[0], new long[0]);
+    }
+
+    /** @param searchKeys word id → NgramIndex.searchKey(word) */
+    public static PrefixSuggester build(Map<Long, String> searchKeys) {
+        List<Entry> entries = new ArrayList<>(searchKeys.size() * 3);
+        searchKeys.forEach((id, key) -> {
+            for (String t : termsOf(key)) entries.add(new Entry(t, id));
+        });
+        entries.sort(Comparator.comparing(Entry::term).thenComparingLong(Entry::wordId));
+
+        int n = entries.size();
+        StringBuilder sb = new StringBuilder();
+        int[] starts = new int[(n + BLOCK - 1) / BLOCK];
+        long[] idArr = new long[n];
+        String prev = "";
+        for (int i = 0; i < n; i++) {
+            String t = entries.get(i).term();
+            idArr[i] = entries.get(i).wordId();
+            if (i % BLOCK == 0) {
+                starts[i / BLOCK] = sb.length();
+                sb.append((char) t.length()).append(t);
+            } else {
+                int shared = sharedPrefix(prev, t);
+                sb.append((char) shared).append((char) (t.length() - shared)).append(t, shared, t.length());
+            }
+            prev = t;
+        }
+        char[] packed = new char[sb.length()];
+        sb.getChars(0, sb.length(), packed, 0);
+        return new PrefixSuggester(packed, starts, idArr);
+    }
+
+    /** 검색 키에서 자동완성 색인어를 뽑는다 (빈 필드 제외) */
+    public static List<String> termsOf(String searchKey) {
+        List<String> out = new ArrayList<>(4);
+        int fieldStart = 0;
+        for (int i = 0; i <= searchKey.length(); i++) {
+            if (i == searchKey.length() || searchKey.charAt(i) == SearchNormalizer.FIELD_SEP) {
+                addField(searchKey, fieldStart, i, out);
+                fieldStart = i + 1;
+            }
+        }
+        return out;
+    }
+
+    private static void addField(String key, int from, int to, List<String> out) {
+        int start = skipSpaces(key, from, to);
+        if (start < to) out.add(key.substring(start, to));
+        for (int i = from; i < to; i++) {
+            char c = key.charAt(i);
+            if (c == ',' || c == '、' || c == ';' || c == '/') {
+                int s = skipSpaces(key, i + 1, to);
+                if (s < to) out.add(key.substring(s, to));
+            }
+        }
+    }
+
+    private static int skipSpaces(String s, int from, int to) {
+        while (from < to && Character.isWhitespace(s.charAt(from))) from++;
+        return from;
+    }
+
+    private static int sharedPrefix(String a, String b) {
+        int n = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < n && a.charAt(i) == b.charAt(i)) i++;
+        return i;
+    }
+
+    /**
+     * prefix 로 시작하는 색인어를 사전순으로 돌려준다.
+     * skip 에 해당하는 id 는 건너뛰고, 서로 다른 word id 가 limit 개 모이면 멈춘다.
+     */
+    public List<Entry> complete(String prefix, int limit, Set<Long> skip) {
+        List<Entry> out = new ArrayList<>(Math.min(limit, 16));
+        if (limit <= 0 || ids.length == 0) return out;
+        Set<Long> seen = new HashSet<>();
+
+        char[] buf = new char[64];
+        int len = 0, pos = 0;
+        for (int i = firstBlock(prefix) * BLOCK; i < ids.length; i++) {
+            // 항목 복원
+            if (i % BLOCK == 0) {
+                pos = blockStarts[i / BLOCK];
+                len = data[pos++];
+                buf = ensure(buf, len);
+                System.arraycopy(data, pos, buf, 0, len);
+                pos += len;
+            } else {
+                int shared = data[pos++];
+                int rest = data[pos++];
+                buf = ensure(buf, shared + rest);
+                System.arraycopy(data, pos, buf, shared, rest);
+                pos += rest;
+                len = shared + rest;
+            }
+
+            int cmp = comparePrefix(buf, len, prefix);
+            if (cmp < 0) continue;   // 아직 범위 전
+            if (cmp > 0) break;      // 범위를 지남
+            long id = ids[i];
+            if (skip.contains(id) || !seen.add(id)) continue;
+            out.add(new Entry(new String(buf, 0, len), id));
+            if (out.size() >= limit) break;
+        }
+        return out;
+    }
+
+    /**
+     * 첫 항목이 prefix 보다 작은 마지막 블록 (없으면 0).
+     * 같은 색인어가 블록 경계에 걸쳐 있어도 앞쪽 블록부터 읽도록 "작다"로 비교한다.
+     */
+    private int firstBlock(String prefix) {
+        int lo = 0, hi = blockStarts.length - 1, ans = 0;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int p = blockStarts[mid];
+            int len = data[p];
+            if (compare(data, p + 1, len, prefix) < 0) {
+                ans = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return ans;
+    }
+
+    /** 사전순 비교 (String.compareTo 와 같음) */
+    private static int compare(char[] a, int off, int len, String b) {
+        int n = Math.min(len, b.length());
+        for (int i = 0; i < n; i++) {
+            char x = a[off + i], y = b.charAt(i);
+            if (x != y) return x - y;
+        }
+        return len - b.length();
+    }
+
+    /** term 이 prefix 로 시작하면 0, prefix 범위보다 앞이면 음수, 뒤면 양수 */
+    private static int comparePrefix(char[] term, int len, String prefix) {
+        int n = Math.min(len, prefix.length());
+        for (int i = 0; i < n; i++) {
+            char x = term[i], y = prefix.charAt(i);
+            if (x != y) return x - y;
+        }
+        return (len < prefix.length()) ? -1 : 0;
+    }
+
+    private static char[] ensure(char[] buf, int len) {
+        return (len <= buf.length) ? buf : Arrays.copyOf(buf, Math.max(len, buf.length * 2));
+    }
+
+    public int entryCount() { return ids.length; }
+
+    /** 색인 배열의 메모리 (bytes) */
+    public long estimatedBytes() {
+        return data.length * 2L + blockStarts.length * 4L + ids.length * 8L;
+    }
+}
@@ -0,0 +1,157 @@
+package com.toke.toke_project.service.model;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * QuizPaper ↔ CompactQuizPaper 변환.
+ * encode는 id만 남기고, decode는 주어진 단어 카탈로그로 문구/보기를 다시 만든다.
+ * encode(paper, true)는 렌더링 문구도 함께 담아, decode가 카탈로그 없이 출제 당시 그대로 복원한다
+ * (노드마다 카탈로그가 다를 수 있는 공유 저장소용).
+ */
+public final class QuizPaperCodec {
+
+    /** 직렬화 포맷 버전 (필드 구성이 바뀌면 올린다). 1: id만, 2: + 렌더링 문구(있으면) */
+    private static final byte FORMAT_VERSION = 2;
+
+    private QuizPaperCodec() {}
+
+    public static CompactQuizPaper encode(QuizPaper paper) {
+        return encode(paper, false);
+    }
+
+    /** @param withTexts 문구/보기 텍스트도 담는다 (여러 노드가 함께 쓰는 저장소) */
+    public static CompactQuizPaper encode(QuizPaper paper, boolean withTexts) {
+        List<QuizQuestion> qs = paper.questions();
+        int n = qs.size();
+        int stride = CompactQuizPaper.SLOTS + 1;
+        long[] wordIds = new long[n];
+        long[] optionIds = new long[n * CompactQuizPaper.SLOTS];
+        byte[] answers = new byte[n];
+        String[] texts = withTexts ? new String[n * stride] : null;
+
+        for (int i = 0; i < n; i++) {
+            QuizQuestion q = qs.get(i);
+            wordIds[i] = q.quizId();
+            List<Long> ids = q.optionWordIds();
+            for (int j = 0; j < ids.size() && j < CompactQuizPaper.SLOTS; j++) {
+                optionIds[i * CompactQuizPaper.SLOTS + j] = ids.get(j);
+                if (texts != null) texts[i * stride + 1 + j] = q.options().get(j);
+            }
+            if (texts != null) texts[i * stride] = q.prompt();
+            answers[i] = (byte) q.answerIndex();
+        }
+        return new CompactQuizPaper(paper.quizId(), paper.category(), paper.mode(), wordIds, optionIds, answers, texts);
+    }
+
+    /**
+     * @return 렌더링된 시험지. 문구가 없고(id만) 출제 후 단어가 삭제되어 렌더링할 수 없으면 null
+     */
+    public static QuizPaper decode(CompactQuizPaper c, WordCatalog catalog) {
+        if (c.hasTexts()) return decodeTexts(c);
+        int n = c.size();
+        List<QuizQuestion> questions = new ArrayList<>(n);
+
+        for (int i = 0; i < n; i++) {
+            CatalogWord target = catalog.get(c.wordIds()[i]);
+            if (target == null) return null;
+
+            List<String> options = new ArrayList<>(CompactQuizPaper.SLOTS);
+            List<Long> optionIds = new ArrayList<>(CompactQuizPaper.SLOTS);
+            for (int j = 0; j < CompactQuizPaper.SLOTS; j++) {
+                long id = c.optionWordIds()[i * CompactQuizPaper.SLOTS + j];
+                if (id == 0) break;
+                CatalogWord o = catalog.get(id);
+                if (o == null) return null;
+                options.add(o.optionText(c.mode()));
+                optionIds.add(id);
+            }
+            questions.add(new QuizQuestion(target.id(), target.promptText(c.mode()),
+                    options, optionIds, c.answerIndexes()[i]));
+        }
+        return new QuizPaper(c.quizId(), c.category(), c.mode(), questions);
+    }
+
+    /** 담아 둔 문구로 복원 (카탈로그를 보지 않는다) */
+    private static QuizPaper decodeTexts(CompactQuizPaper c) {
+        int n = c.size();
+        int stride = CompactQuizPaper.SLOTS + 1;
+        String[] texts = c.texts();
+        List<QuizQuestion> questions = new ArrayList<>(n);
+
+        for (int i = 0; i < n; i++) {
+            List<String> options = new ArrayList<>(CompactQuizPaper.SLOTS);
+            List<Long> optionIds = new ArrayList<>(CompactQuizPaper.SLOTS);
+            for (int j = 0; j < CompactQuizPaper.SLOTS; j++) {
+                long id = c.optionWordIds()[i * CompactQuizPaper.SLOTS + j];
+                if (id == 0) break;
+                options.add(texts[i * stride + 1 + j]);
+                optionIds.add(id);
+            }
+            questions.add(new QuizQuestion(c.wordIds()[i], texts[i * stride], options, optionIds, c.answerIndexes()[i]));
+        }
+        return new QuizPaper(c.quizId(), c.category(), c.mode(), questions);
+    }
+
+    /** 외부 저장소(JDBC 등)용 바이너리 직렬화 */
+    public static byte[] toBytes(CompactQuizPaper c) {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream(64 + c.size() * 48);
+        try (DataOutputStream out = new DataOutputStream(buf)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeUTF(c.quizId() == null ? "" : c.quizId());
+            out.writeUTF(c.category() == null ? "" : c.category());
+            out.writeByte(c.mode().ordinal());
+            out.writeShort(c.size());
+            for (long id : c.wordIds()) out.writeLong(id);
+            for (long id : c.optionWordIds()) out.writeLong(id);
+            out.write(c.answerIndexes());
+            out.writeBoolean(c.hasTexts());
+            if (c.hasTexts()) {
+                for (String t : c.texts()) writeNullable(out, t);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buf.toByteArray();
+    }
+
+    public static CompactQuizPaper fromBytes(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            if (version < 1 || version > FORMAT_VERSION) {
+                throw new IllegalStateException("지원하지 않는 시험지 포맷: " + version);
+            }
+            String quizId = in.readUTF();
+            String category = in.readUTF();
+            QuestionMode mode = QuestionMode.values()[in.readByte()];
+            int n = in.readUnsignedShort();
+
+            long[] wordIds = new long[n];
+            for (int i = 0; i < n; i++) wordIds[i] = in.readLong();
+            long[] optionIds = new long[n * CompactQuizPaper.SLOTS];
+            for (int i = 0; i < optionIds.length; i++) optionIds[i] = in.readLong();
+            byte[] answers = new byte[n];
+            in.readFully(answers);
+            String[] texts = null;
+            if (version >= 2 && in.readBoolean()) {
+                texts = new String[n * (CompactQuizPaper.SLOTS + 1)];
+                for (int i = 0; i < texts.length; i++) texts[i] = readNullable(in);
+            }
+
+            return new CompactQuizPaper(quizId.isEmpty() ? null : quizId,
+                    category.isEmpty() ? null : category, mode, wordIds, optionIds, answers, texts);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String s) throws IOException {
+        out.writeBoolean(s != null);
+        if (s != null) out.writeUTF(s);
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
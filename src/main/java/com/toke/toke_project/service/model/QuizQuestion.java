@@ -7,5 +7,6 @@ public record QuizQuestion(
 		Long quizId,
         String prompt,       // 질문 문구
         List<String> options,// 보기 4개
+        List<Long> optionWordIds, // 보기별 출처 word id (options와 같은 순서)
         int answerIndex      // 0~3
 ) {}
@@ -0,0 +1,31 @@
+package com.toke.toke_project.service.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 오답노트 복습 우선순위 점수 (wrong_note.review_score, 클수록 먼저 복습).
+ *
+ * 점수 = 마지막 오답 시각(epoch 시간 단위) + 오답 1회당 WRONG_WEIGHT + 별표 STAR_BONUS
+ *        - 정답 1회당 CORRECT_PENALTY
+ *
+ * 최근성을 절대 시각으로 담기 때문에 시간이 흘러도 전체 재계산이 필요 없다.
+ * 새 오답이 생기면 그 행만 다시 계산하고, 정답/별표는 증감만 한다.
+ * 단위는 "시간" — 오답 1회 = 3일 더 최근에 틀린 것과 같은 무게.
+ */
+public final class ReviewScore {
+
+    public static final int WRONG_WEIGHT = 72;
+    public static final int STAR_BONUS = 168;
+    public static final int CORRECT_PENALTY = 120;
+
+    private ReviewScore() {}
+
+    public static long epochHours(LocalDateTime at) {
+        return at.toEpochSecond(ZoneOffset.UTC) / 3600;
+    }
+
+    public static long of(LocalDateTime lastWrongAt, long wrongCount, boolean starred) {
+        return epochHours(lastWrongAt) + WRONG_WEIGHT * wrongCount + (starred ? STAR_BONUS : 0);
+    }
+}
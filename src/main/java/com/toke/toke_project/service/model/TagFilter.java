@@ -0,0 +1,49 @@
+package com.toke.toke_project.service.model;
+
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * 단어장 태그 조건 (값은 hashtag.normalized 와 같은 정규화 결과).
+ * - any : 하나라도 붙어 있으면 (OR) — 기존 ?tag= 동작
+ * - all : 모두 붙어 있어야 (AND)
+ * - none: 하나도 붙어 있으면 안 됨 (NOT)
+ */
+public record TagFilter(List<String> any, List<String> all, List<String> none) {
+
+    public static final TagFilter NONE = new TagFilter(List.of(), List.of(), List.of());
+
+    public TagFilter {
+        any = List.copyOf(any);
+        all = List.copyOf(all);
+        none = List.copyOf(none);
+    }
+
+    /**
+     * 요청 파라미터로 만든다. tagMode 가 "all" 이면 tags 를 AND 로, 아니면 OR 로 본다.
+     * normalizer 결과가 빈 값이면 버리고, 중복은 한 번만 남긴다.
+     */
+    public static TagFilter of(List<String> tags, String tagMode, List<String> excludeTags,
+                               UnaryOperator<String> normalizer) {
+        List<String> include = normalize(tags, normalizer);
+        List<String> exclude = normalize(excludeTags, normalizer);
+        if (include.isEmpty() && exclude.isEmpty()) return NONE;
+        return "all".equalsIgnoreCase(tagMode)
+                ? new TagFilter(List.of(), include, exclude)
+                : new TagFilter(include, List.of(), exclude);
+    }
+
+    public boolean isEmpty() {
+        return any.isEmpty() && all.isEmpty() && none.isEmpty();
+    }
+
+    private static List<String> normalize(List<String> raw, UnaryOperator<String> normalizer) {
+        if (raw == null || raw.isEmpty()) return List.of();
+        Set<String> out = new LinkedHashSet<>();
+        for (String s : raw) {
+            String n = normalizer.apply(s);
+            if (n != null && !n.isEmpty()) out.add(n);
+        }
+        return new ArrayList<>(out);
+    }
+}
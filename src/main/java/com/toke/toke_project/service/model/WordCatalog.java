@@ -0,0 +1,306 @@
+package com.toke.toke_project.service.model;
+
+import com.toke.toke_project.util.HangulUtil;
+import com.toke.toke_project.util.SearchNormalizer;
+
+import java.util.*;
+import java.util.random.RandomGenerator;
+
+/**
+ * 단어 테이블 전체의 불변 스냅샷.
+ * - id → CatalogWord
+ * - 정규화된 카테고리 → word id 배열(long[])
+ * - id → 정규화된 검색 키, 검색 색인(n-gram 역색인 + 자동완성 접두어 색인) + 색인 이후 바뀐 id(dirty) 목록
+ * 단어가 바뀌면 새 스냅샷을 만들어 통째로 교체한다(기존 스냅샷은 절대 수정하지 않음).
+ * 역색인은 매번 다시 만들지 않고, 바뀐 단어만 dirty 로 표시해 검색 시 직접 검사한다.
+ *
+ * 비용: withUpsert / withRemoval 은 id 맵 · 검색 키 맵 복사와 카테고리 배열 재작성으로 단어 수에 비례(O(n))한다.
+ * 관리자 화면의 1건 수정용이며, 여러 건을 바꾸는 경로(CSV 가져오기, WordIndexInitializer)는
+ * 건마다 호출하지 않고 끝에 WordCatalogService.reload() 를 한 번 부른다. 건별 수정이 잦아지면
+ * 맵을 영속(persistent) 구조로 바꿔야 한다.
+ */
+public final class WordCatalog {
+
+    private static final long[] EMPTY = new long[0];
+
+    /** 같은 시점의 단어로 함께 만든 검색 색인 묶음 */
+    public record SearchIndex(NgramIndex ngrams, PrefixSuggester prefixes) {
+
+        static SearchIndex build(Collection<CatalogWord> words, Map<Long, String> searchKeys) {
+            return new SearchIndex(NgramIndex.build(words, searchKeys), PrefixSuggester.build(searchKeys));
+        }
+
+        public long estimatedBytes() {
+            return ngrams.estimatedBytes() + prefixes.estimatedBytes();
+        }
+    }
+
+    private final long version;
+    private final Map<Long, CatalogWord> byId;
+    private final long[] allIds;
+    private final Map<String, long[]> idsByCategory;
+    private final Map<Long, String> searchKeys;
+    private final SearchIndex searchIndex;
+    /** 역색인 이후 추가/수정/삭제된 id → 바뀐 시점의 스냅샷 version */
+    private final Map<Long, Long> dirty;
+
+    private WordCatalog(long version, Map<Long, CatalogWord> byId, Map<Long, String> searchKeys,
+                        SearchIndex searchIndex, Map<Long, Long> dirty) {
+        this.version = version;
+        this.byId = byId;
+        this.searchKeys = searchKeys;
+        this.searchIndex = searchIndex;
+        this.dirty = dirty;
+
+        Map<String, List<Long>> grouped = new HashMap<>();
+        long[] all = new long[byId.size()];
+        int i = 0;
+        for (CatalogWord w : byId.values()) {
+            all[i++] = w.id();
+            String key = normalizeCategory(w.category());
+            if (key != null) grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(w.id());
+        }
+        Arrays.sort(all);
+        this.allIds = all;
+
+        Map<String, long[]> cats = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((k, v) -> {
+            long[] arr = v.stream().mapToLong(Long::longValue).sorted().toArray();
+            cats.put(k, arr);
+        });
+        this.idsByCategory = cats;
+    }
+
+    public static WordCatalog empty() {
+        return new WordCatalog(0L, Map.of(), Map.of(),
+                new SearchIndex(NgramIndex.empty(), PrefixSuggester.empty()), Map.of());
+    }
+
+    public static WordCatalog of(long version, Collection<CatalogWord> words) {
+        Map<Long, CatalogWord> map = new HashMap<>(words.size() * 2);
+        for (CatalogWord w : words) {
+            if (w != null && w.id() != null) map.put(w.id(), w);
+        }
+        Map<Long, String> keys = new HashMap<>(map.size() * 2);
+        for (CatalogWord w : map.values()) keys.put(w.id(), NgramIndex.searchKey(w));
+        return new WordCatalog(version, Collections.unmodifiableMap(map), Collections.unmodifiableMap(keys),
+                SearchIndex.build(map.values(), keys), Map.of());
+    }
+
+    /** 1건 추가/수정이 반영된 새 스냅샷 (version + 1). 전체 맵을 복사하므로 O(n) — 클래스 설명 참고 */
+    public WordCatalog withUpsert(CatalogWord w) {
+        Map<Long, CatalogWord> map = new HashMap<>(byId);
+        map.put(w.id(), w);
+        Map<Long, String> keys = new HashMap<>(searchKeys);
+        keys.put(w.id(), NgramIndex.searchKey(w));
+        return new WordCatalog(version + 1, Collections.unmodifiableMap(map), Collections.unmodifiableMap(keys),
+                searchIndex, markDirty(w.id()));
+    }
+
+    /** 1건 삭제가 반영된 새 스냅샷 (version + 1). withUpsert 와 같이 O(n) */
+    public WordCatalog withRemoval(Long wordId) {
+        if (!byId.containsKey(wordId)) return this;
+        Map<Long, CatalogWord> map = new HashMap<>(byId);
+        map.remove(wordId);
+        Map<Long, String> keys = new HashMap<>(searchKeys);
+        keys.remove(wordId);
+        return new WordCatalog(version + 1, Collections.unmodifiableMap(map), Collections.unmodifiableMap(keys),
+                searchIndex, markDirty(wordId));
+    }
+
+    /**
+     * builtVersion 시점의 단어로 새로 만든 역색인으로 교체한 스냅샷 (version 은 그대로).
+     * 색인 작성 중(builtVersion 이후)에 바뀐 id 만 dirty 로 남긴다.
+     */
+    public WordCatalog withSearchIndex(SearchIndex index, long builtVersion) {
+        Map<Long, Long> left = new HashMap<>();
+        dirty.forEach((id, v) -> {
+            if (v > builtVersion) left.put(id, v);
+        });
+        return new WordCatalog(version, byId, searchKeys, index, Collections.unmodifiableMap(left));
+    }
+
+    private Map<Long, Long> markDirty(Long wordId) {
+        Map<Long, Long> d = new HashMap<>(dirty);
+        d.put(wordId, version + 1);
+        return Collections.unmodifiableMap(d);
+    }
+
+    public long version() { return version; }
+
+    public int size() { return allIds.length; }
+
+    /** 역색인 이후 바뀌어 검색 시 직접 검사하는 단어 수 */
+    public int dirtyCount() { return dirty.size(); }
+
+    public SearchIndex searchIndex() { return searchIndex; }
+
+    /** 이 스냅샷의 단어로 역색인을 새로 만든다 (수 초 걸릴 수 있으니 백그라운드에서 호출) */
+    public SearchIndex buildSearchIndex() {
+        return SearchIndex.build(byId.values(), searchKeys);
+    }
+
+    public CatalogWord get(Long wordId) {
+        return wordId == null ? null : byId.get(wordId);
+    }
+
+    /** 카테고리(null이면 전체)에 속한 id 배열. 반환 배열은 수정하면 안 된다. */
+    public long[] idsOf(String category) {
+        if (category == null) return allIds;
+        long[] ids = idsByCategory.get(normalizeCategory(category));
+        return ids == null ? EMPTY : ids;
+    }
+
+    /**
+     * /words 검색: 일본어/읽기/한국어 뜻 부분 일치 + 카테고리/그룹 정확히 일치. 오름차순 id 로 돌려준다.
+     * 검색어와 단어 모두 SearchNormalizer 로 정규화해 비교하므로 전각/반각, 가타카나/히라가나,
+     * 장음, 대소문자 차이는 무시되고, 로마자 검색어는 가나로 바꾼 후보도 함께 찾는다.
+     * 자음 자모로만 된 검색어(ㅎㅇ)는 한국어 뜻의 초성 검색으로 처리한다.
+     * 비어 있는(null, "") 조건은 무시한다.
+     *
+     * 역색인 후보(바뀐 id 제외)는 검색 키로 다시 확인하고, 바뀐 id 는 현재 단어로 직접 검사한다.
+     */
+    public long[] search(String q, String category, String koGroup, String jaGroup) {
+        String cat = isEmpty(category) ? null : category;
+        String ko = isEmpty(koGroup) ? null : koGroup;
+        String ja = isEmpty(jaGroup) ? null : jaGroup;
+
+        if (isEmpty(q)) return searchKey(null, false, cat, ko, ja);
+        if (HangulUtil.isChoseongQuery(q)) {
+            return searchKey(HangulUtil.choseongOf(q), true, cat, ko, ja);
+        }
+        List<String> keys = SearchNormalizer.queryKeys(q);
+        long[] result = searchKey(keys.get(0), false, cat, ko, ja);
+        for (int i = 1; i < keys.size(); i++) {
+            result = union(result, searchKey(keys.get(i), false, cat, ko, ja));
+        }
+        return result;
+    }
+
+    /** @param choseong true 면 key 는 초성 키이고 한국어 뜻의 초성과 비교한다 */
+    private long[] searchKey(String key, boolean choseong, String category, String koGroup, String jaGroup) {
+        List<String> terms = new ArrayList<>();
+        if (key != null) terms.addAll(choseong ? NgramIndex.choseongQueryTerms(key) : NgramIndex.queryTerms(key));
+        if (category != null) terms.add(NgramIndex.categoryTerm(category));
+        if (koGroup != null) terms.add(NgramIndex.koGroupTerm(koGroup));
+        if (jaGroup != null) terms.add(NgramIndex.jaGroupTerm(jaGroup));
+        if (terms.isEmpty()) return allIds;
+
+        long[] candidates = searchIndex.ngrams().intersect(terms);
+        long[] out = new long[candidates.length + dirty.size()];
+        int n = 0;
+        for (long id : candidates) {
+            if (dirty.containsKey(id)) continue;
+            CatalogWord w = byId.get(id);
+            if (w != null && accepts(w, key, choseong, category, koGroup, jaGroup)) out[n++] = id;
+        }
+        for (Long id : dirty.keySet()) {
+            CatalogWord w = byId.get(id);
+            if (w != null && accepts(w, key, choseong, category, koGroup, jaGroup)) out[n++] = id;
+        }
+        long[] result = Arrays.copyOf(out, n);
+        if (!dirty.isEmpty()) Arrays.sort(result);
+        return result;
+    }
+
+    private boolean accepts(CatalogWord w, String key, boolean choseong,
+                            String category, String koGroup, String jaGroup) {
+        return (key == null || (choseong
+                        ? w.koChoseong() != null && w.koChoseong().contains(key)
+                        : searchKeys.get(w.id()).contains(key)))
+                && (category == null || category.equals(w.category()))
+                && (koGroup == null || koGroup.equals(w.koGroup()))
+                && (jaGroup == null || jaGroup.equals(w.jaGroup()));
+    }
+
+    /** 정렬된 두 id 배열의 합집합 */
+    private static long[] union(long[] a, long[] b) {
+        long[] out = new long[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) out[n++] = a[i++];
+            else if (a[i] > b[j]) out[n++] = b[j++];
+            else { out[n++] = a[i++]; j++; }
+        }
+        while (i < a.length) out[n++] = a[i++];
+        while (j < b.length) out[n++] = b[j++];
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * 자동완성: 일본어/읽기/한국어 뜻(나열된 뜻은 각각) 중 prefix 로 시작하는 단어 최대 limit 개.
+     * 정규화는 search 와 같고, 로마자 입력은 가나 변환 결과의 완성을 뒤에 덧붙인다.
+     * 순서는 일치한 색인어의 사전순.
+     */
+    public List<CatalogWord> suggest(String prefix, int limit) {
+        if (isEmpty(prefix) || limit <= 0) return List.of();
+        LinkedHashMap<Long, CatalogWord> picked = new LinkedHashMap<>();
+        for (String key : SearchNormalizer.queryKeys(prefix)) {
+            if (key.isEmpty()) continue;
+            for (PrefixSuggester.Entry e : completeKey(key, limit)) {
+                if (picked.size() >= limit) break;
+                picked.putIfAbsent(e.wordId(), byId.get(e.wordId()));
+            }
+            if (picked.size() >= limit) break;
+        }
+        return new ArrayList<>(picked.values());
+    }
+
+    /** 색인 결과(바뀐 id 제외) + 바뀐 단어 직접 검사를 색인어 순으로 합친다 */
+    private List<PrefixSuggester.Entry> completeKey(String key, int limit) {
+        List<PrefixSuggester.Entry> base = searchIndex.prefixes().complete(key, limit, dirty.keySet());
+        if (dirty.isEmpty()) return base;
+
+        List<PrefixSuggester.Entry> all = new ArrayList<>(base);
+        for (Long id : dirty.keySet()) {
+            String k = searchKeys.get(id);
+            if (k == null) continue; // 삭제됨
+            for (String t : PrefixSuggester.termsOf(k)) {
+                if (t.startsWith(key)) {
+                    all.add(new PrefixSuggester.Entry(t, id));
+                    break;
+                }
+            }
+        }
+        all.sort(Comparator.comparing(PrefixSuggester.Entry::term).thenComparingLong(PrefixSuggester.Entry::wordId));
+        return all;
+    }
+
+    private static boolean isEmpty(String s) {
+        return s == null || s.isEmpty();
+    }
+
+    /**
+     * 카테고리(null이면 전체)에서 중복 없이 n개 무작위 추출.
+     * id 배열 복사 + 부분 Fisher–Yates 셔플이므로 SQL 없이 O(카테고리 크기)로 끝난다.
+     * 후보가 n개보다 적으면 있는 만큼만 돌려준다.
+     */
+    public List<CatalogWord> sample(String category, int n, RandomGenerator rnd) {
+        long[] src = idsOf(category);
+        int k = Math.min(n, src.length);
+        if (k <= 0) return List.of();
+
+        long[] ids = src.clone();
+        List<CatalogWord> picked = new ArrayList<>(k);
+        for (int i = 0; i < k; i++) {
+            int j = i + rnd.nextInt(ids.length - i);
+            long tmp = ids[i]; ids[i] = ids[j]; ids[j] = tmp;
+            picked.add(byId.get(ids[i]));
+        }
+        return picked;
+    }
+
+    /**
+     * 카테고리 비교 키: 모든 공백(전각 공백 포함)을 제거한다.
+     * 기존 Oracle 쿼리의 TRIM(REGEXP_REPLACE(category, '\s+', '')) 비교와 같은 의미.
+     */
+    public static String normalizeCategory(String category) {
+        if (category == null) return null;
+        StringBuilder sb = new StringBuilder(category.length());
+        for (int i = 0; i < category.length(); i++) {
+            char c = category.charAt(i);
+            if (!Character.isWhitespace(c) && !Character.isSpaceChar(c)) sb.append(c);
+        }
+        return sb.length() == 0 ? null : sb.toString();
+    }
+}
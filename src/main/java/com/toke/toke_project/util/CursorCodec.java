@@ -0,0 +1,50 @@
+package com.toke.toke_project.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지 커서 인코딩.
+ * 정렬 키 값들을 '|'로 이어 URL-safe Base64 로 감싼다(클라이언트에는 불투명한 문자열).
+ * null 값은 빈 문자열로 표현한다.
+ */
+public final class CursorCodec {
+
+	private static final String SEP = "|";
+
+	private CursorCodec() {}
+
+	public static String encode(Object... parts) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < parts.length; i++) {
+			if (i > 0) sb.append(SEP);
+			if (parts[i] != null) sb.append(parts[i]);
+		}
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 마지막 필드는 '|' 를 포함해도 된다(자유 텍스트 정렬 키는 맨 뒤에 둔다).
+	 *
+	 * @param expectedParts 필드 수 (다르면 잘못된 커서)
+	 * @return 각 필드 문자열 (비어 있으면 null)
+	 * @throws IllegalArgumentException 형식이 맞지 않을 때
+	 */
+	public static String[] decode(String cursor, int expectedParts) {
+		String raw;
+		try {
+			raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("잘못된 커서입니다.", e);
+		}
+		String[] parts = raw.split("\\|", expectedParts);
+		if (parts.length != expectedParts) {
+			throw new IllegalArgumentException("잘못된 커서입니다.");
+		}
+		for (int i = 0; i < parts.length; i++) {
+			if (parts[i].isEmpty()) parts[i] = null;
+		}
+		return parts;
+	}
+}
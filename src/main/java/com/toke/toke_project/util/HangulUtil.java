@@ -1,25 +1,102 @@
 package com.toke.toke_project.util;
 
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한국어 뜻 분류.
+ * 한글 음절(U+AC00~U+D7A3)은 초성/중성을 산술로, 호환 자모(ㄱ~ㅣ)는 표로 바로 분류한다 (글자당 객체 생성 없음).
+ * - 그룹: 초성 기준 14개(가,나,다…하, 된소리는 예사소리 그룹), 한글이 아니면 "#"
+ * - 모음 index: 중성 0~20, 없으면 99
+ */
 public class HangulUtil {
     private static final char HANGUL_BASE = 0xAC00;
     private static final char HANGUL_LAST = 0xD7A3;
-    private static final char[] GROUP14 = {
-        '가','가','나','다','다','라','마','바','바','사','사','아','자','자','차','카','타','파','하'
+    /** 초성 index(0~18) → 그룹 문자열 (미리 만든 상수) */
+    private static final String[] GROUP14 = {
+        "가","가","나","다","다","라","마","바","바","사","사","아","자","자","차","카","타","파","하"
     };
 
+    private static final char JAMO_FIRST = 0x3131; // ㄱ
+    private static final char JAMO_LAST = 0x314E;  // ㅎ
+    private static final char JAMO_VOWEL_FIRST = 0x314F; // ㅏ
+    private static final char JAMO_VOWEL_LAST = 0x3163;  // ㅣ
+
+    /** 호환 자음 자모(ㄱ~ㅎ) → 초성 index, 초성으로 못 쓰는 겹받침(ㄳ 등)은 -1 */
+    private static final byte[] JAMO_CHOSEONG = new byte[JAMO_LAST - JAMO_FIRST + 1];
+
+    static {
+        Arrays.fill(JAMO_CHOSEONG, (byte) -1);
+        String initials = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+        for (int i = 0; i < initials.length(); i++) JAMO_CHOSEONG[initials.charAt(i) - JAMO_FIRST] = (byte) i;
+    }
+
     public static String groupOf(String s){
-        if (s==null || s.isBlank()) return null;
-        char c = s.trim().charAt(0);
-        if (c < HANGUL_BASE || c > HANGUL_LAST) return "#";
-        int idx = (c - HANGUL_BASE) / (21*28);
-        return String.valueOf(GROUP14[idx]);
+        char c = firstChar(s);
+        if (c == 0) return null;
+        if (c >= HANGUL_BASE && c <= HANGUL_LAST) return GROUP14[(c - HANGUL_BASE) / (21*28)];
+        if (c >= JAMO_FIRST && c <= JAMO_LAST && JAMO_CHOSEONG[c - JAMO_FIRST] >= 0) {
+            return GROUP14[JAMO_CHOSEONG[c - JAMO_FIRST]];
+        }
+        return "#";
     }
 
     public static int vowelIndexOf(String s){
-        if (s==null || s.isBlank()) return 99;
-        char c = s.trim().charAt(0);
-        if (c < HANGUL_BASE || c > HANGUL_LAST) return 99;
-        int syllable = c - HANGUL_BASE;
-        return (syllable % (21*28)) / 28; // 중성 index 0~20
+        char c = firstChar(s);
+        if (c >= HANGUL_BASE && c <= HANGUL_LAST) return ((c - HANGUL_BASE) % (21*28)) / 28; // 중성 index 0~20
+        if (c >= JAMO_VOWEL_FIRST && c <= JAMO_VOWEL_LAST) return c - JAMO_VOWEL_FIRST;  // ㅏ~ㅣ 도 중성 순서
+        return 99;
+    }
+
+    /** 여러 뜻을 한 번에 분류 (groups/vowelIndexes 는 meanings 이상 길이, 결과를 같은 위치에 채운다) */
+    public static void classifyAll(List<String> meanings, String[] groups, int[] vowelIndexes){
+        for (int i = 0, n = meanings.size(); i < n; i++) {
+            String m = meanings.get(i);
+            groups[i] = groupOf(m);
+            vowelIndexes[i] = vowelIndexOf(m);
+        }
+    }
+
+    /** 앞뒤 공백(trim 기준)을 건너뛴 첫 글자, 비었거나 공백뿐이면 0 */
+    private static char firstChar(String s){
+        if (s==null || s.isBlank()) return 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c > ' ') return c;
+        }
+        return 0;
+    }
+
+    /** 초성 19자 (호환 자모) */
+    private static final char[] CHOSEONG = {
+        'ㄱ','ㄲ','ㄴ','ㄷ','ㄸ','ㄹ','ㅁ','ㅂ','ㅃ','ㅅ','ㅆ','ㅇ','ㅈ','ㅉ','ㅊ','ㅋ','ㅌ','ㅍ','ㅎ'
+    };
+
+    /**
+     * 초성 키: 한글 음절은 초성으로, 자음 자모는 그대로, 그 외(공백/문장부호/한자 등)는 뺀다.
+     * 예) "회의 실" → "ㅎㅇㅅ"
+     */
+    public static String choseongOf(String s){
+        if (s==null) return null;
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) sb.append(CHOSEONG[(c - HANGUL_BASE) / (21*28)]);
+            else if (c >= JAMO_FIRST && c <= JAMO_LAST) sb.append(c);
+        }
+        return sb.length() == 0 ? null : sb.toString();
+    }
+
+    /** 공백을 빼면 자음 자모(ㄱ~ㅎ)로만 된 검색어인지 (초성 검색 대상) */
+    public static boolean isChoseongQuery(String q){
+        if (q==null) return false;
+        boolean any = false;
+        for (int i = 0; i < q.length(); i++) {
+            char c = q.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (c < JAMO_FIRST || c > JAMO_LAST) return false;
+            any = true;
+        }
+        return any;
     }
 }
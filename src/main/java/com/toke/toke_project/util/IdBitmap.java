@@ -0,0 +1,418 @@
+package com.toke.toke_project.util;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * 0 이상 int id 집합을 담는 압축 비트맵 (Roaring 방식).
+ * id 의 상위 16비트마다 컨테이너 하나를 두고, 컨테이너는 원소 수에 따라
+ * - 4096개 이하: 정렬된 하위 16비트 char 배열 (원소당 2바이트)
+ * - 그보다 많으면: 65536비트 비트셋 (long 1024개, 8KB 고정)
+ * 으로 바꿔 쓴다 (비트셋은 원소가 절반 이하로 줄 때 배열로 되돌린다). 희소한 태그도, 수만 개 단어장에 붙은 인기 태그도 작게 담고
+ * AND / OR / AND NOT 은 컨테이너끼리 (배열은 병합, 비트셋은 word 단위) 계산한다.
+ *
+ * 스레드 안전하지 않다 (WordListTagIndex 가 잠금을 건다). and/or/andNot 은 입력을 바꾸지 않고 새 비트맵을 만든다.
+ */
+public final class IdBitmap {
+
+	/** 배열 컨테이너 최대 원소 수 (이보다 크면 비트셋이 더 작다) */
+	static final int ARRAY_MAX = 4096;
+
+	private static final int WORDS = 1024;
+
+	private char[] keys;
+	private Container[] containers;
+	private int count;
+
+	public IdBitmap() {
+		this(4);
+	}
+
+	private IdBitmap(int capacity) {
+		keys = new char[Math.max(1, capacity)];
+		containers = new Container[Math.max(1, capacity)];
+	}
+
+	public static IdBitmap of(int... ids) {
+		IdBitmap b = new IdBitmap();
+		for (int id : ids) b.add(id);
+		return b;
+	}
+
+	public boolean add(int id) {
+		checkId(id);
+		char key = (char) (id >>> 16);
+		int i = indexOf(key);
+		if (i < 0) {
+			i = -i - 1;
+			insertContainer(i, key, new Container());
+		}
+		return containers[i].add((char) id);
+	}
+
+	public boolean remove(int id) {
+		if (id < 0) return false;
+		int i = indexOf((char) (id >>> 16));
+		if (i < 0) return false;
+		Container c = containers[i];
+		boolean removed = c.remove((char) id);
+		if (c.size == 0) removeContainer(i);
+		return removed;
+	}
+
+	public boolean contains(int id) {
+		if (id < 0) return false;
+		int i = indexOf((char) (id >>> 16));
+		return i >= 0 && containers[i].contains((char) id);
+	}
+
+	public int cardinality() {
+		int n = 0;
+		for (int i = 0; i < count; i++) n += containers[i].size;
+		return n;
+	}
+
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	public IdBitmap copy() {
+		IdBitmap b = new IdBitmap(count);
+		for (int i = 0; i < count; i++) {
+			b.keys[i] = keys[i];
+			b.containers[i] = containers[i].copy();
+		}
+		b.count = count;
+		return b;
+	}
+
+	/** 오름차순 id 배열 */
+	public int[] toArray() {
+		int[] out = new int[cardinality()];
+		int n = 0;
+		for (int i = 0; i < count; i++) {
+			int high = keys[i] << 16;
+			Container c = containers[i];
+			if (c.words == null) {
+				for (int j = 0; j < c.size; j++) out[n++] = high | c.array[j];
+			} else {
+				for (int w = 0; w < WORDS; w++) {
+					long word = c.words[w];
+					while (word != 0) {
+						out[n++] = high | (w << 6) | Long.numberOfTrailingZeros(word);
+						word &= word - 1;
+					}
+				}
+			}
+		}
+		return out;
+	}
+
+	/**
+	 * before 보다 작은 id 를 큰 것부터 차례로 넘긴다. consumer 가 false 를 돌려주면 멈춘다.
+	 * (최신순 키셋 페이지: 마지막으로 본 id 를 before 로 넘긴다)
+	 */
+	public void forEachDescending(int before, IntPredicate consumer) {
+		if (before <= 0) return;
+		int last = before - 1;
+		char lastKey = (char) (last >>> 16);
+		for (int i = count - 1; i >= 0; i--) {
+			if (keys[i] > lastKey) continue;
+			int high = keys[i] << 16;
+			int maxLow = (keys[i] == lastKey) ? (last & 0xFFFF) : 0xFFFF;
+			Container c = containers[i];
+			if (c.words == null) {
+				int j = upperBound(c.array, c.size, (char) maxLow) - 1;
+				for (; j >= 0; j--) {
+					if (!consumer.test(high | c.array[j])) return;
+				}
+			} else {
+				for (int w = maxLow >>> 6; w >= 0; w--) {
+					long word = c.words[w];
+					if (w == maxLow >>> 6 && (maxLow & 63) != 63) word &= (1L << ((maxLow & 63) + 1)) - 1;
+					while (word != 0) {
+						int bit = 63 - Long.numberOfLeadingZeros(word);
+						if (!consumer.test(high | (w << 6) | bit)) return;
+						word &= ~(1L << bit);
+					}
+				}
+			}
+		}
+	}
+
+	public static IdBitmap and(IdBitmap a, IdBitmap b) {
+		IdBitmap out = new IdBitmap(Math.min(a.count, b.count));
+		int i = 0, j = 0;
+		while (i < a.count && j < b.count) {
+			if (a.keys[i] < b.keys[j]) i++;
+			else if (a.keys[i] > b.keys[j]) j++;
+			else {
+				Container c = Container.and(a.containers[i], b.containers[j]);
+				if (c != null) out.append(a.keys[i], c);
+				i++;
+				j++;
+			}
+		}
+		return out;
+	}
+
+	public static IdBitmap or(IdBitmap a, IdBitmap b) {
+		IdBitmap out = new IdBitmap(a.count + b.count);
+		int i = 0, j = 0;
+		while (i < a.count || j < b.count) {
+			if (j == b.count || (i < a.count && a.keys[i] < b.keys[j])) {
+				out.append(a.keys[i], a.containers[i].copy());
+				i++;
+			} else if (i == a.count || a.keys[i] > b.keys[j]) {
+				out.append(b.keys[j], b.containers[j].copy());
+				j++;
+			} else {
+				out.append(a.keys[i], Container.or(a.containers[i], b.containers[j]));
+				i++;
+				j++;
+			}
+		}
+		return out;
+	}
+
+	/** a 에서 b 를 뺀 집합 (a AND NOT b) */
+	public static IdBitmap andNot(IdBitmap a, IdBitmap b) {
+		IdBitmap out = new IdBitmap(a.count);
+		int j = 0;
+		for (int i = 0; i < a.count; i++) {
+			while (j < b.count && b.keys[j] < a.keys[i]) j++;
+			Container c = (j < b.count && b.keys[j] == a.keys[i])
+					? Container.andNot(a.containers[i], b.containers[j])
+					: a.containers[i].copy();
+			if (c != null) out.append(a.keys[i], c);
+		}
+		return out;
+	}
+
+	/** 메모리 사용량 추정 (바이트, 컨테이너 본문만) */
+	public long sizeInBytes() {
+		long n = (long) keys.length * 2 + (long) containers.length * 8;
+		for (int i = 0; i < count; i++) {
+			n += (containers[i].words != null) ? WORDS * 8L : containers[i].array.length * 2L;
+		}
+		return n;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof IdBitmap other && Arrays.equals(toArray(), other.toArray());
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(toArray());
+	}
+
+	@Override
+	public String toString() {
+		return "IdBitmap" + Arrays.toString(toArray());
+	}
+
+	private static void checkId(int id) {
+		if (id < 0) throw new IllegalArgumentException("id 는 0 이상이어야 합니다: " + id);
+	}
+
+	private int indexOf(char key) {
+		return Arrays.binarySearch(keys, 0, count, key);
+	}
+
+	private void append(char key, Container c) {
+		insertContainer(count, key, c);
+	}
+
+	private void insertContainer(int i, char key, Container c) {
+		if (count == keys.length) {
+			keys = Arrays.copyOf(keys, count * 2);
+			containers = Arrays.copyOf(containers, count * 2);
+		}
+		System.arraycopy(keys, i, keys, i + 1, count - i);
+		System.arraycopy(containers, i, containers, i + 1, count - i);
+		keys[i] = key;
+		containers[i] = c;
+		count++;
+	}
+
+	private void removeContainer(int i) {
+		System.arraycopy(keys, i + 1, keys, i, count - i - 1);
+		System.arraycopy(containers, i + 1, containers, i, count - i - 1);
+		containers[--count] = null;
+	}
+
+	/** array[0, size) 에서 v 보다 큰 첫 위치 */
+	private static int upperBound(char[] array, int size, char v) {
+		int lo = 0, hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (array[mid] <= v) lo = mid + 1;
+			else hi = mid;
+		}
+		return lo;
+	}
+
+	/** 상위 16비트 하나의 하위 16비트 집합: array(정렬, size 개) 또는 words(비트셋) 중 하나 */
+	private static final class Container {
+		char[] array;
+		long[] words;
+		int size;
+
+		Container() {
+			array = new char[4];
+		}
+
+		private Container(char[] array, long[] words, int size) {
+			this.array = array;
+			this.words = words;
+			this.size = size;
+		}
+
+		boolean contains(char low) {
+			if (words != null) return (words[low >>> 6] & (1L << low)) != 0;
+			return Arrays.binarySearch(array, 0, size, low) >= 0;
+		}
+
+		boolean add(char low) {
+			if (words != null) {
+				long before = words[low >>> 6];
+				words[low >>> 6] = before | (1L << low);
+				if (before == words[low >>> 6]) return false;
+				size++;
+				return true;
+			}
+			int i = Arrays.binarySearch(array, 0, size, low);
+			if (i >= 0) return false;
+			if (size == ARRAY_MAX) {
+				toWords();
+				return add(low);
+			}
+			i = -i - 1;
+			if (size == array.length) array = Arrays.copyOf(array, Math.min(ARRAY_MAX, size * 2));
+			System.arraycopy(array, i, array, i + 1, size - i);
+			array[i] = low;
+			size++;
+			return true;
+		}
+
+		boolean remove(char low) {
+			if (words != null) {
+				long before = words[low >>> 6];
+				words[low >>> 6] = before & ~(1L << low);
+				if (before == words[low >>> 6]) return false;
+				if (--size <= ARRAY_MAX / 2) toArray(); // 경계에서 배열↔비트셋을 반복하지 않도록 절반까지 줄면 되돌린다
+				return true;
+			}
+			int i = Arrays.binarySearch(array, 0, size, low);
+			if (i < 0) return false;
+			System.arraycopy(array, i + 1, array, i, size - i - 1);
+			size--;
+			return true;
+		}
+
+		Container copy() {
+			return (words != null)
+					? new Container(null, words.clone(), size)
+					: new Container(Arrays.copyOf(array, Math.max(1, size)), null, size);
+		}
+
+		private void toWords() {
+			long[] w = new long[WORDS];
+			for (int i = 0; i < size; i++) w[array[i] >>> 6] |= 1L << array[i];
+			words = w;
+			array = null;
+		}
+
+		private void toArray() {
+			char[] a = new char[Math.max(1, size)];
+			int n = 0;
+			for (int w = 0; w < WORDS; w++) {
+				long word = words[w];
+				while (word != 0) {
+					a[n++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+					word &= word - 1;
+				}
+			}
+			array = a;
+			words = null;
+		}
+
+		/** 비트셋 결과를 원소 수에 맞는 형태로. 비었으면 null */
+		private static Container fromWords(long[] words) {
+			int size = 0;
+			for (long w : words) size += Long.bitCount(w);
+			if (size == 0) return null;
+			Container c = new Container(null, words, size);
+			if (size <= ARRAY_MAX) c.toArray();
+			return c;
+		}
+
+		private static Container fromArray(char[] array, int size) {
+			return (size == 0) ? null : new Container(array, null, size);
+		}
+
+		static Container and(Container a, Container b) {
+			if (a.words != null && b.words != null) {
+				long[] w = new long[WORDS];
+				for (int i = 0; i < WORDS; i++) w[i] = a.words[i] & b.words[i];
+				return fromWords(w);
+			}
+			Container small = (a.words == null) ? a : b;
+			Container other = (small == a) ? b : a;
+			char[] out = new char[small.size];
+			int n = 0;
+			for (int i = 0; i < small.size; i++) {
+				if (other.contains(small.array[i])) out[n++] = small.array[i];
+			}
+			return fromArray(out, n);
+		}
+
+		static Container or(Container a, Container b) {
+			if (a.words == null && b.words == null && a.size + b.size <= ARRAY_MAX) {
+				char[] out = new char[a.size + b.size];
+				int i = 0, j = 0, n = 0;
+				while (i < a.size && j < b.size) {
+					char x = a.array[i], y = b.array[j];
+					if (x < y) { out[n++] = x; i++; }
+					else if (x > y) { out[n++] = y; j++; }
+					else { out[n++] = x; i++; j++; }
+				}
+				while (i < a.size) out[n++] = a.array[i++];
+				while (j < b.size) out[n++] = b.array[j++];
+				return fromArray(out, n);
+			}
+			long[] w = new long[WORDS];
+			a.orInto(w);
+			b.orInto(w);
+			return fromWords(w);
+		}
+
+		static Container andNot(Container a, Container b) {
+			if (a.words == null) {
+				char[] out = new char[a.size];
+				int n = 0;
+				for (int i = 0; i < a.size; i++) {
+					if (!b.contains(a.array[i])) out[n++] = a.array[i];
+				}
+				return fromArray(out, n);
+			}
+			long[] w = a.words.clone();
+			if (b.words != null) {
+				for (int i = 0; i < WORDS; i++) w[i] &= ~b.words[i];
+			} else {
+				for (int i = 0; i < b.size; i++) w[b.array[i] >>> 6] &= ~(1L << b.array[i]);
+			}
+			return fromWords(w);
+		}
+
+		private void orInto(long[] w) {
+			if (words != null) {
+				for (int i = 0; i < WORDS; i++) w[i] |= words[i];
+			} else {
+				for (int i = 0; i < size; i++) w[array[i] >>> 6] |= 1L << array[i];
+			}
+		}
+	}
+}
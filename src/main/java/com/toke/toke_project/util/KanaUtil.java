@@ -1,34 +1,133 @@
 package com.toke.toke_project.util;
 
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 일본어 읽기(가나) 분류.
+ * 히라가나/가타카나 블록(U+3040~U+30FF) 전체를 기동 시 표로 만들어 두고 글자 1개를 배열 조회로 분류한다.
+ * - 그룹: 행(あ,か,さ…わ). 가타카나, 작은 글자(ぁ,っ,ゃ…), 탁음/반탁음(が,ぱ,ゔ)도 원래 행으로 묶는다
+ * - 모음 index: 첫 글자가 모음(あいうえお, 작은 글자/가타카나 포함)이면 0~4, 아니면 99
+ */
 public class KanaUtil {
 	private static final String[] GROUPS = { "あ", "か", "さ", "た", "な", "は", "ま", "や", "ら", "わ" };
-	private static final char[][] GROUP_HEADS = { { 'あ', 'い', 'う', 'え', 'お' },
-			{ 'か', 'き', 'く', 'け', 'こ', 'が', 'ぎ', 'ぐ', 'げ', 'ご' }, { 'さ', 'し', 'す', 'せ', 'そ', 'ざ', 'じ', 'ず', 'ぜ', 'ぞ' },
-			{ 'た', 'ち', 'つ', 'て', 'と', 'だ', 'ぢ', 'づ', 'で', 'ど' }, { 'な', 'に', 'ぬ', 'ね', 'の' },
-			{ 'は', 'ひ', 'ふ', 'へ', 'ほ', 'ば', 'び', 'ぶ', 'べ', 'ぼ', 'ぱ', 'ぴ', 'ぷ', 'ぺ', 'ぽ' }, { 'ま', 'み', 'む', 'め', 'も' },
-			{ 'や', 'ゆ', 'よ' }, { 'ら', 'り', 'る', 'れ', 'ろ' }, { 'わ', 'を', 'ん' } };
+	/** 행별 소속 히라가나 (작은 글자, 탁음/반탁음 포함) */
+	private static final String[] GROUP_MEMBERS = { "ぁあぃいぅうぇえぉおゔ", "かがきぎくぐけげこごゕゖ", "さざしじすずせぜそぞ",
+			"ただちぢっつづてでとど", "なにぬねの", "はばぱひびぴふぶぷへべぺほぼぽ", "まみむめも", "ゃやゅゆょよ", "らりるれろ",
+			"ゎわゐゑをん" };
+
+	private static final char BLOCK_FIRST = '\u3040';
+	private static final char BLOCK_LAST = '\u30FF';
+	private static final byte NONE = -1;
+
+	/** 글자 → GROUPS index (NONE 이면 "#") */
+	private static final byte[] GROUP_OF = new byte[BLOCK_LAST - BLOCK_FIRST + 1];
+	/** 글자 → 모음 index 0~4 (NONE 이면 99) */
+	private static final byte[] VOWEL_INDEX_OF = new byte[BLOCK_LAST - BLOCK_FIRST + 1];
+
+	static {
+		Arrays.fill(GROUP_OF, NONE);
+		Arrays.fill(VOWEL_INDEX_OF, NONE);
+		for (int g = 0; g < GROUP_MEMBERS.length; g++) {
+			for (char c : GROUP_MEMBERS[g].toCharArray())
+				GROUP_OF[c - BLOCK_FIRST] = (byte) g;
+		}
+		String vowels = "ぁあぃいぅうぇえぉお";
+		for (int i = 0; i < vowels.length(); i++)
+			VOWEL_INDEX_OF[vowels.charAt(i) - BLOCK_FIRST] = (byte) (i / 2);
+		// 가타카나(ァ~ヶ)는 대응하는 히라가나와 같게
+		for (char k = '\u30A1'; k <= '\u30F6'; k++) {
+			GROUP_OF[k - BLOCK_FIRST] = GROUP_OF[toHiragana(k) - BLOCK_FIRST];
+			VOWEL_INDEX_OF[k - BLOCK_FIRST] = VOWEL_INDEX_OF[toHiragana(k) - BLOCK_FIRST];
+		}
+		// ヷヸヹヺ (わ행에 탁점)
+		for (char k = '\u30F7'; k <= '\u30FA'; k++)
+			GROUP_OF[k - BLOCK_FIRST] = 9;
+	}
 
 	public static String groupOf(String kana) {
-		if (kana == null || kana.isBlank())
+		char c = firstChar(kana);
+		if (c == 0)
 			return null;
-		char c = kana.trim().charAt(0);
-		for (int i = 0; i < GROUP_HEADS.length; i++) {
-			for (char h : GROUP_HEADS[i]) {
-				if (c == h)
-					return GROUPS[i];
-			}
+		int g = (c >= BLOCK_FIRST && c <= BLOCK_LAST) ? GROUP_OF[c - BLOCK_FIRST] : NONE;
+		return (g == NONE) ? "#" : GROUPS[g];
+	}
+
+	public static int vowelIndexOf(String kana) {
+		char c = firstChar(kana);
+		int v = (c >= BLOCK_FIRST && c <= BLOCK_LAST) ? VOWEL_INDEX_OF[c - BLOCK_FIRST] : NONE;
+		return (v == NONE) ? 99 : v;
+	}
+
+	/** 여러 읽기를 한 번에 분류 (groups/vowelIndexes 는 kanas 이상 길이, 결과를 같은 위치에 채운다) */
+	public static void classifyAll(List<String> kanas, String[] groups, int[] vowelIndexes) {
+		for (int i = 0, n = kanas.size(); i < n; i++) {
+			String k = kanas.get(i);
+			groups[i] = groupOf(k);
+			vowelIndexes[i] = vowelIndexOf(k);
+		}
+	}
+
+	/** 앞뒤 공백(trim 기준)을 건너뛴 첫 글자, 비었거나 공백뿐이면 0 */
+	private static char firstChar(String s) {
+		if (s == null || s.isBlank())
+			return 0;
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c > ' ')
+				return c;
 		}
+		return 0;
+	}
+
+	/* ===== 검색 정규화용 글자 단위 변환 (SearchNormalizer) ===== */
+
+	private static final char HIRA_FIRST = '\u3041';
+	private static final char HIRA_LAST = '\u3096';
 
-		return "#";
+	/** 히라가나 → 모음(あいうえお), 모음이 없으면(ん 등) 0 */
+	private static final char[] VOWEL = new char[HIRA_LAST - HIRA_FIRST + 1];
+	/** 히라가나 → 탁음/반탁음 글자, 없으면 0 */
+	private static final char[] VOICED = new char[HIRA_LAST - HIRA_FIRST + 1];
+	private static final char[] SEMI_VOICED = new char[HIRA_LAST - HIRA_FIRST + 1];
+
+	static {
+		String[] rows = { "ぁあかがさざただなはばぱまゃやらゎわ", "ぃいきぎしじちぢにひびぴみり", "ぅうくぐすずっつづぬふぶぷむゅゆるゔ",
+				"ぇえけげせぜてでねへべぺめれ", "ぉおこごそぞとどのほぼぽもょよろを" };
+		String vowels = "あいうえお";
+		for (int v = 0; v < rows.length; v++) {
+			for (char c : rows[v].toCharArray())
+				VOWEL[c - HIRA_FIRST] = vowels.charAt(v);
+		}
+		String voiced = "かがきぎくぐけげこごさざしじすずせぜそぞただちぢつづてでとどはばひびふぶへべほぼうゔ";
+		for (int i = 0; i < voiced.length(); i += 2)
+			VOICED[voiced.charAt(i) - HIRA_FIRST] = voiced.charAt(i + 1);
+		String semi = "はぱひぴふぷへぺほぽ";
+		for (int i = 0; i < semi.length(); i += 2)
+			SEMI_VOICED[semi.charAt(i) - HIRA_FIRST] = semi.charAt(i + 1);
 	}
 
-	public static int vowelIndexOf(String kana) {
-		if (kana == null || kana.isBlank())
-			return 99;
-		char c = kana.trim().charAt(0);
-		String vowels = "あいうえおアイウエオ";
-		int idx = vowels.indexOf(c);
-		return (idx >= 0) ? (idx % 5) : 99;
+	private static boolean isHiragana(char c) {
+		return c >= HIRA_FIRST && c <= HIRA_LAST;
 	}
 
+	/** 가타카나(ァ~ヶ) → 히라가나, 그 외는 그대로 */
+	public static char toHiragana(char c) {
+		return (c >= '\u30A1' && c <= '\u30F6') ? (char) (c - 0x60) : c;
+	}
+
+	/** 장음(ー) 앞 글자의 모음, 없으면 0 */
+	public static char vowelOf(char hiragana) {
+		return isHiragana(hiragana) ? VOWEL[hiragana - HIRA_FIRST] : 0;
+	}
+
+	/** か → が 처럼 탁점을 붙인 글자, 붙일 수 없으면 0 */
+	public static char voiced(char hiragana) {
+		return isHiragana(hiragana) ? VOICED[hiragana - HIRA_FIRST] : 0;
+	}
+
+	/** は → ぱ 처럼 반탁점을 붙인 글자, 붙일 수 없으면 0 */
+	public static char semiVoiced(char hiragana) {
+		return isHiragana(hiragana) ? SEMI_VOICED[hiragana - HIRA_FIRST] : 0;
+	}
 }
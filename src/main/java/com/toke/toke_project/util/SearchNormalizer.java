@@ -0,0 +1,217 @@
+package com.toke.toke_project.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 단어 검색 키 정규화.
+ * - NFKC(전각/반각 통일) + 소문자 (WordListService.normalizeJpForCompare 와 같은 기준, 단 trim 은 하지 않음)
+ * - 가타카나 → 히라가나, 반각 탁점(ﾞﾟ)은 앞 글자에 합침
+ * - 장음(ー)은 앞 글자의 모음으로 (メール → めえる)
+ * - 로마자 → 가나는 검색어에만 추가 후보로 적용 (queryKeys)
+ *
+ * 글자별 변환은 기동 시 BMP 전체(65536자)에 대해 미리 계산한 표를 쓰므로
+ * normalize(CharSequence, StringBuilder) 는 결과 버퍼 외에 객체를 만들지 않는다.
+ */
+public final class SearchNormalizer {
+
+	/** 검색 키 안에서 필드를 나누는 문자 (정규화 결과에는 나오지 않는다) */
+	public static final char FIELD_SEP = '\u0000';
+
+	private static final byte COPY = 0;
+	private static final byte DROP = 1;
+	private static final byte EXPAND = 2;
+	private static final byte VOICED_MARK = 3;
+	private static final byte SEMI_VOICED_MARK = 4;
+	private static final byte LONG_VOWEL = 5;
+
+	private static final char[] FOLD = new char[65536];
+	private static final byte[] KIND = new byte[65536];
+	/** NFKC 결과가 여러 글자인 문자 (㈱ → (株) 등, 이미 정규화된 값) */
+	private static final Map<Character, String> EXPANSIONS = new HashMap<>();
+
+	private static final Map<String, String> ROMAJI = new HashMap<>();
+
+	static {
+		StringBuilder sb = new StringBuilder();
+		Map<Character, String> pending = new HashMap<>();
+		for (int i = 0; i < 65536; i++) {
+			char c = (char) i;
+			if (Character.isSurrogate(c)) {
+				FOLD[i] = c;
+				continue;
+			}
+			String n = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFKC);
+			if (n.length() == 1) {
+				char f = KanaUtil.toHiragana(Character.toLowerCase(n.charAt(0)));
+				FOLD[i] = f;
+				KIND[i] = kindOf(f);
+			} else if (n.isEmpty()) {
+				KIND[i] = DROP;
+			} else {
+				KIND[i] = EXPAND;
+				pending.put(c, n);
+			}
+		}
+		KIND[FIELD_SEP] = DROP;
+		// ゛゜(U+309B/309C)는 NFKC 로 "공백 + 결합 탁점"이 되므로 직접 지정
+		KIND['゛'] = VOICED_MARK;
+		KIND['゜'] = SEMI_VOICED_MARK;
+		pending.remove('゛');
+		pending.remove('゜');
+		// 확장 결과도 같은 규칙으로 접는다 (NFKC 결과의 각 글자는 COPY 또는 탁점/장음)
+		pending.forEach((c, n) -> {
+			sb.setLength(0);
+			normalize(n, sb);
+			EXPANSIONS.put(c, sb.toString());
+		});
+
+		String[][] table = {
+				{ "a", "あ" }, { "i", "い" }, { "u", "う" }, { "e", "え" }, { "o", "お" },
+				{ "ka", "か" }, { "ki", "き" }, { "ku", "く" }, { "ke", "け" }, { "ko", "こ" },
+				{ "ga", "が" }, { "gi", "ぎ" }, { "gu", "ぐ" }, { "ge", "げ" }, { "go", "ご" },
+				{ "sa", "さ" }, { "shi", "し" }, { "si", "し" }, { "su", "す" }, { "se", "せ" }, { "so", "そ" },
+				{ "za", "ざ" }, { "ji", "じ" }, { "zi", "じ" }, { "zu", "ず" }, { "ze", "ぜ" }, { "zo", "ぞ" },
+				{ "ta", "た" }, { "chi", "ち" }, { "ti", "ち" }, { "tsu", "つ" }, { "tu", "つ" }, { "te", "て" }, { "to", "と" },
+				{ "da", "だ" }, { "di", "ぢ" }, { "du", "づ" }, { "de", "で" }, { "do", "ど" },
+				{ "na", "な" }, { "ni", "に" }, { "nu", "ぬ" }, { "ne", "ね" }, { "no", "の" },
+				{ "ha", "は" }, { "hi", "ひ" }, { "fu", "ふ" }, { "hu", "ふ" }, { "he", "へ" }, { "ho", "ほ" },
+				{ "ba", "ば" }, { "bi", "び" }, { "bu", "ぶ" }, { "be", "べ" }, { "bo", "ぼ" },
+				{ "pa", "ぱ" }, { "pi", "ぴ" }, { "pu", "ぷ" }, { "pe", "ぺ" }, { "po", "ぽ" },
+				{ "ma", "ま" }, { "mi", "み" }, { "mu", "む" }, { "me", "め" }, { "mo", "も" },
+				{ "ya", "や" }, { "yu", "ゆ" }, { "yo", "よ" },
+				{ "ra", "ら" }, { "ri", "り" }, { "ru", "る" }, { "re", "れ" }, { "ro", "ろ" },
+				{ "wa", "わ" }, { "wo", "を" }, { "vu", "ゔ" },
+				{ "sha", "しゃ" }, { "shu", "しゅ" }, { "sho", "しょ" }, { "she", "しぇ" },
+				{ "cha", "ちゃ" }, { "chu", "ちゅ" }, { "cho", "ちょ" }, { "che", "ちぇ" },
+				{ "ja", "じゃ" }, { "ju", "じゅ" }, { "jo", "じょ" }, { "je", "じぇ" },
+				{ "fa", "ふぁ" }, { "fi", "ふぃ" }, { "fe", "ふぇ" }, { "fo", "ふぉ" },
+				{ "thi", "てぃ" }, { "dhi", "でぃ" },
+				{ "xtu", "っ" }, { "ltu", "っ" }, { "xya", "ゃ" }, { "xyu", "ゅ" }, { "xyo", "ょ" } };
+		for (String[] e : table) ROMAJI.put(e[0], e[1]);
+		// 요음: kya, sya, tya, nya ... (i단 + 작은 ゃゅょ)
+		String[][] yoon = { { "k", "き" }, { "g", "ぎ" }, { "s", "し" }, { "z", "じ" }, { "t", "ち" }, { "d", "ぢ" },
+				{ "n", "に" }, { "h", "ひ" }, { "b", "び" }, { "p", "ぴ" }, { "m", "み" }, { "r", "り" }, { "j", "じ" }, { "c", "ち" } };
+		for (String[] e : yoon) {
+			ROMAJI.putIfAbsent(e[0] + "ya", e[1] + "ゃ");
+			ROMAJI.putIfAbsent(e[0] + "yu", e[1] + "ゅ");
+			ROMAJI.putIfAbsent(e[0] + "yo", e[1] + "ょ");
+		}
+	}
+
+	private SearchNormalizer() {}
+
+	private static byte kindOf(char folded) {
+		if (folded == '\u3099') return VOICED_MARK;      // 결합 탁점 (ﾞ 의 NFKC)
+		if (folded == '\u309A') return SEMI_VOICED_MARK; // 결합 반탁점 (ﾟ 의 NFKC)
+		if (folded == 'ー') return LONG_VOWEL;           // ー, ｰ
+		return COPY;
+	}
+
+	/** 정규화 결과를 out 에 덧붙인다 (out 은 재사용 가능) */
+	public static void normalize(CharSequence s, StringBuilder out) {
+		int start = out.length();
+		for (int i = 0, n = s.length(); i < n; i++) {
+			char c = s.charAt(i);
+			switch (KIND[c]) {
+				case COPY -> out.append(FOLD[c]);
+				case DROP -> { }
+				case EXPAND -> {
+					String e = EXPANSIONS.get(c);
+					if (e != null) out.append(e);
+				}
+				case VOICED_MARK -> combine(out, start, true);
+				case SEMI_VOICED_MARK -> combine(out, start, false);
+				case LONG_VOWEL -> {
+					char v = (out.length() > start) ? KanaUtil.vowelOf(out.charAt(out.length() - 1)) : 0;
+					out.append(v != 0 ? v : 'ー');
+				}
+				default -> out.append(c);
+			}
+		}
+	}
+
+	/** 탁점/반탁점을 앞 글자에 합친다. 합칠 수 없으면 버린다. */
+	private static void combine(StringBuilder out, int start, boolean voiced) {
+		int last = out.length() - 1;
+		if (last < start) return;
+		char prev = out.charAt(last);
+		char merged = voiced ? KanaUtil.voiced(prev) : KanaUtil.semiVoiced(prev);
+		if (merged != 0) out.setCharAt(last, merged);
+	}
+
+	public static String normalize(String s) {
+		if (s == null) return null;
+		StringBuilder sb = new StringBuilder(s.length());
+		normalize(s, sb);
+		return sb.toString();
+	}
+
+	/**
+	 * 검색어의 정규화 후보: [정규화한 검색어] + (로마자가 있고 전부 가나로 바뀌면) [가나 변환 결과].
+	 * 예: "kaigi" → ["kaigi", "かいぎ"], "メール" → ["めえる"]
+	 */
+	public static List<String> queryKeys(String q) {
+		String key = normalize(q);
+		List<String> keys = new ArrayList<>(2);
+		keys.add(key);
+		String kana = romajiToKana(key);
+		if (kana != null) {
+			String k = normalize(kana);
+			if (!k.equals(key)) keys.add(k);
+		}
+		return keys;
+	}
+
+	/**
+	 * 정규화된 문자열 안의 로마자(a-z)를 히라가나로 바꾼다.
+	 * 로마자가 없거나, 가나로 바꿀 수 없는 철자가 하나라도 있으면 null.
+	 * - 같은 자음 두 번(kk, tt...) → っ, 자음 앞/끝의 n 또는 n', nn → ん, '-' → ー
+	 */
+	public static String romajiToKana(String s) {
+		if (s == null) return null;
+		StringBuilder out = new StringBuilder(s.length());
+		boolean sawLatin = false;
+		int i = 0, n = s.length();
+		while (i < n) {
+			char c = s.charAt(i);
+			if (c < 'a' || c > 'z') {
+				if (c == '-' && sawLatin) out.append('ー');
+				else if (c != '\'') out.append(c);
+				i++;
+				continue;
+			}
+			sawLatin = true;
+			char next = (i + 1 < n) ? s.charAt(i + 1) : 0;
+			if (c != 'n' && c == next && !isVowel(c)) {
+				out.append('っ');
+				i++;
+				continue;
+			}
+			if (c == 'n' && next != 'y' && !isVowel(next)) {
+				// konnichiwa: 뒤 n 이 다음 음절을 시작하면 앞 n 만 ん, 아니면 nn 전체가 ん
+				char after = (i + 2 < n) ? s.charAt(i + 2) : 0;
+				out.append('ん');
+				i += (next == 'n' && !isVowel(after) && after != 'y') ? 2 : 1;
+				continue;
+			}
+			String kana = null;
+			int len = Math.min(3, n - i);
+			for (; len > 0; len--) {
+				kana = ROMAJI.get(s.substring(i, i + len));
+				if (kana != null) break;
+			}
+			if (kana == null) return null;
+			out.append(kana);
+			i += len;
+		}
+		return sawLatin ? out.toString() : null;
+	}
+
+	private static boolean isVowel(char c) {
+		return c == 'a' || c == 'i' || c == 'u' || c == 'e' || c == 'o';
+	}
+}
@@ -2,21 +2,35 @@ package com.toke.toke_project.web;
 
 import com.toke.toke_project.domain.Users;
 import com.toke.toke_project.domain.Word;
-import com.toke.toke_project.domain.WordList;
 import com.toke.toke_project.repo.UsersRepository;
 import com.toke.toke_project.service.AdminWordService;
+import com.toke.toke_project.service.WordExportService;
+import com.toke.toke_project.service.WordImportService;
+import com.toke.toke_project.service.WordListQueryService;
 import com.toke.toke_project.service.WordListService;
+import com.toke.toke_project.service.model.TagFilter;
 import com.toke.toke_project.web.dto.WordForm;
+import com.toke.toke_project.web.dto.WordImportResult;
+import com.toke.toke_project.web.dto.WordListCardView;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.security.Principal;
 import java.util.List;
 
@@ -29,7 +43,10 @@ public class AdminWordController {
 
 	private final AdminWordService wordService;
 	private final WordListService wordListService; // ✅ 추가
+	private final WordListQueryService wordListQueryService;
 	private final UsersRepository usersRepo;
+	private final WordImportService wordImportService;
+	private final WordExportService wordExportService;
 
 	// 전체 목록 (검색 + 카테고리 + 정렬 + 페이징)
 	@GetMapping
@@ -49,7 +66,7 @@ public class AdminWordController {
 		if (principal != null) {
 			String username = principal.getName(); // 이메일 or username
 			Users me = usersRepo.findByEmail(username).orElseThrow(() -> new RuntimeException("User not found"));
-			List<WordList> myLists = wordListService.findMine(me.getId(), null, null);
+			List<WordListCardView> myLists = wordListQueryService.findMineCards(me.getId(), null, TagFilter.NONE);
 			model.addAttribute("myLists", myLists);
 		}
 
@@ -74,6 +91,29 @@ public class AdminWordController {
 		return "redirect:/admin/words/" + id + "/edit";
 	}
 
+	// 일괄 가져오기 (CSV/TSV 업로드, 결과는 JSON: 행별 오류 + 처리량)
+	@PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	@ResponseBody
+	public WordImportResult importWords(@RequestParam("file") MultipartFile file, Principal principal) {
+		Long adminUserId = usersRepo.findByEmail(principal.getName())
+				.orElseThrow(() -> new RuntimeException("User not found")).getId();
+		try (InputStream in = file.getInputStream()) {
+			return wordImportService.importWords(in, adminUserId);
+		} catch (IOException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파일을 읽을 수 없습니다.");
+		}
+	}
+
+	// 전체 내보내기 (format=csv | jsonl, DB 커서에서 바로 응답으로 스트리밍)
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportWords(@RequestParam(defaultValue = "csv") String format) {
+		WordExportService.Format f = WordExportService.Format.of(format);
+		return ResponseEntity.ok()
+				.header(HttpHeaders.CONTENT_TYPE, f.contentType)
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"words." + f.extension + "\"")
+				.body(out -> wordExportService.writeWords(f, out));
+	}
+
 	@GetMapping("/{id}/edit")
 	public String editForm(@PathVariable Long id, Model model) {
 		Word w = wordService.get(id);
@@ -0,0 +1,38 @@
+package com.toke.toke_project.web;
+
+import com.toke.toke_project.service.AdminWordService;
+import com.toke.toke_project.web.dto.CursorPage;
+import com.toke.toke_project.web.dto.WordScrollItem;
+import com.toke.toke_project.web.dto.WordSuggestion;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/words")
+public class WordApiController {
+
+    private final AdminWordService wordService;
+
+    public WordApiController(AdminWordService wordService) {
+        this.wordService = wordService;
+    }
+
+    /** 검색창 자동완성 (메모리 색인, DB 조회 없음) */
+    @GetMapping("/suggest")
+    public List<WordSuggestion> suggest(@RequestParam(defaultValue = "") String prefix,
+                                        @RequestParam(defaultValue = "10") int limit) {
+        return wordService.suggest(prefix, limit);
+    }
+
+    /** 단어 목록 (키셋 커서 — 무한 스크롤). nextCursor 를 다음 요청의 cursor 로 넘긴다. */
+    @GetMapping("/scroll")
+    public CursorPage<WordScrollItem> scroll(@RequestParam(defaultValue = "") String q,
+                                             @RequestParam(defaultValue = "") String category,
+                                             @RequestParam(defaultValue = "recent") String mode,
+                                             @RequestParam(defaultValue = "") String group,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(defaultValue = "20") int size) {
+        return wordService.scroll(q, category, mode, group, cursor, size);
+    }
+}
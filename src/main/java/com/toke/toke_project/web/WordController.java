@@ -15,10 +15,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import com.toke.toke_project.domain.Users;
 import com.toke.toke_project.domain.Word;
-import com.toke.toke_project.domain.WordList;
 import com.toke.toke_project.repo.UsersRepository;
 import com.toke.toke_project.service.AdminWordService;
+import com.toke.toke_project.service.WordListQueryService;
 import com.toke.toke_project.service.WordListService;
+import com.toke.toke_project.service.model.TagFilter;
+import com.toke.toke_project.web.dto.WordListCardView;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,6 +31,7 @@ public class WordController {
 
 	private final AdminWordService wordService;
 	private final WordListService wordListService; // ✅ 추가
+	private final WordListQueryService wordListQueryService;
 	private final UsersRepository usersRepo;
 
 	@GetMapping
@@ -56,7 +59,7 @@ public class WordController {
 					Collectors.toMap(Word::getId, w -> wordListService.normalizeJpForCompare(w.getJapaneseWord())));
 			model.addAttribute("normJpById", normJpById);
 
-			List<WordList> myLists = wordListService.findMine(me.getId(), null, null);
+			List<WordListCardView> myLists = wordListQueryService.findMineCards(me.getId(), null, TagFilter.NONE);
 			model.addAttribute("myLists", myLists);
 		}
 
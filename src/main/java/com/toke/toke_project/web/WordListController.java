@@ -6,8 +6,14 @@ import com.toke.toke_project.domain.WordList;
 import com.toke.toke_project.domain.WordListItem;
 import com.toke.toke_project.repo.HashtagRepository;
 import com.toke.toke_project.repo.UsersRepository;
+import com.toke.toke_project.service.WordExportService;
+import com.toke.toke_project.service.WordListQueryService;
 import com.toke.toke_project.service.WordListService;
+import com.toke.toke_project.service.model.TagFilter;
+import com.toke.toke_project.web.dto.AddWordsResult;
+import com.toke.toke_project.web.dto.CursorPage;
 import com.toke.toke_project.web.dto.CustomWordForm;
+import com.toke.toke_project.web.dto.WordListCardView;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -18,12 +24,13 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.security.Principal;
 import java.util.*;
-import java.util.stream.Collectors;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.MediaType;
+import org.springframework.http.HttpHeaders;
 
 @Controller
 @RequiredArgsConstructor
@@ -31,28 +38,35 @@ import org.springframework.http.MediaType;
 public class WordListController {
 
 	private final WordListService wordListService;
+	private final WordListQueryService wordListQueryService;
 	private final UsersRepository usersRepo;
 	private final HashtagRepository hashtagRepository; // ✅ 추가
+	private final WordExportService wordExportService;
 
 	// --- 모두의 단어장 ---
 
 	@GetMapping
 	public String all(@RequestParam(value = "keyword", required = false) String keyword,
-			@RequestParam(value = "tag", required = false) List<String> tags, Model model) {
-
-		List<WordList> lists = wordListService.search(keyword, null, tags);
-
-		if (lists == null) {
-			lists = Collections.emptyList();
-		} else {
-			lists = lists.stream().filter(Objects::nonNull).toList();
-		}
-
-		List<WordList> sharedLists = lists.stream().filter(wl -> Objects.equals(wl.getIsShared(), 1))
-				.collect(Collectors.toList());
+			@RequestParam(value = "tag", required = false) List<String> tags,
+			@RequestParam(value = "tagMode", required = false) String tagMode,
+			@RequestParam(value = "exclude", required = false) List<String> exclude,
+			@RequestParam(value = "sort", required = false) String sort,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", defaultValue = "30") int size, Model model) {
+
+		// 공개 단어장만, 정렬 + 키셋 페이지 (조건/정렬/행 수 제한은 SQL 또는 태그 색인에서)
+		WordListQueryService.Sort order = WordListQueryService.Sort.of(sort);
+		TagFilter tagFilter = WordListQueryService.tagFilter(tags, tagMode, exclude);
+		CursorPage<WordListCardView> page = wordListQueryService.scrollShared(keyword, null, tagFilter, order, cursor, size);
+		List<WordListCardView> sharedLists = page.items();
 
 		model.addAttribute("sharedLists", sharedLists);
-		model.addAttribute("lists", lists);
+		model.addAttribute("lists", sharedLists);
+		model.addAttribute("sort", order.name().toLowerCase());
+		model.addAttribute("nextCursor", page.nextCursor());
+		model.addAttribute("hasNext", page.hasNext());
+		model.addAttribute("pagePath", "/lists");
+		addTagModel(model, tagMode, exclude);
 
 		model.addAttribute("keyword", keyword);
 		model.addAttribute("selectedTags", tags == null ? Collections.emptyList() : tags);
@@ -67,12 +81,16 @@ public class WordListController {
 
 	@GetMapping("/mine")
 	public String mine(@RequestParam(value = "keyword", required = false) String keyword,
-			@RequestParam(value = "tag", required = false) List<String> tags, Principal principal, Model model) {
+			@RequestParam(value = "tag", required = false) List<String> tags,
+			@RequestParam(value = "tagMode", required = false) String tagMode,
+			@RequestParam(value = "exclude", required = false) List<String> exclude, Principal principal, Model model) {
 		if (principal == null)
 			return "redirect:/login";
 		Long me = currentUserId(principal);
 
-		List<WordList> lists = wordListService.findMine(me, keyword, tags);
+		List<WordListCardView> lists = wordListQueryService.findMineCards(me, keyword,
+				WordListQueryService.tagFilter(tags, tagMode, exclude));
+		addTagModel(model, tagMode, exclude);
 
 		model.addAttribute("lists", lists);
 		model.addAttribute("keyword", keyword);
@@ -118,6 +136,20 @@ public class WordListController {
 		return "lists/detail";
 	}
 
+	// 단어장 항목 내보내기 (format=csv | jsonl, 상세 화면과 같이 공식 단어 값 우선)
+	// 비공개 단어장은 소유자/관리자만
+	@GetMapping("/{id}/export")
+	public ResponseEntity<StreamingResponseBody> export(@PathVariable Long id,
+			@RequestParam(defaultValue = "csv") String format, Principal principal) {
+		WordExportService.Format f = WordExportService.Format.of(format);
+		Long me = (principal == null) ? null : currentUserId(principal);
+		wordListService.requireExportable(id, me);
+		return ResponseEntity.ok()
+				.header(HttpHeaders.CONTENT_TYPE, f.contentType)
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"wordlist-" + id + "." + f.extension + "\"")
+				.body(out -> wordExportService.writeListItems(id, f, out));
+	}
+
 	@GetMapping("/new")
 	public String newListForm(Principal principal, Model model) {
 		if (principal == null)
@@ -212,9 +244,16 @@ public class WordListController {
 		List<Long> wordIds = Arrays.stream(selectedWordIds.split(",")).filter(s -> !s.isBlank()).map(Long::parseLong)
 				.toList();
 
-		wordListService.addWordsToMyList(listId, me, wordIds);
+		AddWordsResult result = wordListService.addWordsToMyList(listId, me, wordIds);
 
-		ra.addFlashAttribute("msg", "선택한 단어가 내 단어장에 추가되었습니다.");
+		String msg = result.added().size() + "개 단어를 내 단어장에 추가했습니다.";
+		List<String> skipped = new ArrayList<>();
+		if (!result.duplicates().isEmpty()) skipped.add("이미 있는 단어 " + result.duplicates().size() + "개");
+		if (!result.missing().isEmpty()) skipped.add("없는 단어 " + result.missing().size() + "개");
+		if (!skipped.isEmpty()) {
+			msg += " (" + String.join(", ", skipped) + " 제외)";
+		}
+		ra.addFlashAttribute("msg", msg);
 		return "redirect:/lists/" + listId;
 	}
 	
@@ -338,13 +377,28 @@ public class WordListController {
 
 	@GetMapping("/search")
 	public String search(@RequestParam(required = false) String keyword,
-			@RequestParam(value = "tag", required = false) List<String> tags, Principal principal, Model model) {
+			@RequestParam(value = "tag", required = false) List<String> tags,
+			@RequestParam(value = "tagMode", required = false) String tagMode,
+			@RequestParam(value = "exclude", required = false) List<String> exclude,
+			@RequestParam(value = "sort", required = false) String sort,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", defaultValue = "30") int size, Principal principal, Model model) {
 		if (principal == null)
 			return "redirect:/login";
 
-		List<WordList> lists = wordListService.search(keyword, keyword, tags);
+		// 제목 OR 닉네임 OR 태그, 공개 단어장만 (모두의 단어장과 같은 키셋 페이지)
+		WordListQueryService.Sort order = WordListQueryService.Sort.of(sort);
+		TagFilter tagFilter = WordListQueryService.tagFilter(tags, tagMode, exclude);
+		CursorPage<WordListCardView> page = wordListQueryService.scrollShared(keyword, keyword, tagFilter, order, cursor, size);
+		List<WordListCardView> lists = page.items();
 
+		model.addAttribute("sharedLists", lists);
 		model.addAttribute("lists", lists);
+		model.addAttribute("sort", order.name().toLowerCase());
+		model.addAttribute("nextCursor", page.nextCursor());
+		model.addAttribute("hasNext", page.hasNext());
+		model.addAttribute("pagePath", "/lists/search");
+		addTagModel(model, tagMode, exclude);
 		model.addAttribute("keyword", keyword);
 		model.addAttribute("groups", chunkLists(lists, 3));
 		model.addAttribute("selectedTags", tags == null ? Collections.emptyList() : tags);
@@ -384,11 +438,17 @@ public class WordListController {
 		return Arrays.stream(tags.split("[,#\\s]+")).map(String::trim).filter(s -> !s.isBlank()).toList();
 	}
 
+	// --- helper: 태그 AND/NOT 조건 (tagMode=all 이면 선택한 태그를 모두 포함, exclude 는 제외할 태그) ---
+	private void addTagModel(Model model, String tagMode, List<String> exclude) {
+		model.addAttribute("tagMode", "all".equalsIgnoreCase(tagMode) ? "all" : "any");
+		model.addAttribute("excludeTags", exclude == null ? Collections.emptyList() : exclude);
+	}
+
 	// --- helper: 리스트를 chunkSize 단위로 묶어서 ---
-	private List<List<WordList>> chunkLists(List<WordList> lists, int chunkSize) {
+	private <T> List<List<T>> chunkLists(List<T> lists, int chunkSize) {
 		if (lists == null || lists.isEmpty())
 			return Collections.emptyList();
-		List<List<WordList>> groups = new ArrayList<>();
+		List<List<T>> groups = new ArrayList<>();
 		for (int i = 0; i < lists.size(); i += chunkSize) {
 			int end = Math.min(i + chunkSize, lists.size());
 			groups.add(new ArrayList<>(lists.subList(i, end)));
@@ -63,6 +63,27 @@ public class WrongNoteController {
         return ResponseEntity.ok(res);
     }
 
+    /** 오답 목록(필터 포함, 키셋 커서 — 무한 스크롤) */
+    @GetMapping("/scroll")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPage<WrongNoteDto>> scrollFiltered(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam(value = "sort",       defaultValue = "LATEST") String sort,
+            @RequestParam(value = "dateFilter", defaultValue = "ALL")    String dateFilter,
+            @RequestParam(value = "from",       required = false)        String from,
+            @RequestParam(value = "to",         required = false)        String to,
+            @RequestParam(value = "category",   required = false)        String category,
+            @RequestParam(value = "cursor",     required = false)        String cursor,
+            @RequestParam(value = "size",       defaultValue = "20")     int size) {
+
+        if (principal == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        Long userId = principal.getId();
+
+        CursorPage<WrongNoteDto> res = wrongNoteService
+                .scrollByUserWithFilters(userId, sort, dateFilter, from, to, category, cursor, size);
+        return ResponseEntity.ok(res);
+    }
+
     /** 메모 저장/수정 */
     @PatchMapping("/{noteId}")
     @PreAuthorize("isAuthenticated()")
@@ -0,0 +1,18 @@
+package com.toke.toke_project.web.dto;
+
+import java.util.List;
+
+/**
+ * 여러 공식 단어를 단어장에 추가한 결과 (요청 순서대로).
+ * duplicates 는 이미 단어장에 있거나 요청 안에서 겹친 단어, missing 은 없는(삭제된) 단어 id.
+ */
+public record AddWordsResult(
+		List<Long> added,
+		List<Long> duplicates,
+		List<Long> missing
+		) {
+
+	public int skipped() {
+		return duplicates.size() + missing.size();
+	}
+}
@@ -0,0 +1,18 @@
+package com.toke.toke_project.web.dto;
+
+import java.util.List;
+
+/**
+ * 키셋(커서) 페이지 응답 — 무한 스크롤용.
+ * nextCursor 를 그대로 다음 요청의 cursor 로 넘기면 된다(마지막이면 null).
+ */
+public record CursorPage<T>(
+		List<T> items,
+		String nextCursor,
+		boolean hasNext
+		) {
+
+	public static <T> CursorPage<T> last(List<T> items) {
+		return new CursorPage<>(items, null, false);
+	}
+}
@@ -0,0 +1,22 @@
+package com.toke.toke_project.web.dto;
+
+import java.util.List;
+
+/**
+ * 단어 일괄 가져오기(CSV/TSV) 결과.
+ * errors 는 앞에서부터 최대 maxErrors 건만 담고, 전체 건수는 errorCount 로 알린다.
+ */
+public record WordImportResult(
+		long totalRows,
+		long inserted,
+		long duplicates,
+		long errorCount,
+		List<RowError> errors,
+		long elapsedMillis,
+		double rowsPerSecond
+		) {
+
+	/** 문제 행 1건 (line 은 파일 기준 1부터, 헤더 포함) */
+	public record RowError(long line, String message) {
+	}
+}
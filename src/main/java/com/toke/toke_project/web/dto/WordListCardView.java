@@ -0,0 +1,19 @@
+package com.toke.toke_project.web.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 단어장 카드 한 장 (/lists, /lists/mine, 단어장 선택 모달)
+ * - WordList 엔티티(owner/tags EAGER) 대신 쿼리 1회로 채우는 읽기 전용 모델
+ */
+public record WordListCardView(
+		Long id,
+		String listName,
+		String description,
+		Long ownerId,
+		String ownerNickname,
+		Integer isShared,
+		LocalDateTime createdAt,
+		List<String> tags          // 태그 이름 (가나다순)
+) {}
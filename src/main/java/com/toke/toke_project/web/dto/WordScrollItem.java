@@ -0,0 +1,14 @@
+package com.toke.toke_project.web.dto;
+
+/**
+ * /api/words/scroll 단어 카드 1건 (엔티티의 등록자/색인 컬럼은 내보내지 않는다).
+ */
+public record WordScrollItem(
+		Long wordId,
+		String japaneseWord,
+		String readingKana,
+		String koreanMeaning,
+		String category,
+		String exampleSentenceJp
+		) {
+}
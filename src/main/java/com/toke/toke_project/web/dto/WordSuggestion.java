@@ -0,0 +1,12 @@
+package com.toke.toke_project.web.dto;
+
+/**
+ * /api/words/suggest 자동완성 항목 1건.
+ */
+public record WordSuggestion(
+		Long wordId,
+		String japaneseWord,
+		String readingKana,
+		String koreanMeaning
+		) {
+}
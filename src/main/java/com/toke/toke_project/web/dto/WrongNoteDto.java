@@ -38,6 +38,29 @@ public class WrongNoteDto {
 
 	private LocalDateTime noteCreatedAt;
 
+	public WrongNoteDto() {
+	}
+
+	/** JPQL 생성자 프로젝션용 (WrongNoteRepository) */
+	public WrongNoteDto(Long noteId, Long userId, Long wordId,
+			String japaneseWord, String readingKana, String koreanMeaning, String exampleSentenceJp,
+			Long wrongCount, LocalDateTime lastWrongAt, String note, String starred,
+			String category, LocalDateTime noteCreatedAt) {
+		this.noteId = noteId;
+		this.userId = userId;
+		this.wordId = wordId;
+		this.japaneseWord = japaneseWord;
+		this.readingKana = readingKana;
+		this.koreanMeaning = koreanMeaning;
+		this.exampleSentenceJp = exampleSentenceJp;
+		this.wrongCount = wrongCount;
+		this.lastWrongAt = lastWrongAt;
+		this.note = note;
+		this.starred = starred;
+		this.category = category;
+		this.noteCreatedAt = noteCreatedAt;
+	}
+
 	// getters / setters
 	public Long getNoteId() {
 		return noteId;
@@ -13,6 +13,9 @@ public class WrongNoteQuizRequest {
 	// desired number of questions
 	private Integer count;
 
+	// RANDOM(기본): 조건에 맞는 오답 중 무작위 / PRIORITY: 복습 점수 상위 count개
+	private String mode;
+
 	public WrongNoteQuizRequest() {
 	}
 
@@ -47,4 +50,16 @@ public class WrongNoteQuizRequest {
 	public void setCount(Integer count) {
 		this.count = count;
 	}
+
+	public String getMode() {
+		return mode;
+	}
+
+	public void setMode(String mode) {
+		this.mode = mode;
+	}
+
+	public boolean isPriorityMode() {
+		return "PRIORITY".equalsIgnoreCase(mode);
+	}
 }
@@ -0,0 +1,25 @@
+package com.toke.toke_project;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.lang.annotation.*;
+
+/**
+ * H2(Oracle 호환 모드) + 엔티티 기준 스키마 생성으로 도는 JPA 슬라이스 테스트.
+ * 운영 application.properties 의 Oracle 접속 설정을 덮어쓴다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:jpa-test;MODE=Oracle;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public @interface H2JpaTest {
+}
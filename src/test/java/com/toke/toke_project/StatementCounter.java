@@ -0,0 +1,45 @@
+package com.toke.toke_project;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실행된 SQL 문장 수를 센다 (execute* 호출 1회 = 1, executeBatch 1회도 1).
+ * wrap() 한 DataSource → Connection → Statement 로 이어지는 JDK 프록시로 센다.
+ */
+public final class StatementCounter {
+
+	private final AtomicInteger count = new AtomicInteger();
+
+	public DataSource wrap(DataSource dataSource) {
+		return (DataSource) counting(dataSource, DataSource.class);
+	}
+
+	public int get() {
+		return count.get();
+	}
+
+	public void reset() {
+		count.set(0);
+	}
+
+	private Object counting(Object target, Class<?> type) {
+		return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (p, m, args) -> {
+			if (m.getName().startsWith("execute")) count.incrementAndGet();
+			Object result;
+			try {
+				result = m.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+			if (result instanceof Connection || result instanceof Statement) {
+				return counting(result, m.getReturnType()); // PreparedStatement 등 선언 타입 그대로
+			}
+			return result;
+		});
+	}
+}
@@ -0,0 +1,50 @@
+package com.toke.toke_project;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+/**
+ * JDBC 테스트용 H2(Oracle 호환 모드) 메모리 DB 1개. 만들 때마다 새 DB 이고 close() 에서 SHUTDOWN 한다.
+ * 스키마는 손으로 쓰지 않고 한 곳에서 읽는다:
+ * - db/h2-schema.sql: 엔티티 테이블 (TestDbSchemaTest 가 엔티티 매핑과 비교)
+ * - devtools/sql/quiz_paper.sql, word_catalog_version.sql: 엔티티가 없는 테이블, 운영 스크립트 그대로
+ */
+public final class TestDb implements AutoCloseable {
+
+	private final DataSource dataSource;
+	private final JdbcTemplate jdbc;
+
+	private TestDb(DataSource dataSource) {
+		this.dataSource = dataSource;
+		this.jdbc = new JdbcTemplate(dataSource);
+	}
+
+	public static TestDb create() {
+		TestDb db = new TestDb(new DriverManagerDataSource(
+				"jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=Oracle;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", ""));
+		new ResourceDatabasePopulator(
+				new ClassPathResource("db/h2-schema.sql"),
+				new FileSystemResource("devtools/sql/quiz_paper.sql"),
+				new FileSystemResource("devtools/sql/word_catalog_version.sql")).execute(db.dataSource);
+		return db;
+	}
+
+	public DataSource dataSource() {
+		return dataSource;
+	}
+
+	public JdbcTemplate jdbc() {
+		return jdbc;
+	}
+
+	@Override
+	public void close() {
+		jdbc.execute("SHUTDOWN");
+	}
+}
@@ -0,0 +1,61 @@
+package com.toke.toke_project;
+
+import com.toke.toke_project.repo.WordRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** TestDb 공용 스키마가 엔티티 매핑(Hibernate 가 만든 스키마)과 같은 컬럼/NULL 허용 여부인지 */
+@H2JpaTest
+@Import(TestDbSchemaTest.Config.class)
+class TestDbSchemaTest {
+
+	/** db/h2-schema.sql 의 테이블 (quiz_paper 는 devtools/sql 을 그대로 읽으므로 제외) */
+	static final List<String> ENTITY_TABLES = List.of(
+			"users", "word", "word_list", "word_list_item", "hashtag", "word_list_tag", "wrong_note");
+
+	@TestConfiguration
+	@EnableJpaRepositories(basePackageClasses = WordRepository.class, includeFilters = @ComponentScan.Filter(
+			type = FilterType.ASSIGNABLE_TYPE, classes = WordRepository.class))
+	static class Config {
+	}
+
+	@Autowired DataSource entitySchema;
+
+	/** 컬럼 이름 → NULL 허용 */
+	static Map<String, Boolean> columns(DataSource ds, String table) {
+		Map<String, Boolean> out = new TreeMap<>();
+		new JdbcTemplate(ds).query("""
+				SELECT column_name, is_nullable FROM information_schema.columns
+				 WHERE table_schema = 'PUBLIC' AND table_name = ?
+				""", (RowCallbackHandler) rs -> {
+			out.put(rs.getString(1), "YES".equals(rs.getString(2)));
+		}, table.toUpperCase());
+		return out;
+	}
+
+	@Test
+	void sharedSchemaMatchesEntityMappings() {
+		try (TestDb db = TestDb.create()) {
+			for (String table : ENTITY_TABLES) {
+				assertThat(columns(db.dataSource(), table)).as(table)
+						.isNotEmpty()
+						.isEqualTo(columns(entitySchema, table));
+			}
+			assertThat(columns(db.dataSource(), "quiz_paper")).containsOnlyKeys("QUIZ_ID", "PAYLOAD", "EXPIRES_AT");
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package com.toke.toke_project.config;
+
+import com.toke.toke_project.TestDb;
+import com.toke.toke_project.domain.Word;
+import com.toke.toke_project.service.WordCatalogService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/** 기동 후 점진 재계산: 값이 다른 행만 chunk 단위로 갱신한다 */
+class WordIndexInitializerTest {
+
+	TestDb db;
+	JdbcTemplate jdbc;
+	WordCatalogService catalogService = mock(WordCatalogService.class);
+	SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	WordIndexInitializer initializer;
+
+	@BeforeEach
+	void setUp() {
+		db = TestDb.create();
+		jdbc = db.jdbc();
+		initializer = new WordIndexInitializer(jdbc, catalogService, registry, true, 100);
+	}
+
+	@AfterEach
+	void tearDown() {
+		db.close();
+	}
+
+	private double rows(String result) {
+		return registry.get("word.index.rows").tag("result", result).counter().count();
+	}
+
+	@Test
+	void updatesOnlyStaleRowsAndIsIdempotent() {
+		// 1~250: 컬럼 비어 있음(백필 전), 251~300: 이미 현재 규칙으로 계산됨
+		for (long id = 1; id <= 250; id++) {
+			jdbc.update("""
+					INSERT INTO word (word_id, japanese_word, korean_meaning, reading_kana, created_by, created_at)
+					VALUES (?, '会議', ?, ?, 1, CURRENT_TIMESTAMP)
+					""", id, "회의" + id, id % 2 == 0 ? "かいぎ" : null);
+		}
+		for (long id = 251; id <= 300; id++) {
+			jdbc.update("""
+					INSERT INTO word (word_id, japanese_word, korean_meaning, reading_kana, created_by, created_at,
+					                  ko_group, ko_vowel_index, ko_choseong, ja_group, ja_vowel_index, index_version)
+					VALUES (?, '木', '나무', 'き', 1, CURRENT_TIMESTAMP, '나', 0, 'ㄴㅁ', 'か', 99, ?)
+					""", id, Word.INDEX_VERSION);
+		}
+		// 저장값이 규칙과 다른 행 (예전 계산 결과)
+		jdbc.update("UPDATE word SET ja_group = 'あ' WHERE word_id = 260");
+
+		assertThat(initializer.run()).isEqualTo(251);
+
+		Map<String, Object> row = jdbc.queryForMap("SELECT * FROM word WHERE word_id = 2");
+		assertThat(row).containsEntry("KO_GROUP", "하").containsEntry("KO_CHOSEONG", "ㅎㅇ")
+				.containsEntry("JA_GROUP", "か");
+		assertThat(((Number) row.get("INDEX_VERSION")).intValue()).isEqualTo(Word.INDEX_VERSION);
+		assertThat(jdbc.queryForObject("SELECT ja_group FROM word WHERE word_id = 260", String.class)).isEqualTo("か");
+		verify(catalogService).reload();
+
+		// 두 번째 실행은 갱신할 행이 없고 카탈로그도 다시 읽지 않는다
+		assertThat(initializer.run()).isZero();
+		verifyNoMoreInteractions(catalogService);
+
+		assertThat(rows("scanned")).isEqualTo(600);
+		assertThat(rows("updated")).isEqualTo(251);
+		assertThat(registry.get("word.index.progress").gauge().value()).isEqualTo(1.0);
+	}
+}
@@ -0,0 +1,75 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.service.model.CatalogWord;
+import com.toke.toke_project.service.model.QuestionMode;
+import com.toke.toke_project.service.model.WordCatalog;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시험지 1장(10문항) 오답 보기 선택 비용 비교.
+ * - perQuestionQuery: 기존 방식. 문항마다 쿼리 1회(카테고리 전체 DISTINCT + 무작위 정렬 후 20개)를 메모리로 재현
+ *                     → 시험지당 쿼리 10회 (네트워크 왕복 비용은 제외된 하한값)
+ * - batchedSelector : QuizDistractorSelector 한 번 호출 → 시험지당 쿼리 0회
+ *
+ * 실행: mvn test-compile 후 main() 실행 (IDE 또는 test classpath로 java 실행)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuizDistractorBenchmark {
+
+	@Param({ "1000", "10000" })
+	int categorySize;
+
+	static final int QUESTIONS = 10;
+
+	WordCatalog catalog;
+	QuizDistractorSelector selector;
+	List<CatalogWord> targets;
+
+	@Setup
+	public void setUp() {
+		List<CatalogWord> words = new ArrayList<>(categorySize);
+		for (long i = 1; i <= categorySize; i++) {
+			words.add(new CatalogWord(i, "語" + i, null, "뜻" + (i % (categorySize / 2)), "비즈니스", null));
+		}
+		catalog = WordCatalog.of(1L, words);
+		selector = new QuizDistractorSelector();
+		targets = catalog.sample("비즈니스", QUESTIONS, new Random(42));
+	}
+
+	@Benchmark
+	public void perQuestionQuery(Blackhole bh) {
+		long[] pool = catalog.idsOf("비즈니스");
+		for (CatalogWord t : targets) {
+			// SELECT DISTINCT korean_meaning ... WHERE word_id <> :id ORDER BY DBMS_RANDOM.VALUE ... ROWNUM <= 20
+			Set<String> distinct = new LinkedHashSet<>();
+			for (long id : pool) {
+				if (id != t.id()) distinct.add(catalog.get(id).koreanMeaning());
+			}
+			List<String> rows = new ArrayList<>(distinct);
+			Collections.shuffle(rows, ThreadLocalRandom.current());
+			List<String> top = rows.subList(0, Math.min(20, rows.size()));
+			bh.consume(top.stream().filter(s -> !s.isBlank() && !s.equals(t.koreanMeaning())).distinct().limit(3).toList());
+		}
+	}
+
+	@Benchmark
+	public void batchedSelector(Blackhole bh) {
+		bh.consume(selector.select(catalog, targets, QuestionMode.JP_TO_KR, 3, ThreadLocalRandom.current()));
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(QuizDistractorBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,58 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.service.model.CatalogWord;
+import com.toke.toke_project.service.model.QuestionMode;
+import com.toke.toke_project.service.model.WordCatalog;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuizDistractorSelectorTest {
+
+	private final QuizDistractorSelector selector = new QuizDistractorSelector();
+
+	@Test
+	void distractorsAreNonBlankDistinctAndNeverTheAnswer() {
+		List<CatalogWord> words = new ArrayList<>();
+		for (long i = 1; i <= 200; i++) {
+			// 뜻이 겹치는 단어, 빈 뜻을 일부러 섞는다
+			String meaning = (i % 10 == 0) ? " " : "뜻" + (i % 40);
+			words.add(new CatalogWord(i, "語" + i, null, meaning, "회의", null));
+		}
+		WordCatalog catalog = WordCatalog.of(1L, words);
+		List<CatalogWord> targets = catalog.sample("회의", 10, new Random(3));
+
+		List<List<CatalogWord>> result = selector.select(catalog, targets, QuestionMode.JP_TO_KR, 3, new Random(3));
+
+		assertThat(result).hasSize(targets.size());
+		for (int i = 0; i < targets.size(); i++) {
+			CatalogWord target = targets.get(i);
+			List<String> texts = result.get(i).stream().map(CatalogWord::koreanMeaning).toList();
+			assertThat(texts).hasSize(3);
+			assertThat(texts).allSatisfy(t -> assertThat(t).isNotBlank());
+			assertThat(new HashSet<>(texts)).hasSize(3);
+			assertThat(texts).doesNotContain(target.koreanMeaning());
+			assertThat(result.get(i)).extracting(CatalogWord::id).doesNotContain(target.id());
+		}
+	}
+
+	@Test
+	void smallCategoryIsToppedUpFromWholeCatalog() {
+		WordCatalog catalog = WordCatalog.of(1L, List.of(
+				new CatalogWord(1L, "会議", null, "회의", "작은", null),
+				new CatalogWord(2L, "会社", null, "회사", "작은", null),
+				new CatalogWord(3L, "資料", null, "자료", "다른", null),
+				new CatalogWord(4L, "予定", null, "예정", "다른", null)));
+
+		List<List<CatalogWord>> result = selector.select(catalog, List.of(catalog.get(1L)),
+				QuestionMode.KR_TO_JP, 3, new Random(1));
+
+		assertThat(result.get(0)).extracting(CatalogWord::japaneseWord)
+				.containsExactlyInAnyOrder("会社", "資料", "予定");
+	}
+}
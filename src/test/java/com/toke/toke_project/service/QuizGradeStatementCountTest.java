@@ -0,0 +1,136 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.H2JpaTest;
+import com.toke.toke_project.StatementCounter;
+import com.toke.toke_project.domain.Users;
+import com.toke.toke_project.domain.Word;
+import com.toke.toke_project.repo.QuizResultRepository;
+import com.toke.toke_project.repo.UsersRepository;
+import com.toke.toke_project.repo.WordRepository;
+import com.toke.toke_project.repo.WrongNoteRepository;
+import com.toke.toke_project.service.model.CompactQuizPaper;
+import com.toke.toke_project.service.model.QuestionMode;
+import com.toke.toke_project.web.dto.GradeRequest;
+import com.toke.toke_project.web.dto.GradeResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 10문항 채점 1회의 DB 왕복(문장 실행) 횟수.
+ * 기존: 문항마다 INSERT + 시퀀스 + 단어 조회, 오답마다 단어/오답노트 조회 + 저장 → 30회 이상
+ * 현재: quiz_result 배치 INSERT 1 + 오답노트 MERGE 1 + 정답 복습 점수 배치 UPDATE 1
+ *       (해설용 단어는 1회차에 WordCache 에 올라가고, 시퀀스는 50개 단위)
+ */
+@H2JpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // grade()가 직접 커밋하게 둔다
+@Import({ QuizService.class, WordCache.class, QuizResultService.class, QuizResultWriter.class, WrongNoteService.class, WordCatalogService.class,
+		QuizDistractorSelector.class, QuizPaperPool.class, QuizGradeStatementCountTest.Config.class })
+class QuizGradeStatementCountTest {
+
+	/** 실행된 문장 수 (execute*, executeBatch 1회 = 1) */
+	static final StatementCounter STATEMENTS = new StatementCounter();
+
+	// 채점에 쓰는 저장소만 (WordListRepository.findByIsSharedTrue 는 Integer 컬럼이라 -ea 에서 Hibernate assert에 걸린다)
+	@TestConfiguration
+	@EnableJpaRepositories(basePackageClasses = WordRepository.class, includeFilters = @ComponentScan.Filter(
+			type = FilterType.ASSIGNABLE_TYPE,
+			classes = { WordRepository.class, WrongNoteRepository.class, QuizResultRepository.class, UsersRepository.class }))
+	static class Config {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean
+		QuizPaperStore quizPaperStore() {
+			return new LocalQuizPaperStore(Duration.ofMinutes(30), 1 << 20, Clock.systemDefaultZone());
+		}
+
+		@Bean
+		static BeanPostProcessor countingDataSource() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String name) {
+					return (bean instanceof DataSource ds) ? STATEMENTS.wrap(ds) : bean;
+				}
+			};
+		}
+	}
+
+	@Autowired QuizService quizService;
+	@Autowired QuizPaperStore store;
+	@Autowired WordCatalogService wordCatalogService;
+	@Autowired WordRepository wordRepository;
+	@Autowired UsersRepository usersRepository;
+	@Autowired JdbcTemplate jdbc;
+
+	@Test
+	void gradingTenQuestionsUsesThreeStatements() {
+		Users user = new Users();
+		user.setUsername("채점");
+		user.setPassword("x");
+		user.setPhoneNumber("010-0000-0000");
+		user.setEmail("grade@test.com");
+		user.setNickname("grader");
+		Long userId = usersRepository.save(user).getId();
+
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 13; i++) {
+			Word w = new Word();
+			w.setJapaneseWord("語" + i);
+			w.setReadingKana("ご");
+			w.setKoreanMeaning("뜻" + i);
+			w.setCategory("회의");
+			w.setCreatedBy(userId);
+			ids.add(wordRepository.save(w).getId());
+		}
+		wordCatalogService.reload();
+
+		// 10문항: 보기 = [정답, 오답 3], 짝수 문항만 맞힌다
+		long[] wordIds = new long[10];
+		long[] optionIds = new long[40];
+		Map<Integer, Integer> answers = new HashMap<>();
+		for (int i = 0; i < 10; i++) {
+			wordIds[i] = ids.get(i);
+			optionIds[i * 4] = ids.get(i);
+			for (int j = 1; j < 4; j++) optionIds[i * 4 + j] = ids.get((i + j) % 13);
+			answers.put(i, i % 2 == 0 ? 0 : 1);
+		}
+		store.put(new CompactQuizPaper("warm-up", "회의", QuestionMode.JP_TO_KR, wordIds, optionIds, new byte[10]));
+		store.put(new CompactQuizPaper("measured", "회의", QuestionMode.JP_TO_KR, wordIds, optionIds, new byte[10]));
+
+		// 1회차: 카탈로그 로딩, 단어 캐시 적재, 시퀀스 블록 확보
+		quizService.grade("warm-up", new GradeRequest(answers), userId);
+
+		STATEMENTS.reset();
+		GradeResponse res = quizService.grade("measured", new GradeRequest(answers), userId);
+		int statements = STATEMENTS.get();
+
+		assertThat(res.total()).isEqualTo(10);
+		assertThat(res.correct()).isEqualTo(5);
+		assertThat(statements).isEqualTo(3); // 단어 SELECT 없음
+
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM quiz_result", Integer.class)).isEqualTo(20);
+		assertThat(jdbc.queryForList("SELECT wrong_count FROM wrong_note", Long.class))
+				.hasSize(5).containsOnly(2L);
+	}
+}
@@ -0,0 +1,65 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.repo.WrongNoteRepository;
+import com.toke.toke_project.service.model.CatalogWord;
+import com.toke.toke_project.service.model.CompactQuizPaper;
+import com.toke.toke_project.service.model.QuestionMode;
+import com.toke.toke_project.service.model.WordCatalog;
+import com.toke.toke_project.web.dto.GradeRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/** write-behind 모드: 풀이 기록만 큐로 가고, 오답노트는 채점이 끝나기 전에 반영된다 */
+class QuizGradeWriteBehindTest {
+
+	@Test
+	void wrongNotesAreRecordedBeforeGradeReturns() throws Exception {
+		List<CatalogWord> words = new ArrayList<>();
+		for (long id = 1; id <= 4; id++) words.add(new CatalogWord(id, "語" + id, "ご", "뜻" + id, "회의", null));
+		WordCatalogService catalog = mock(WordCatalogService.class);
+		when(catalog.current()).thenReturn(WordCatalog.of(1L, words));
+		WordCache wordCache = mock(WordCache.class);
+		when(wordCache.getAll(anyList())).thenReturn(Map.of());
+
+		// 백그라운드 저장은 latch 가 열릴 때까지 막힌다
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger saved = new AtomicInteger();
+		QuizResultService resultService = mock(QuizResultService.class);
+		when(resultService.saveResults(anyList())).thenAnswer(inv -> {
+			release.await(5, TimeUnit.SECONDS);
+			saved.addAndGet(((List<?>) inv.getArgument(0)).size());
+			return inv.getArgument(0);
+		});
+		QuizResultWriter writer = new QuizResultWriter(resultService, new SimpleMeterRegistry(),
+				"write-behind", 100, 10, Duration.ofSeconds(1));
+		WrongNoteService wrongNotes = mock(WrongNoteService.class);
+		QuizPaperStore store = new LocalQuizPaperStore(Duration.ofMinutes(30), 1 << 20, Clock.systemDefaultZone());
+		QuizService quizService = new QuizService(wordCache, mock(WrongNoteRepository.class), wrongNotes, writer,
+				catalog, mock(QuizDistractorSelector.class), mock(QuizPaperPool.class), store);
+
+		// 2문항: 보기 = [정답, 오답 3], 1번만 맞힌다
+		store.put(new CompactQuizPaper("q", "회의", QuestionMode.JP_TO_KR, new long[] { 1, 2 },
+				new long[] { 1, 2, 3, 4, 2, 1, 3, 4 }, new byte[2]));
+		quizService.grade("q", new GradeRequest(Map.of(0, 0, 1, 1)), 7L);
+
+		verify(wrongNotes).recordWrongAll(List.of(new WrongNoteService.WrongKey(7L, 2L)));
+		verify(wrongNotes).recordCorrectAll(List.of(new WrongNoteService.WrongKey(7L, 1L)));
+		assertThat(saved.get()).isZero(); // 풀이 기록은 아직 큐에
+
+		release.countDown();
+		writer.shutdown();
+		assertThat(saved.get()).isEqualTo(2);
+		verifyNoMoreInteractions(wrongNotes);
+	}
+}
@@ -0,0 +1,50 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.service.model.CatalogWord;
+import com.toke.toke_project.service.model.QuestionMode;
+import com.toke.toke_project.service.model.QuizPaper;
+import com.toke.toke_project.service.model.WordCatalog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/** 시험지 풀 키: 카탈로그에 있는 카테고리만, 공백만 다른 입력은 같은 키로 등록된다 */
+class QuizPaperPoolTest {
+
+	SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	WordCatalogService catalogService = mock(WordCatalogService.class);
+	QuizPaperPool pool;
+
+	@AfterEach
+	void tearDown() {
+		pool.shutdown();
+	}
+
+	double keys() {
+		return registry.get("quiz.pool.keys").gauge().value();
+	}
+
+	@Test
+	void unknownCategoriesDoNotTakeSlots() {
+		when(catalogService.current()).thenReturn(WordCatalog.of(1L, List.of(
+				new CatalogWord(1L, "会議", "かいぎ", "회의", "비즈니스", null))));
+		pool = new QuizPaperPool(catalogService, registry, true, 1, 2);
+		QuizPaper paper = new QuizPaper(null, "x", QuestionMode.JP_TO_KR, List.of());
+
+		for (int i = 0; i < 10; i++) {
+			pool.take(QuizPaperPool.Key.of("오타" + i, QuestionMode.JP_TO_KR, 10), () -> paper);
+		}
+		assertThat(keys()).isZero();
+
+		pool.take(QuizPaperPool.Key.of("비즈니스", QuestionMode.JP_TO_KR, 10), () -> paper);
+		pool.take(QuizPaperPool.Key.of(" 비 즈니스 ", QuestionMode.JP_TO_KR, 10), () -> paper);
+		pool.take(QuizPaperPool.Key.of(null, QuestionMode.JP_TO_KR, 10), () -> paper);
+		assertThat(keys()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,119 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.TestDb;
+import com.toke.toke_project.service.model.CompactQuizPaper;
+import com.toke.toke_project.service.model.QuestionMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuizPaperStoreTest {
+
+	static final Duration TTL = Duration.ofMinutes(30);
+
+	/** 테스트에서 시간을 직접 움직이는 시계 */
+	static final class MutableClock extends Clock {
+		Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+		void advance(Duration d) { now = now.plus(d); }
+
+		@Override public ZoneId getZone() { return ZoneOffset.UTC; }
+		@Override public Clock withZone(ZoneId zone) { return this; }
+		@Override public Instant instant() { return now; }
+	}
+
+	MutableClock clock;
+	TestDb db;
+	JdbcTemplate jdbc;
+
+	@BeforeEach
+	void setUp() {
+		clock = new MutableClock();
+		db = TestDb.create();
+		jdbc = db.jdbc();
+	}
+
+	@AfterEach
+	void tearDown() {
+		db.close();
+	}
+
+	static CompactQuizPaper paper(String id) {
+		return new CompactQuizPaper(id, "회의", QuestionMode.JP_TO_KR,
+				new long[] { 1, 2 }, new long[] { 1, 5, 6, 7, 2, 8, 9, 10 }, new byte[] { 0, 0 });
+	}
+
+	JdbcQuizPaperStore jdbcStore() {
+		return new JdbcQuizPaperStore(jdbc, TTL, clock, Duration.ZERO);
+	}
+
+	void assertTtl(QuizPaperStore store) {
+		store.put(paper("q1"));
+		clock.advance(Duration.ofMinutes(29));
+		CompactQuizPaper got = store.get("q1");
+		assertThat(got).isNotNull();
+		assertThat(got.wordIds()).containsExactly(1, 2);
+		assertThat(got.optionWordIds()).containsExactly(1, 5, 6, 7, 2, 8, 9, 10);
+
+		clock.advance(Duration.ofMinutes(2)); // 31분
+		assertThat(store.get("q1")).isNull();
+		assertThat(store.get("missing")).isNull();
+	}
+
+	@Test
+	void localStoreExpiresAfterTtl() {
+		assertTtl(new LocalQuizPaperStore(TTL, 1 << 20, clock));
+	}
+
+	@Test
+	void jdbcStoreExpiresAfterTtl() {
+		assertTtl(jdbcStore());
+	}
+
+	@Test
+	void twoTierStoreExpiresAfterTtl() {
+		assertTtl(new TwoTierQuizPaperStore(jdbcStore(), TTL, 1 << 20, clock));
+	}
+
+	@Test
+	void twoTierNodesShareDatabaseWithoutStickySessions() {
+		QuizPaperStore nodeA = new TwoTierQuizPaperStore(jdbcStore(), TTL, 1 << 20, clock);
+		QuizPaperStore nodeB = new TwoTierQuizPaperStore(jdbcStore(), TTL, 1 << 20, clock);
+
+		nodeA.put(paper("q1"));
+		clock.advance(Duration.ofMinutes(10));
+		assertThat(nodeB.get("q1")).isNotNull(); // B는 DB에서 읽어 near-cache에 올림
+
+		// B의 near-cache 항목도 원래 만료 시각(30분)에 같이 만료된다
+		clock.advance(Duration.ofMinutes(21));
+		assertThat(nodeB.get("q1")).isNull();
+		assertThat(nodeA.get("q1")).isNull();
+	}
+
+	@Test
+	void jdbcStoreSurvivesRestart() {
+		jdbcStore().put(paper("q1"));
+		assertThat(jdbcStore().get("q1")).isNotNull(); // 새 인스턴스 = 재시작 후
+	}
+
+	@Test
+	void sweeperDeletesOnlyExpiredRows() {
+		JdbcQuizPaperStore store = jdbcStore();
+		store.put(paper("old"));
+		clock.advance(Duration.ofMinutes(20));
+		store.put(paper("new"));
+		clock.advance(Duration.ofMinutes(11));
+
+		assertThat(store.sweepExpired()).isEqualTo(1);
+		assertThat(jdbc.queryForList("SELECT quiz_id FROM quiz_paper", String.class)).containsExactly("new");
+	}
+}
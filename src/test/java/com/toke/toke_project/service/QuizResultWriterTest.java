@@ -0,0 +1,144 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.domain.QuizResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class QuizResultWriterTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final QuizResultService service = mock(QuizResultService.class);
+
+	/** saveResults 로 넘어온 배치들 */
+	private final List<List<QuizResult>> batches = Collections.synchronizedList(new ArrayList<>());
+
+	private static List<QuizResult> paper(int n) {
+		List<QuizResult> rows = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			QuizResult r = new QuizResult();
+			r.setUserId(1L);
+			r.setWordId((long) i);
+			r.setIsCorrect("Y");
+			rows.add(r);
+		}
+		return rows;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void recordBatches() {
+		when(service.saveResults(anyList())).thenAnswer(inv -> {
+			batches.add(new ArrayList<>((List<QuizResult>) inv.getArgument(0)));
+			return inv.getArgument(0);
+		});
+	}
+
+	@Test
+	void syncModeSavesInCallerThread() {
+		recordBatches();
+		QuizResultWriter writer = new QuizResultWriter(service, registry, "sync", 10, 10, Duration.ZERO);
+
+		writer.write(paper(10));
+
+		assertThat(batches).hasSize(1);
+		assertThat(batches.get(0)).hasSize(10);
+	}
+
+	@Test
+	void writeBehindDrainsInBatchesAndFlushesOnShutdown() {
+		recordBatches();
+		QuizResultWriter writer = new QuizResultWriter(service, registry, "write-behind", 1000, 8, Duration.ofSeconds(1));
+
+		for (int i = 0; i < 3; i++) writer.write(paper(10));
+		writer.shutdown();
+
+		assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(30);
+		assertThat(batches).allSatisfy(b -> assertThat(b).hasSizeLessThanOrEqualTo(8));
+		assertThat(registry.get("quiz.results.batch.size").summary().count()).isEqualTo(batches.size());
+		assertThat(registry.get("quiz.results.queue.depth").gauge().value()).isZero();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void fullQueueFallsBackToCallerWrites() throws Exception {
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(service.saveResults(anyList())).thenAnswer(inv -> {
+			if (Thread.currentThread().getName().equals("quiz-result-writer")) {
+				entered.countDown();
+				release.await();
+			}
+			batches.add(new ArrayList<>((List<QuizResult>) inv.getArgument(0)));
+			return inv.getArgument(0);
+		});
+		QuizResultWriter writer = new QuizResultWriter(service, registry, "write-behind", 1, 10, Duration.ZERO);
+
+		writer.write(paper(1));
+		assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue(); // 백그라운드 저장이 막혀 있는 상태
+
+		writer.write(paper(5)); // 1건은 큐, 4건은 호출 스레드에서 저장
+		assertThat(registry.get("quiz.results.backpressure").counter().count()).isEqualTo(4);
+		verify(service, atLeastOnce()).saveResults(argThat(l -> l.size() == 4));
+
+		release.countDown();
+		writer.shutdown();
+		assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(6);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void failedBatchIsSplitSoOnlyTheBadRowIsDropped() {
+		when(service.saveResults(anyList())).thenAnswer(inv -> {
+			List<QuizResult> rows = (List<QuizResult>) inv.getArgument(0);
+			if (rows.stream().anyMatch(r -> r.getUserId() < 0)) throw new IllegalStateException("bad row");
+			batches.add(new ArrayList<>(rows));
+			return rows;
+		});
+		QuizResultWriter writer = new QuizResultWriter(service, registry, "write-behind", 1000, 8, Duration.ofSeconds(1));
+
+		List<QuizResult> rows = paper(30);
+		rows.get(13).setUserId(-1L);
+		writer.write(rows);
+		writer.shutdown();
+
+		assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(29);
+		assertThat(batches).flatMap(b -> b).doesNotContain(rows.get(13));
+		assertThat(registry.get("quiz.results.write.failures").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void offerTimeoutIsOneDeadlinePerCall() throws Exception {
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(service.saveResults(anyList())).thenAnswer(inv -> {
+			if (Thread.currentThread().getName().equals("quiz-result-writer")) {
+				entered.countDown();
+				release.await();
+			}
+			return inv.getArgument(0);
+		});
+		QuizResultWriter writer = new QuizResultWriter(service, registry, "write-behind", 1, 10, Duration.ofMillis(300));
+		writer.write(paper(1));
+		assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+		writer.write(paper(1)); // 큐를 채운다
+
+		long start = System.nanoTime();
+		writer.write(paper(5)); // 행마다 기다리면 1.5초
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+		assertThat(registry.get("quiz.results.backpressure").counter().count()).isEqualTo(5);
+
+		release.countDown();
+		writer.shutdown();
+	}
+}
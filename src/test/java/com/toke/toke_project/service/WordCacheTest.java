@@ -0,0 +1,115 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.domain.Word;
+import com.toke.toke_project.repo.WordRepository;
+import com.toke.toke_project.service.model.CatalogWord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+class WordCacheTest {
+
+	private final WordRepository wordRepo = mock(WordRepository.class);
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final WordCache cache = new WordCache(wordRepo, registry, 100, Duration.ofHours(1));
+
+	private final Map<Long, Word> table = new HashMap<>();
+
+	private void givenWords(long... ids) {
+		for (long id : ids) {
+			Word w = new Word();
+			w.setId(id);
+			w.setJapaneseWord("語" + id);
+			w.setKoreanMeaning("뜻" + id);
+			table.put(id, w);
+		}
+		when(wordRepo.findById(anyLong())).thenAnswer(inv -> Optional.ofNullable(table.get((Long) inv.getArgument(0))));
+		when(wordRepo.findAllById(anyIterable())).thenAnswer(inv -> {
+			List<Word> out = new ArrayList<>();
+			for (Object id : (Iterable<?>) inv.getArgument(0)) {
+				if (table.containsKey(id)) out.add(table.get(id));
+			}
+			return out;
+		});
+	}
+
+	private double count(String result) {
+		return registry.get("word.cache.requests").tag("result", result).counter().count();
+	}
+
+	@Test
+	void batchLoadsOnlyMissingIdsOnce() {
+		givenWords(1, 2, 3, 4);
+
+		assertThat(cache.get(1L)).map(CatalogWord::japaneseWord).hasValue("語1");
+		Map<Long, CatalogWord> first = cache.getAll(List.of(1L, 2L, 3L, 99L));
+		Map<Long, CatalogWord> second = cache.getAll(List.of(1L, 2L, 3L));
+
+		assertThat(first).containsOnlyKeys(1L, 2L, 3L);
+		assertThat(second).containsOnlyKeys(1L, 2L, 3L);
+		verify(wordRepo).findById(1L);
+		verify(wordRepo).findAllById(Set.of(2L, 3L, 99L));
+		verifyNoMoreInteractions(wordRepo);
+
+		assertThat(count("hit")).isEqualTo(4);   // 1 + 1,2,3
+		assertThat(count("miss")).isEqualTo(4);  // 1 + 2,3,99
+	}
+
+	@Test
+	void missingIdIsNotCached() {
+		givenWords(1);
+
+		assertThat(cache.get(7L)).isEmpty();
+		givenWords(7);
+		assertThat(cache.get(7L)).isPresent();
+	}
+
+	@Test
+	void invalidationDuringBatchLoadWins() {
+		givenWords(1, 2);
+		// 조회가 옛 값을 읽은 뒤, 캐시에 넣기 전에 수정이 커밋되고 무효화된다
+		when(wordRepo.findAllById(anyIterable())).thenAnswer(inv -> {
+			List<Word> stale = new ArrayList<>();
+			for (Object id : (Iterable<?>) inv.getArgument(0)) {
+				Word w = new Word();
+				w.setId((Long) id);
+				w.setKoreanMeaning(table.get(id).getKoreanMeaning());
+				stale.add(w);
+			}
+			table.get(2L).setKoreanMeaning("수정");
+			cache.invalidate(2L);
+			return stale;
+		});
+
+		assertThat(cache.getAll(List.of(1L, 2L)).get(2L).koreanMeaning()).isEqualTo("뜻2"); // 이번 응답은 읽은 값
+		assertThat(cache.size()).isZero();
+		assertThat(cache.get(2L)).map(CatalogWord::koreanMeaning).hasValue("수정");
+	}
+
+	@Test
+	void invalidateWaitsForCommit() {
+		givenWords(1);
+		cache.get(1L);
+		table.get(1L).setKoreanMeaning("수정");
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			cache.invalidate(1L);
+			assertThat(cache.get(1L)).map(CatalogWord::koreanMeaning).hasValue("뜻1"); // 커밋 전
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		assertThat(cache.get(1L)).map(CatalogWord::koreanMeaning).hasValue("수정");
+		verify(wordRepo, times(2)).findById(1L);
+	}
+}
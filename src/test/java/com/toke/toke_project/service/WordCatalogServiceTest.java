@@ -0,0 +1,93 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.TestDb;
+import com.toke.toke_project.domain.Word;
+import com.toke.toke_project.repo.WordRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/** 두 노드가 DB 하나를 같이 쓸 때: 한 노드의 단어 변경이 word_catalog_version 으로 다른 노드에 전해진다 */
+class WordCatalogServiceTest {
+
+	TestDb db;
+	List<Word> table = new ArrayList<>();
+	WordRepository wordRepo = mock(WordRepository.class);
+	WordCache cacheA = mock(WordCache.class);
+	WordCache cacheB = mock(WordCache.class);
+	WordCatalogService nodeA;
+	WordCatalogService nodeB;
+
+	@BeforeEach
+	void setUp() {
+		db = TestDb.create();
+		table.add(word(1L, "会議", "회의"));
+		when(wordRepo.findAll()).thenAnswer(inv -> new ArrayList<>(table));
+		nodeA = new WordCatalogService(wordRepo, db.jdbc(), cacheA, 512, Duration.ZERO);
+		nodeB = new WordCatalogService(wordRepo, db.jdbc(), cacheB, 512, Duration.ZERO);
+	}
+
+	@AfterEach
+	void tearDown() {
+		nodeA.shutdown();
+		nodeB.shutdown();
+		db.close();
+	}
+
+	static Word word(Long id, String jp, String ko) {
+		Word w = new Word();
+		w.setId(id);
+		w.setJapaneseWord(jp);
+		w.setKoreanMeaning(ko);
+		return w;
+	}
+
+	@Test
+	void editOnOneNodeReachesTheOtherOnRefresh() {
+		assertThat(nodeA.current().size()).isEqualTo(1);
+		assertThat(nodeB.current().size()).isEqualTo(1);
+		assertThat(nodeB.refreshIfChanged()).isFalse(); // 바뀐 것 없음: 버전만 읽는다
+		verify(wordRepo, times(2)).findAll();
+
+		// 노드 A 에서 수정 + 등록 (트랜잭션 밖이므로 바로 반영)
+		Word edited = word(1L, "会議", "미팅");
+		Word added = word(2L, "資料", "자료");
+		table.set(0, edited);
+		table.add(added);
+		nodeA.onWordSaved(edited);
+		nodeA.onWordSaved(added);
+		assertThat(nodeA.current().get(2L)).isNotNull();
+		assertThat(nodeB.current().get(2L)).isNull(); // 아직 모른다
+		verifyNoInteractions(cacheB);
+
+		assertThat(nodeB.refreshIfChanged()).isTrue();
+		assertThat(nodeB.current().get(1L).koreanMeaning()).isEqualTo("미팅");
+		assertThat(nodeB.current().get(2L)).isNotNull();
+		assertThat(nodeB.current().search("자료", null, null, null)).containsExactly(2L);
+		verify(cacheB).invalidateAll();
+
+		assertThat(nodeB.refreshIfChanged()).isFalse();
+		assertThat(db.jdbc().queryForObject("SELECT version FROM word_catalog_version", Long.class)).isEqualTo(2L);
+	}
+
+	@Test
+	void deleteAndImportBumpTheVersion() {
+		nodeB.current();
+
+		table.clear();
+		nodeA.onWordDeleted(1L);
+		assertThat(nodeB.refreshIfChanged()).isTrue();
+		assertThat(nodeB.current().size()).isZero();
+
+		nodeA.markChanged(); // CSV 가져오기 끝
+		assertThat(nodeB.refreshIfChanged()).isTrue();
+		assertThat(nodeB.refreshIfChanged()).isFalse();
+	}
+}
@@ -0,0 +1,142 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.TestDb;
+import com.toke.toke_project.service.WordExportService.Format;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** 단어/단어장 내보내기: JDBC 커서 → CSV / JSON Lines */
+class WordExportServiceTest {
+
+	TestDb db;
+	JdbcTemplate jdbc;
+	WordExportService service;
+
+	@BeforeEach
+	void setUp() {
+		db = TestDb.create();
+		jdbc = db.jdbc();
+		jdbc.update("""
+				INSERT INTO word (word_id, japanese_word, reading_kana, korean_meaning, category, example_sentence_jp, created_by, created_at)
+				VALUES (1, '会議', 'かいぎ', '회의, 미팅', '비즈니스', '「会議」は"3時"から', 1, TIMESTAMP '2025-01-02 09:30:00'),
+				       (2, '資料', NULL, '자료', NULL, NULL, 1, TIMESTAMP '2025-01-03 10:00:00')
+				""");
+		jdbc.update("INSERT INTO word_list (list_id, user_id, list_name) VALUES (10, 1, '내보내기')");
+		jdbc.update("""
+				INSERT INTO word_list_item (list_item_id, list_id, word_id, custom_japanese_word, custom_reading_kana, custom_korean_meaning, created_at)
+				VALUES (100, 10, 1, NULL, NULL, NULL, TIMESTAMP '2025-01-04 08:00:00'),
+				       (101, 10, NULL, '予定', 'よてい', '예정', TIMESTAMP '2025-01-04 08:00:00')
+				""");
+		service = new WordExportService(jdbc, 1);
+	}
+
+	@AfterEach
+	void tearDown() {
+		db.close();
+	}
+
+	@Test
+	void wordsAsCsvQuoteOnlyWhenNeeded() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		service.writeWords(Format.CSV, out);
+
+		String csv = out.toString(StandardCharsets.UTF_8);
+		assertThat(csv).startsWith("\uFEFFword_id,japanese_word,");
+		assertThat(csv.split("\r\n")).containsExactly(
+				"\uFEFFword_id,japanese_word,reading_kana,korean_meaning,category,example_sentence_jp,created_at",
+				"1,会議,かいぎ,\"회의, 미팅\",비즈니스,\"「会議」は\"\"3時\"\"から\",2025-01-02T09:30",
+				"2,資料,,자료,,,2025-01-03T10:00");
+	}
+
+	@Test
+	void listItemsAsJsonLinesResolveOfficialAndCustomFields() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		service.writeListItems(10L, Format.JSONL, out);
+
+		List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+		assertThat(lines).containsExactly(
+				"{\"list_item_id\":100,\"word_id\":1,\"source\":\"official\",\"japanese_word\":\"会議\",\"reading_kana\":\"かいぎ\","
+						+ "\"korean_meaning\":\"회의, 미팅\",\"example_sentence_jp\":\"「会議」は\\\"3時\\\"から\",\"created_at\":\"2025-01-04T08:00\"}",
+				"{\"list_item_id\":101,\"word_id\":null,\"source\":\"custom\",\"japanese_word\":\"予定\",\"reading_kana\":\"よてい\","
+						+ "\"korean_meaning\":\"예정\",\"example_sentence_jp\":null,\"created_at\":\"2025-01-04T08:00\"}");
+	}
+
+	@Test
+	void timestampsUseGetTimestampNotGetObject() throws Exception {
+		// Oracle 드라이버처럼 getObject 가 java.sql.Timestamp 가 아닌 값을 돌려주는 DataSource
+		DataSource oracleLike = (DataSource) driverLike(db.dataSource(), DataSource.class);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		new WordExportService(new JdbcTemplate(oracleLike), 1).writeWords(Format.CSV, out);
+
+		assertThat(out.toString(StandardCharsets.UTF_8).split("\r\n")[2]).isEqualTo("2,資料,,자료,,,2025-01-03T10:00");
+	}
+
+	/** Connection → Statement → ResultSet 을 감싸 getObject(시각 컬럼)만 oracle.sql.TIMESTAMP 흉내 값으로 바꾼다 */
+	static Object driverLike(Object target, Class<?> type) {
+		return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (p, m, args) -> {
+			Object result;
+			try {
+				result = m.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+			if (result instanceof Timestamp && m.getName().equals("getObject")) {
+				return new Object() {
+					@Override
+					public String toString() {
+						return "oracle.sql.TIMESTAMP@1";
+					}
+				};
+			}
+			if (result instanceof Connection || result instanceof Statement || result instanceof ResultSet) {
+				return driverLike(result, m.getReturnType());
+			}
+			return result;
+		});
+	}
+
+	@Test
+	void manyRowsStreamWithoutBufferingTheResponse() throws Exception {
+		jdbc.update("""
+				INSERT INTO word (word_id, japanese_word, korean_meaning, created_by, created_at)
+				SELECT 1000 + X, '語' || X, '뜻' || X, 1, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, 50000)
+				""");
+		long[] lines = { 0 };
+		OutputStream counting = new OutputStream() { // 받은 바이트는 버리고 줄 수만 센다
+			@Override
+			public void write(int b) {
+				if (b == '\n') lines[0]++;
+			}
+		};
+
+		service.writeWords(Format.JSONL, counting);
+
+		assertThat(lines[0]).isEqualTo(50_002);
+	}
+
+	@Test
+	void unknownFormatIsRejected() {
+		assertThatThrownBy(() -> Format.of("xml")).isInstanceOf(ResponseStatusException.class);
+	}
+}
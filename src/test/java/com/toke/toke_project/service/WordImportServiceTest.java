@@ -0,0 +1,119 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.TestDb;
+import com.toke.toke_project.service.model.CatalogWord;
+import com.toke.toke_project.service.model.WordCatalog;
+import com.toke.toke_project.web.dto.WordImportResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/** 단어 일괄 가져오기: 스트리밍 파싱 + 검증 + 중복 제거 + 배치 INSERT */
+class WordImportServiceTest {
+
+	TestDb db;
+	JdbcTemplate jdbc;
+	WordCatalogService catalogService = mock(WordCatalogService.class);
+	WordImportService service;
+
+	@BeforeEach
+	void setUp() {
+		db = TestDb.create();
+		jdbc = db.jdbc();
+		// 이미 등록된 단어 1건: 会議/회의
+		when(catalogService.current()).thenReturn(WordCatalog.of(1L,
+				List.of(new CatalogWord(1L, "会議", "かいぎ", "회의", "비즈니스", null))));
+		service = new WordImportService(jdbc, catalogService, 1000);
+	}
+
+	@AfterEach
+	void tearDown() {
+		db.close();
+	}
+
+	/** 줄을 필요할 때마다 만들어 내보내는 입력 (파일 전체를 메모리에 두지 않는다) */
+	static InputStream lines(int count, IntFunction<String> line) {
+		return new InputStream() {
+			int next = 0;
+			byte[] buf = new byte[0];
+			int pos = 0;
+
+			@Override
+			public int read() {
+				if (pos == buf.length) {
+					if (next >= count) return -1;
+					buf = (line.apply(next++) + "\n").getBytes(StandardCharsets.UTF_8);
+					pos = 0;
+				}
+				return buf[pos++] & 0xFF;
+			}
+		};
+	}
+
+	@Test
+	void importsHundredThousandRows() throws Exception {
+		int rows = 100_000;
+		// 0행: 헤더, 그 뒤 100,000행 중 1,000번째마다 뜻 누락(오류), 500번째마다 바로 앞 행과 같은 단어(중복)
+		InputStream in = lines(rows + 1, i -> {
+			if (i == 0) return "japanese_word,reading_kana,korean_meaning,category,example_sentence_jp";
+			if (i % 1000 == 0) return "語" + i + ",ご,,비즈니스,";
+			int n = (i % 500 == 0) ? i - 1 : i;
+			return "語" + n + ",ご" + n + ",\"단어 " + n + ", 예\",비즈니스,例文です。";
+		});
+
+		WordImportResult result = service.importWords(in, 7L);
+
+		assertThat(result.totalRows()).isEqualTo(rows);
+		assertThat(result.errorCount()).isEqualTo(100);
+		assertThat(result.errors()).hasSize(WordImportService.MAX_ERRORS);
+		assertThat(result.errors().get(0).line()).isEqualTo(1001); // 헤더가 1번째 줄
+		assertThat(result.duplicates()).isEqualTo(100);            // 500, 1500, 2500 ...
+		assertThat(result.inserted()).isEqualTo(rows - 200);
+		assertThat(result.rowsPerSecond()).isPositive();
+
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM word", Long.class)).isEqualTo(rows - 200);
+		Map<String, Object> w = jdbc.queryForMap("SELECT * FROM word WHERE japanese_word = '語1'");
+		assertThat(w).containsEntry("KOREAN_MEANING", "단어 1, 예").containsEntry("KO_GROUP", "다")
+				.containsEntry("KO_CHOSEONG", "ㄷㅇㅇ").containsEntry("JA_GROUP", "か");
+		verify(catalogService).markChanged();
+		verify(catalogService).reload();
+	}
+
+	@Test
+	void tsvWithDuplicatesOfExistingWordsAndBadRows() throws Exception {
+		String tsv = """
+				会議\tかいぎ\t회의
+				資料\tしりょう\t자료\t비즈니스
+				資料\tしりょう\t자료
+				\tなし\t없음
+				予定
+				""";
+
+		WordImportResult result = service.importWords(
+				new ByteArrayInputStream(tsv.getBytes(StandardCharsets.UTF_8)), 7L);
+
+		assertThat(result.inserted()).isEqualTo(1);
+		assertThat(result.duplicates()).isEqualTo(2);
+		assertThat(result.errors()).extracting(WordImportResult.RowError::line).containsExactly(4L, 5L);
+		assertThat(jdbc.queryForObject("SELECT category FROM word", String.class)).isEqualTo("비즈니스");
+	}
+
+	@Test
+	void csvQuotesAndEscapes() {
+		List<String> cells = new ArrayList<>();
+
+		assertThat(WordImportService.split("\"a, b\",\"say \"\"hi\"\"\", c ", ',', cells)).isTrue();
+		assertThat(cells).containsExactly("a, b", "say \"hi\"", "c");
+		assertThat(WordImportService.split("\"open,b", ',', cells)).isFalse();
+	}
+}
@@ -0,0 +1,83 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.domain.Users;
+import com.toke.toke_project.domain.WordList;
+import com.toke.toke_project.repo.UsersRepository;
+import com.toke.toke_project.repo.WordListItemRepository;
+import com.toke.toke_project.repo.WordListRepository;
+import com.toke.toke_project.repo.WordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/** 단어장 내보내기: 공개 단어장은 누구나, 비공개는 소유자/관리자만 */
+class WordListExportAccessTest {
+
+	WordListRepository wordListRepo = mock(WordListRepository.class);
+	UsersRepository usersRepo = mock(UsersRepository.class);
+	WordListService service = new WordListService(wordListRepo, mock(WordListItemRepository.class),
+			mock(WordRepository.class), mock(WordCache.class), mock(WordListTagWriter.class),
+			mock(WordListItemWriter.class), usersRepo, mock(WordListTagIndex.class));
+
+	static Users user(long id, String role) {
+		Users u = new Users();
+		u.setId(id);
+		u.setRole(role);
+		return u;
+	}
+
+	static WordList list(long id, Users owner, int shared) {
+		WordList wl = new WordList();
+		wl.setId(id);
+		wl.setOwner(owner);
+		wl.setIsShared(shared);
+		return wl;
+	}
+
+	@BeforeEach
+	void setUp() {
+		Users owner = user(1L, "USER");
+		when(usersRepo.findById(anyLong())).thenReturn(Optional.empty());
+		when(usersRepo.findById(1L)).thenReturn(Optional.of(owner));
+		when(usersRepo.findById(2L)).thenReturn(Optional.of(user(2L, "USER")));
+		when(usersRepo.findById(3L)).thenReturn(Optional.of(user(3L, "ROLE_ADMIN")));
+		when(wordListRepo.findById(anyLong())).thenReturn(Optional.empty());
+		when(wordListRepo.findById(10L)).thenReturn(Optional.of(list(10L, owner, 0)));
+		when(wordListRepo.findById(20L)).thenReturn(Optional.of(list(20L, owner, 1)));
+	}
+
+	static HttpStatus status(Throwable e) {
+		return (HttpStatus) ((ResponseStatusException) e).getStatusCode();
+	}
+
+	@Test
+	void privateListIsForbiddenToOthers() {
+		assertThatThrownBy(() -> service.requireExportable(10L, 2L))
+				.isInstanceOf(ResponseStatusException.class)
+				.satisfies(e -> assertThat(status(e)).isEqualTo(HttpStatus.FORBIDDEN));
+		assertThatThrownBy(() -> service.requireExportable(10L, null))
+				.satisfies(e -> assertThat(status(e)).isEqualTo(HttpStatus.FORBIDDEN));
+
+		assertThatCode(() -> service.requireExportable(10L, 1L)).doesNotThrowAnyException();
+		assertThatCode(() -> service.requireExportable(10L, 3L)).doesNotThrowAnyException();
+	}
+
+	@Test
+	void sharedListIsOpenAndMissingListIsNotFound() {
+		assertThatCode(() -> service.requireExportable(20L, 2L)).doesNotThrowAnyException();
+		assertThatCode(() -> service.requireExportable(20L, null)).doesNotThrowAnyException();
+
+		assertThatThrownBy(() -> service.requireExportable(99L, 1L))
+				.satisfies(e -> assertThat(status(e)).isEqualTo(HttpStatus.NOT_FOUND));
+	}
+}
@@ -0,0 +1,91 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.StatementCounter;
+import com.toke.toke_project.TestDb;
+import com.toke.toke_project.service.model.CatalogWord;
+import com.toke.toke_project.web.dto.AddWordsResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 단어장에 공식 단어 일괄 추가: 기존 항목 조회 1회 + 배치 INSERT 1회, 중복/없는 단어는 건너뛰고 알린다 */
+class WordListItemWriterTest {
+
+	/** 실행된 문장 수 (executeBatch 1회 = 1) */
+	final StatementCounter statements = new StatementCounter();
+
+	TestDb db;
+	JdbcTemplate jdbc;
+	WordListItemWriter writer;
+	Map<Long, CatalogWord> words = new HashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		db = TestDb.create();
+		jdbc = db.jdbc();
+		for (long id = 1; id <= 300; id++) {
+			words.put(id, new CatalogWord(id, "単語" + id, "たんご", "단어 " + id, null, null));
+			jdbc.update("""
+					INSERT INTO word (word_id, japanese_word, korean_meaning, created_by, created_at)
+					VALUES (?, ?, ?, 1, CURRENT_TIMESTAMP)
+					""", id, "単語" + id, "단어 " + id);
+		}
+		// 단어장 1: 공식 단어 1 연결 + 커스텀 사본 '単語2 ' (대소문자/공백만 다른 같은 일본어)
+		jdbc.update("INSERT INTO word_list_item (list_item_id, list_id, word_id) VALUES (1, 1, 1)");
+		jdbc.update("INSERT INTO word_list_item (list_item_id, list_id, custom_japanese_word) VALUES (2, 1, ' 単語2 ')");
+		writer = new WordListItemWriter(new JdbcTemplate(statements.wrap(db.dataSource())));
+	}
+
+	@AfterEach
+	void tearDown() {
+		db.close();
+	}
+
+	int items(long listId) {
+		return jdbc.queryForObject("SELECT COUNT(*) FROM word_list_item WHERE list_id = ?", Integer.class, listId);
+	}
+
+	@Test
+	void twoHundredWordsInTwoStatements() {
+		List<Long> ids = new ArrayList<>();
+		for (long id = 1; id <= 200; id++) ids.add(id);
+
+		statements.reset();
+		AddWordsResult result = writer.addCopies(1L, ids, words);
+
+		assertThat(statements.get()).isEqualTo(2);
+		assertThat(result.added()).hasSize(198).startsWith(3L, 4L).endsWith(200L);
+		assertThat(result.duplicates()).containsExactly(1L, 2L);
+		assertThat(result.missing()).isEmpty();
+		assertThat(items(1)).isEqualTo(200);
+		assertThat(jdbc.queryForMap("""
+				SELECT word_id, custom_japanese_word, custom_korean_meaning, created_at
+				  FROM word_list_item WHERE list_id = 1 AND custom_japanese_word = '単語200'
+				""")).containsEntry("WORD_ID", null).containsEntry("CUSTOM_KOREAN_MEANING", "단어 200")
+				.extractingByKey("CREATED_AT").isNotNull();
+	}
+
+	@Test
+	void skipsRepeatsMissingWordsAndReportsInRequestOrder() {
+		words.put(301L, new CatalogWord(301L, "単語5", "たんご", "같은 일본어", null, null));
+
+		AddWordsResult result = writer.addCopies(2L, List.of(5L, 999L, 5L, 301L, 6L), words);
+
+		assertThat(result.added()).containsExactly(5L, 6L);
+		assertThat(result.duplicates()).containsExactly(5L, 301L); // 요청 안에서 같은 id / 같은 일본어
+		assertThat(result.missing()).containsExactly(999L);
+		assertThat(result.skipped()).isEqualTo(3);
+		assertThat(items(2)).isEqualTo(2);
+
+		// 추가 전 확인도 같은 기준, 쓰기 없음
+		statements.reset();
+		assertThat(writer.findDuplicates(2L, List.of(5L, 6L, 7L), words)).containsExactly(5L, 6L);
+		assertThat(statements.get()).isEqualTo(1);
+		assertThat(items(2)).isEqualTo(2);
+	}
+}
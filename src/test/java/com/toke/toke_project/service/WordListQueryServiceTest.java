@@ -0,0 +1,195 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.StatementCounter;
+import com.toke.toke_project.TestDb;
+import com.toke.toke_project.service.WordListQueryService.Sort;
+import com.toke.toke_project.service.model.TagFilter;
+import com.toke.toke_project.util.CursorCodec;
+import com.toke.toke_project.web.dto.CursorPage;
+import com.toke.toke_project.web.dto.WordListCardView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** 단어장 카드 프로젝션: users 조인 + 태그 LISTAGG, 쿼리 1회 / 모두의 단어장 키셋 페이지 */
+class WordListQueryServiceTest {
+
+	/** 실행된 문장 수 (executeBatch 1회 = 1) */
+	final StatementCounter statements = new StatementCounter();
+
+	TestDb db;
+	JdbcTemplate jdbc;
+	WordListTagIndex index;
+	WordListQueryService service;
+
+	@BeforeEach
+	void setUp() {
+		db = TestDb.create();
+		jdbc = db.jdbc();
+
+		jdbc.update("""
+				INSERT INTO users (user_id, username, password, phone_number, email, nickname)
+				VALUES (1, 'toke', 'x', '010-1', 'toke@test.com', '토케'), (2, 'kissco', 'x', '010-2', 'kissco@test.com', 'kissco')
+				""");
+		jdbc.update("INSERT INTO hashtag (tag_id, tag_name, normalized) VALUES (1, '비즈니스', '비즈니스'), (2, 'JLPT N2', 'jlptn2'), (3, '회의', '회의')");
+		// 30개: 홀수 id 는 사용자 1, 짝수는 2 / 3개마다 비공개 / 태그는 id % 4 개 (0~3개)
+		for (int id = 1; id <= 30; id++) {
+			jdbc.update("INSERT INTO word_list (list_id, user_id, list_name, description, is_shared) VALUES (?, ?, ?, ?, ?)",
+					id, id % 2 == 1 ? 1 : 2, "단어장 " + id, "설명 " + id, id % 3 == 0 ? 0 : 1);
+			for (int tag = 1; tag <= id % 4; tag++) {
+				jdbc.update("INSERT INTO word_list_tag (list_id, tag_id) VALUES (?, ?)", id, tag);
+			}
+		}
+		jdbc.update("UPDATE word_list SET list_name = '100%_완성' WHERE list_id = 7");
+
+		index = new WordListTagIndex(jdbc, new SimpleMeterRegistry(), true, Duration.ZERO);
+		service = new WordListQueryService(new JdbcTemplate(statements.wrap(db.dataSource())), index);
+	}
+
+	@AfterEach
+	void tearDown() {
+		db.close();
+	}
+
+	@Test
+	void pageOfThirtyCardsInOneStatement() {
+		for (int id = 31; id <= 60; id++) {
+			jdbc.update("INSERT INTO word_list (list_id, user_id, list_name, is_shared) VALUES (?, 1, ?, 1)", id, "추가 " + id);
+			jdbc.update("INSERT INTO word_list_tag (list_id, tag_id) VALUES (?, 1), (?, 3)", id, id);
+		}
+		statements.reset();
+
+		CursorPage<WordListCardView> page = service.scrollShared(null, null, TagFilter.NONE, Sort.RECENT, null, 30);
+
+		assertThat(statements.get()).isEqualTo(1);
+		assertThat(page.items()).hasSize(30);
+		assertThat(page.hasNext()).isTrue();
+		assertThat(page.items()).extracting(WordListCardView::id).startsWith(60L, 59L).endsWith(31L);
+		assertThat(page.items().get(0).tags()).containsExactly("비즈니스", "회의");
+
+		CursorPage<WordListCardView> next = service.scrollShared(null, null, TagFilter.NONE, Sort.RECENT, page.nextCursor(), 30);
+		WordListCardView seven = next.items().stream().filter(c -> c.id() == 7L).findFirst().orElseThrow();
+		assertThat(seven.ownerNickname()).isEqualTo("토케");
+		assertThat(seven.isShared()).isEqualTo(1);
+		assertThat(seven.createdAt()).isNotNull();
+		assertThat(seven.tags()).containsExactly("JLPT N2", "비즈니스", "회의");
+		assertThat(next.items()).extracting(WordListCardView::id).doesNotContain(3L, 6L); // 비공개
+		assertThat(next.hasNext()).isFalse();
+	}
+
+	@Test
+	void keysetPagesCoverEverySharedListOnceInEachSort() {
+		for (Sort sort : Sort.values()) {
+			List<Long> seen = new ArrayList<>();
+			String cursor = null;
+			do {
+				CursorPage<WordListCardView> page = service.scrollShared(null, null, TagFilter.NONE, sort, cursor, 7);
+				page.items().forEach(c -> seen.add(c.id()));
+				cursor = page.nextCursor();
+			} while (cursor != null);
+
+			assertThat(seen).as(sort.name()).hasSize(20).doesNotHaveDuplicates().allMatch(id -> id % 3 != 0);
+		}
+		assertThat(service.scrollShared(null, null, TagFilter.NONE, Sort.NAME, null, 3).items())
+				.extracting(WordListCardView::listName).containsExactly("100%_완성", "단어장 1", "단어장 10");
+		assertThatThrownBy(() -> service.scrollShared(null, null, TagFilter.NONE, Sort.NAME,
+				CursorCodec.encode("RECENT", 5, null), 3)).isInstanceOf(ResponseStatusException.class);
+	}
+
+	@Test
+	void filtersAreOredAndTagFilterKeepsAllTags() {
+		// 공개(id % 3 != 0) 중 제목 "단어장 1" (1, 10~19) OR 태그 회의 (id % 4 == 3)
+		List<WordListCardView> cards = scroll("단어장 1", null, List.of("#회의"));
+
+		assertThat(cards).extracting(WordListCardView::id)
+				.containsExactly(1L, 7L, 10L, 11L, 13L, 14L, 16L, 17L, 19L, 23L);
+		assertThat(cards.get(1).tags()).hasSize(3);
+
+		assertThat(scroll(null, "KISS", null)).hasSize(10)
+				.extracting(WordListCardView::id).allMatch(id -> id % 2 == 0 && id % 3 != 0);
+		assertThat(scroll("100%", null, null)).extracting(WordListCardView::id).containsExactly(7L);
+		assertThat(scroll("0%", null, null)).extracting(WordListCardView::id).containsExactly(7L);
+		assertThat(scroll("없는 제목", null, null)).isEmpty();
+	}
+
+	/** 검색 결과 첫 페이지 (id 오름차순으로 비교) */
+	List<WordListCardView> scroll(String title, String nickname, List<String> tags) {
+		return scrollBy(title, nickname, WordListQueryService.tagFilter(tags, null, null));
+	}
+
+	List<WordListCardView> scrollBy(String title, String nickname, TagFilter tags) {
+		return service.scrollShared(title, nickname, tags, Sort.RECENT, null, 60).items().stream()
+				.sorted(Comparator.comparing(WordListCardView::id)).toList();
+	}
+
+	@Test
+	void mineIsLimitedToOwner() {
+		assertThat(service.findMineCards(2L, null, TagFilter.NONE)).hasSize(15)
+				.extracting(WordListCardView::ownerId).containsOnly(2L);
+		TagFilter n2 = WordListQueryService.tagFilter(List.of("JLPT N2"), null, null);
+		assertThat(service.findMineCards(1L, null, n2)).extracting(WordListCardView::id)
+				.containsExactly(3L, 7L, 11L, 15L, 19L, 23L, 27L);
+
+		index.load(); // 태그만 주면 색인 경로
+		assertThat(service.findMineCards(1L, null, n2)).extracting(WordListCardView::id)
+				.containsExactly(3L, 7L, 11L, 15L, 19L, 23L, 27L);
+	}
+
+	@Test
+	void indexPathRechecksSharingAndPagesByIndexIds() {
+		TagFilter n2 = WordListQueryService.tagFilter(List.of("JLPT N2"), null, null);
+		index.load();
+		// 다른 노드에서 비공개로 바뀐 단어장: 색인은 아직 공개로 알고 있다
+		jdbc.update("UPDATE word_list SET is_shared = 0 WHERE list_id IN (26, 23)");
+
+		CursorPage<WordListCardView> first = service.scrollShared(null, null, n2, Sort.RECENT, null, 2);
+		assertThat(first.items()).isEmpty(); // 색인이 고른 26, 23 이 모두 빠졌다
+		assertThat(first.hasNext()).isTrue();
+
+		List<Long> seen = new ArrayList<>();
+		String cursor = first.nextCursor();
+		while (cursor != null) {
+			CursorPage<WordListCardView> page = service.scrollShared(null, null, n2, Sort.RECENT, cursor, 2);
+			page.items().forEach(c -> seen.add(c.id()));
+			cursor = page.nextCursor();
+		}
+		assertThat(seen).containsExactly(22L, 19L, 14L, 11L, 10L, 7L, 2L);
+	}
+
+	@Test
+	void andNotTagQueriesAgreeBetweenSqlAndIndex() {
+		// 태그: id % 4 == 1 → {1}, 2 → {1,2}, 3 → {1,2,3}
+		List<TagFilter> filters = List.of(
+				WordListQueryService.tagFilter(List.of("비즈니스", "JLPT N2"), "all", null),
+				WordListQueryService.tagFilter(List.of("비즈니스"), "any", List.of("회의")),
+				WordListQueryService.tagFilter(List.of("JLPT N2", "회의"), "any", null),
+				WordListQueryService.tagFilter(null, null, List.of("비즈니스")),
+				WordListQueryService.tagFilter(List.of("회의", "없는태그"), "all", null));
+		List<List<Long>> bySql = new ArrayList<>();
+		for (TagFilter f : filters) bySql.add(scrollBy(null, null, f).stream().map(WordListCardView::id).toList());
+
+		index.load();
+		statements.reset();
+		for (int i = 0; i < filters.size(); i++) {
+			assertThat(scrollBy(null, null, filters.get(i))).extracting(WordListCardView::id).as(filters.get(i).toString())
+					.containsExactlyElementsOf(bySql.get(i));
+		}
+		assertThat(statements.get()).isEqualTo(4); // 결과가 빈 조건은 카드 조회도 없다
+
+		assertThat(bySql.get(0)).containsExactly(2L, 7L, 10L, 11L, 14L, 19L, 22L, 23L, 26L); // 공개 중 id % 4 >= 2
+		assertThat(bySql.get(1)).containsExactly(1L, 2L, 5L, 10L, 13L, 14L, 17L, 22L, 25L, 26L, 29L);
+		assertThat(bySql.get(3)).containsExactly(4L, 8L, 16L, 20L, 28L);
+		assertThat(bySql.get(4)).isEmpty();
+	}
+}
@@ -0,0 +1,115 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.service.model.TagFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공개 단어장 100,000개 · 태그 10,000개 (단어장당 1~8개, 인기 태그에 몰리는 Zipf 분포)에서 태그 조건 계산 비용 비교.
+ * - hashSet: 태그별 Set&lt;Long&gt; 을 복사해 retainAll / addAll / removeAll (색인 없이 메모리에 올린 경우의 기준선)
+ * - bitmap : WordListTagIndex.match (IdBitmap 컨테이너 AND / OR / AND NOT)
+ * 조건: and = 인기 태그 2개 AND, or = 중간 태그 3개 OR, andNot = 인기 태그 AND NOT 인기 태그 (모두 공개 단어장만)
+ *
+ * 실행: mvn test-compile 후 main() 실행 (IDE 또는 test classpath로 java 실행)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WordListTagIndexBenchmark {
+
+	static final int LISTS = 100_000;
+	static final int TAGS = 10_000;
+
+	WordListTagIndex index;
+	Map<String, Set<Long>> byTag;
+	Set<Long> shared;
+
+	@Setup
+	public void setUp() {
+		index = new WordListTagIndex(null, new SimpleMeterRegistry(), true, Duration.ZERO);
+		byTag = new HashMap<>();
+		shared = new HashSet<>();
+
+		// Zipf(s=1) 누적 분포: 앞쪽 태그일수록 자주 붙는다
+		double[] cdf = new double[TAGS];
+		double sum = 0;
+		for (int k = 0; k < TAGS; k++) cdf[k] = (sum += 1.0 / (k + 1));
+		for (int k = 0; k < TAGS; k++) cdf[k] /= sum;
+
+		Random r = new Random(23);
+		for (long id = 1; id <= LISTS; id++) {
+			boolean isShared = r.nextInt(10) < 7;
+			index.putList(id, id % 5_000, isShared);
+			if (isShared) shared.add(id);
+
+			Set<String> tags = new HashSet<>();
+			for (int n = 1 + r.nextInt(8); n > 0; n--) {
+				int k = Arrays.binarySearch(cdf, r.nextDouble());
+				tags.add("tag" + (k < 0 ? -k - 1 : k));
+			}
+			index.addTags(id, tags);
+			for (String t : tags) byTag.computeIfAbsent(t, x -> new HashSet<>()).add(id);
+		}
+	}
+
+	static final TagFilter AND = new TagFilter(List.of(), List.of("tag0", "tag1"), List.of());
+	static final TagFilter OR = new TagFilter(List.of("tag20", "tag21", "tag22"), List.of(), List.of());
+	static final TagFilter AND_NOT = new TagFilter(List.of(), List.of("tag0"), List.of("tag1"));
+
+	/** 기준선: 태그별 HashSet 으로 같은 조건을 계산 */
+	Set<Long> hashSetMatch(TagFilter f) {
+		Set<Long> result = new HashSet<>(shared);
+		for (String t : f.all()) result.retainAll(byTag.getOrDefault(t, Set.of()));
+		if (!f.any().isEmpty()) {
+			Set<Long> any = new HashSet<>();
+			for (String t : f.any()) any.addAll(byTag.getOrDefault(t, Set.of()));
+			result.retainAll(any);
+		}
+		for (String t : f.none()) result.removeAll(byTag.getOrDefault(t, Set.of()));
+		return result;
+	}
+
+	@Benchmark
+	public void hashSetAnd(Blackhole bh) {
+		bh.consume(hashSetMatch(AND).size());
+	}
+
+	@Benchmark
+	public void bitmapAnd(Blackhole bh) {
+		bh.consume(index.match(AND, null, true).cardinality());
+	}
+
+	@Benchmark
+	public void hashSetOr(Blackhole bh) {
+		bh.consume(hashSetMatch(OR).size());
+	}
+
+	@Benchmark
+	public void bitmapOr(Blackhole bh) {
+		bh.consume(index.match(OR, null, true).cardinality());
+	}
+
+	@Benchmark
+	public void hashSetAndNot(Blackhole bh) {
+		bh.consume(hashSetMatch(AND_NOT).size());
+	}
+
+	@Benchmark
+	public void bitmapAndNot(Blackhole bh) {
+		bh.consume(index.match(AND_NOT, null, true).cardinality());
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(WordListTagIndexBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,127 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.TestDb;
+import com.toke.toke_project.service.model.TagFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 단어장 태그 비트맵 색인: DB 로딩, AND/OR/NOT + 공개/소유자 조건, 커밋 후 변경 반영 */
+class WordListTagIndexTest {
+
+	TestDb db;
+	JdbcTemplate jdbc;
+	WordListTagIndex index;
+
+	@BeforeEach
+	void setUp() {
+		db = TestDb.create();
+		jdbc = db.jdbc();
+		// 1: 사용자 1, 공개, {비즈니스, 회의} / 2: 사용자 1, 비공개, {비즈니스} / 3: 사용자 2, 공개, {회의, jlptn2} / 4: 사용자 2, 공개, 태그 없음
+		jdbc.update("INSERT INTO word_list (list_id, user_id, list_name, is_shared) VALUES (1, 1, 'a', 1), (2, 1, 'b', 0), (3, 2, 'c', 1), (4, 2, 'd', 1)");
+		jdbc.update("INSERT INTO hashtag (tag_id, tag_name, normalized) VALUES (1, '비즈니스', '비즈니스'), (2, '회의', '회의'), (3, 'JLPT N2', 'jlptn2')");
+		jdbc.update("INSERT INTO word_list_tag (list_id, tag_id) VALUES (1, 1), (1, 2), (2, 1), (3, 2), (3, 3)");
+		index = new WordListTagIndex(jdbc, new SimpleMeterRegistry(), true, Duration.ZERO);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clearSynchronization();
+		db.close();
+	}
+
+	int[] match(TagFilter f, Long ownerId, boolean sharedOnly) {
+		return index.match(f, ownerId, sharedOnly).toArray();
+	}
+
+	static TagFilter any(String... tags) {
+		return new TagFilter(List.of(tags), List.of(), List.of());
+	}
+
+	static TagFilter all(String... tags) {
+		return new TagFilter(List.of(), List.of(tags), List.of());
+	}
+
+	static TagFilter not(String... tags) {
+		return new TagFilter(List.of(), List.of(), List.of(tags));
+	}
+
+	@Test
+	void loadsAndCombinesTagsWithSharedAndOwner() {
+		assertThat(index.isReady()).isFalse();
+		index.load();
+		assertThat(index.isReady()).isTrue();
+
+		assertThat(match(any("비즈니스", "jlptn2"), null, false)).containsExactly(1, 2, 3);
+		assertThat(match(all("비즈니스", "회의"), null, false)).containsExactly(1);
+		assertThat(match(not("회의"), null, false)).containsExactly(2, 4);
+		assertThat(match(not("회의"), null, true)).containsExactly(4);
+		assertThat(match(any("비즈니스"), 1L, false)).containsExactly(1, 2);
+		assertThat(match(any("비즈니스"), 1L, true)).containsExactly(1);
+		assertThat(match(new TagFilter(List.of("회의"), List.of(), List.of("jlptn2")), null, true)).containsExactly(1);
+		assertThat(match(all("회의", "없는태그"), null, false)).isEmpty();
+		assertThat(match(any("비즈니스"), 99L, false)).isEmpty();
+		assertThat(index.page(TagFilter.NONE, null, true, 4L, 10)).containsExactly(3L, 1L);
+	}
+
+	@Test
+	void reloadsPeriodicallyToPickUpChangesFromOtherNodes() throws InterruptedException {
+		WordListTagIndex reloading = new WordListTagIndex(jdbc, new SimpleMeterRegistry(), true, Duration.ofMillis(50));
+		try {
+			reloading.start();
+			long deadline = System.currentTimeMillis() + 5_000;
+			while (!reloading.isReady() && System.currentTimeMillis() < deadline) Thread.sleep(10);
+			assertThat(reloading.match(any("회의"), null, true).toArray()).containsExactly(1, 3);
+
+			// 이 노드를 거치지 않은 변경 (다른 노드 / 직접 SQL)
+			jdbc.update("UPDATE word_list SET is_shared = 0 WHERE list_id = 3");
+			while (reloading.match(any("회의"), null, true).toArray().length != 1 && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			assertThat(reloading.match(any("회의"), null, true).toArray()).containsExactly(1);
+		} finally {
+			reloading.shutdown();
+		}
+	}
+
+	@Test
+	void changesReplaceTagsAndRemoveLists() {
+		index.load();
+
+		index.putList(5L, 1L, false);
+		index.addTags(5L, List.of("회의", "신규"));
+		index.setShared(5L, true);
+		assertThat(match(all("회의"), null, true)).containsExactly(1, 3, 5);
+		assertThat(match(any("신규"), 1L, true)).containsExactly(5);
+
+		index.clearTags(1L); // 태그 교체: 떼고 다시 붙임
+		index.addTags(1L, List.of("jlptn2"));
+		assertThat(match(any("비즈니스"), null, false)).containsExactly(2);
+		assertThat(match(any("jlptn2"), null, false)).containsExactly(1, 3);
+
+		index.removeList(3L);
+		assertThat(match(any("jlptn2", "회의"), null, false)).containsExactly(1, 5);
+		assertThat(match(TagFilter.NONE, 2L, false)).containsExactly(4);
+	}
+
+	@Test
+	void changesInsideTransactionApplyAfterCommit() {
+		index.load();
+		TransactionSynchronizationManager.initSynchronization();
+
+		index.addTags(4L, List.of("비즈니스"));
+		assertThat(match(any("비즈니스"), null, false)).containsExactly(1, 2);
+
+		for (TransactionSynchronization s : TransactionSynchronizationManager.getSynchronizations()) s.afterCommit();
+		assertThat(match(any("비즈니스"), null, false)).containsExactly(1, 2, 4);
+	}
+}
@@ -0,0 +1,105 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.StatementCounter;
+import com.toke.toke_project.TestDb;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 단어장 태그 배치 쓰기: hashtag MERGE 1회 + 연결 차이만 배치, 태그 수와 관계없이 문장 수 고정 */
+class WordListTagWriterTest {
+
+	/** 실행된 문장 수 (executeBatch 1회 = 1) */
+	final StatementCounter statements = new StatementCounter();
+
+	TestDb db;
+	JdbcTemplate jdbc;
+	WordListTagWriter writer;
+
+	@BeforeEach
+	void setUp() {
+		db = TestDb.create();
+		jdbc = db.jdbc();
+		jdbc.update("INSERT INTO hashtag (tag_id, tag_name, normalized) VALUES (1, '비즈니스', '비즈니스'), (2, 'JLPT N2', 'jlptn2')");
+		writer = new WordListTagWriter(new JdbcTemplate(statements.wrap(db.dataSource())));
+	}
+
+	@AfterEach
+	void tearDown() {
+		db.close();
+	}
+
+	List<String> linked(long listId) {
+		return jdbc.queryForList("""
+				SELECT h.normalized FROM word_list_tag t JOIN hashtag h ON h.tag_id = t.tag_id
+				 WHERE t.list_id = ? ORDER BY h.normalized
+				""", String.class, listId);
+	}
+
+	static List<String> tags(int from, int to) {
+		List<String> tags = new ArrayList<>();
+		for (int i = from; i < to; i++) tags.add("태그 " + i);
+		return tags;
+	}
+
+	@Test
+	void twentyTagsCostConstantStatements() {
+		List<String> twenty = tags(0, 18);
+		twenty.addAll(List.of("#비즈니스", "jlpt-n2"));
+
+		statements.reset();
+		assertThat(writer.add(1L, twenty)).hasSize(20).contains("비즈니스", "jlptn2", "태그0");
+		assertThat(statements.get()).isEqualTo(4); // MERGE + tag_id 조회 + 연결 조회 + INSERT 배치
+		assertThat(linked(1L)).hasSize(20);
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM hashtag", Integer.class)).isEqualTo(20);
+
+		// 같은 태그를 다시 붙이면 쓰기 없음
+		statements.reset();
+		writer.add(1L, twenty);
+		assertThat(statements.get()).isEqualTo(3);
+		assertThat(linked(1L)).hasSize(20);
+
+		// 절반 교체: 빠진 10개 DELETE 배치 + 새 10개 INSERT 배치
+		List<String> next = tags(10, 30);
+		statements.reset();
+		writer.replace(1L, next);
+		assertThat(statements.get()).isEqualTo(5);
+		assertThat(linked(1L)).hasSize(20).doesNotContain("비즈니스", "태그0").contains("태그10", "태그29");
+	}
+
+	@Test
+	void normalizesOnceAndKeepsFirstDisplayName() {
+		assertThat(writer.add(1L, List.of(" 회 의 ", "회의!", "  ", "#회의", "JLPT N2"))).containsExactly("회의", "jlptn2");
+		assertThat(jdbc.queryForObject("SELECT tag_name FROM hashtag WHERE normalized = '회의'", String.class))
+				.isEqualTo("회 의");
+		assertThat(jdbc.queryForObject("SELECT tag_name FROM hashtag WHERE normalized = 'jlptn2'", String.class))
+				.isEqualTo("JLPT N2"); // 이미 있는 태그는 그대로
+		assertThat(linked(1L)).containsExactly("jlptn2", "회의");
+
+		// 빈 태그로 교체하면 연결만 모두 지운다 (hashtag 는 남는다)
+		statements.reset();
+		assertThat(writer.replace(1L, List.of(" "))).isEmpty();
+		assertThat(statements.get()).isEqualTo(2);
+		assertThat(linked(1L)).isEmpty();
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM hashtag", Integer.class)).isEqualTo(3);
+
+		statements.reset();
+		assertThat(writer.add(1L, List.of())).isEmpty();
+		assertThat(statements.get()).isZero();
+	}
+
+	@Test
+	void longMultibyteTagsAreCutAtFiftyCharacters() {
+		String longTag = "비즈니스일본어".repeat(10); // 70자, UTF-8 로 210바이트
+
+		assertThat(writer.add(1L, List.of(longTag))).singleElement().asString().hasSize(50);
+		assertThat(jdbc.queryForObject("SELECT tag_name FROM hashtag WHERE tag_id NOT IN (1, 2)", String.class))
+				.isEqualTo(longTag.substring(0, 50));
+	}
+}
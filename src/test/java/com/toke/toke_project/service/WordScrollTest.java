@@ -0,0 +1,106 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.domain.Word;
+import com.toke.toke_project.repo.WordRepository;
+import com.toke.toke_project.service.model.CatalogWord;
+import com.toke.toke_project.service.model.WordCatalog;
+import com.toke.toke_project.util.HangulUtil;
+import com.toke.toke_project.util.KanaUtil;
+import com.toke.toke_project.web.dto.CursorPage;
+import com.toke.toke_project.web.dto.WordScrollItem;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+class WordScrollTest {
+
+	private final WordRepository wordRepo = mock(WordRepository.class);
+	private final WordCatalogService catalogService = mock(WordCatalogService.class);
+	private final AdminWordService service = new AdminWordService(wordRepo, catalogService, mock(WordCache.class));
+
+	private final Map<Long, Word> table = new HashMap<>();
+
+	private void givenWords(int n) {
+		String[] ko = { "회의", "자료", "예정", "가방", "나무", "회의|메모" };
+		String[] kana = { "かいぎ", "しりょう", "よてい", "あめ", "さくら" };
+		LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+		Random r = new Random(9);
+		List<CatalogWord> catalog = new ArrayList<>();
+		for (long id = 1; id <= n; id++) {
+			Word w = new Word();
+			w.setId(id);
+			w.setJapaneseWord("語" + id);
+			w.setKoreanMeaning(ko[r.nextInt(ko.length)]);
+			w.setReadingKana(r.nextInt(4) == 0 ? null : kana[r.nextInt(kana.length)]);
+			w.setCategory(id % 3 == 0 ? "IT" : "비즈니스");
+			w.setCreatedAt(base.plusMinutes(r.nextInt(20))); // 같은 시각이 많도록
+			w.setKoGroup(HangulUtil.groupOf(w.getKoreanMeaning()));
+			w.setKoVowelIndex(HangulUtil.vowelIndexOf(w.getKoreanMeaning()));
+			w.setJaGroup(KanaUtil.groupOf(w.getReadingKana()));
+			w.setJaVowelIndex(KanaUtil.vowelIndexOf(w.getReadingKana()));
+			table.put(id, w);
+			catalog.add(CatalogWord.of(w));
+		}
+		when(catalogService.current()).thenReturn(WordCatalog.of(1L, catalog));
+		when(wordRepo.findAllById(anyIterable())).thenAnswer(inv -> {
+			List<Word> out = new ArrayList<>();
+			for (Object id : (Iterable<?>) inv.getArgument(0)) out.add(table.get((Long) id));
+			return out;
+		});
+	}
+
+	private List<Long> walk(String q, String category, String mode, String group, int size) {
+		List<Long> ids = new ArrayList<>();
+		String cursor = null;
+		do {
+			CursorPage<WordScrollItem> page = service.scroll(q, category, mode, group, cursor, size);
+			page.items().forEach(w -> ids.add(w.wordId()));
+			cursor = page.nextCursor();
+			assertThat(page.hasNext()).isEqualTo(cursor != null);
+		} while (cursor != null);
+		return ids;
+	}
+
+	private List<Long> offsetPaged(String q, String category, String mode, String group) {
+		return service.search(q, category, mode, group, 0, 10_000).getContent().stream().map(Word::getId).toList();
+	}
+
+	@Test
+	void walkingAllPagesMatchesTheFullSortInEveryMode() {
+		givenWords(237);
+		for (String mode : new String[] { "recent", "ko", "ja" }) {
+			assertThat(walk("", "", mode, "", 10)).as(mode).containsExactlyElementsOf(offsetPaged("", "", mode, ""));
+		}
+		assertThat(walk("회의", "비즈니스", "ko", "하", 7))
+				.containsExactlyElementsOf(offsetPaged("회의", "비즈니스", "ko", "하"));
+	}
+
+	@Test
+	void itemsComeFromTheCatalogAsDtos() {
+		givenWords(30);
+		WordScrollItem first = service.scroll("", "", "ko", "", null, 5).items().get(0);
+
+		Word w = table.get(first.wordId());
+		assertThat(first).isEqualTo(new WordScrollItem(w.getId(), w.getJapaneseWord(), w.getReadingKana(),
+				w.getKoreanMeaning(), w.getCategory(), w.getExampleSentenceJp()));
+		verify(wordRepo, never()).findAllById(anyIterable());
+	}
+
+	@Test
+	void cursorFromAnotherSortIsRejected() {
+		givenWords(30);
+		String cursor = service.scroll("", "", "ko", "", null, 5).nextCursor();
+
+		assertThatThrownBy(() -> service.scroll("", "", "ja", "", cursor, 5))
+				.isInstanceOf(ResponseStatusException.class);
+		assertThatThrownBy(() -> service.scroll("", "", "ko", "", "!!", 5))
+				.isInstanceOf(ResponseStatusException.class);
+	}
+}
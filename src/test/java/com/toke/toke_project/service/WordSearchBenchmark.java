@@ -0,0 +1,81 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.service.model.CatalogWord;
+import com.toke.toke_project.service.model.WordCatalog;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /words 검색 1회 비용 비교 (검색어 + 카테고리 필터).
+ * - likeScan   : 기존 방식. LOWER(3개 컬럼) LIKE '%q%' 전체 스캔을 메모리로 재현
+ *                (디스크/네트워크 비용은 제외된 하한값)
+ * - ngramIndex : WordCatalog.search (2-gram 포스팅 교집합 + 후보 확인)
+ *
+ * 실행: mvn test-compile 후 main() 실행 (IDE 또는 test classpath로 java 실행)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-Xmx4g" })
+@State(Scope.Benchmark)
+public class WordSearchBenchmark {
+
+	@Param({ "10000", "100000", "1000000" })
+	int wordCount;
+
+	@Param({ "회의", "かいぎ1" })
+	String query;
+
+	static final String CATEGORY = "비즈니스";
+	static final String[] KO = { "회의", "자료", "예정", "확인", "보고", "출장", "거래처", "견적", "계약", "일정" };
+	static final String[] KANA = { "かいぎ", "しりょう", "よてい", "かくにん", "ほうこく", "しゅっちょう", "とりひき", "みつもり" };
+	static final String[] CATS = { "비즈니스", "IT", "여행", "일상", "음식" };
+
+	List<CatalogWord> words;
+	WordCatalog catalog;
+
+	@Setup
+	public void setUp() {
+		Random r = new Random(42);
+		words = new ArrayList<>(wordCount);
+		for (long i = 1; i <= wordCount; i++) {
+			String kana = KANA[r.nextInt(KANA.length)] + (i % 1000);
+			words.add(new CatalogWord(i, "語" + i, kana, KO[r.nextInt(KO.length)] + " " + (i % 97),
+					CATS[r.nextInt(CATS.length)], null));
+		}
+		catalog = WordCatalog.of(1L, words);
+	}
+
+	@Benchmark
+	public void likeScan(Blackhole bh) {
+		String lq = query.toLowerCase(Locale.ROOT);
+		int n = 0;
+		for (CatalogWord w : words) {
+			if (CATEGORY.equals(w.category())
+					&& (like(w.japaneseWord(), lq) || like(w.readingKana(), lq) || like(w.koreanMeaning(), lq))) n++;
+		}
+		bh.consume(n);
+	}
+
+	private static boolean like(String field, String lq) {
+		return field != null && field.toLowerCase(Locale.ROOT).contains(lq);
+	}
+
+	@Benchmark
+	public void ngramIndex(Blackhole bh) {
+		bh.consume(catalog.search(query, CATEGORY, null, null).length);
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(WordSearchBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,70 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.service.model.CatalogWord;
+import com.toke.toke_project.service.model.WordCatalog;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /api/words/suggest 1회 지연 분포 (SampleTime → p99 확인용, 목표 p99 < 2ms @ 1M 단어).
+ * 입력 중인 검색어를 흉내 내 1~3글자 접두어를 번갈아 조회한다.
+ * 바뀐 단어(dirty)가 재색인 임계치 근처까지 쌓인 경우도 함께 잰다.
+ *
+ * 실행: mvn test-compile 후 main() 실행 (IDE 또는 test classpath로 java 실행)
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-Xmx4g" })
+@State(Scope.Benchmark)
+public class WordSuggestBenchmark {
+
+	@Param({ "1000000" })
+	int wordCount;
+
+	@Param({ "0", "500" })
+	int dirtyWords;
+
+	static final String[] KO = { "회의", "자료", "예정", "확인", "보고", "출장", "거래처", "견적", "계약", "일정" };
+	static final String[] KANA = { "かいぎ", "しりょう", "よてい", "かくにん", "ほうこく", "しゅっちょう", "とりひき", "みつもり" };
+	static final String[] PREFIXES = { "か", "かい", "かいぎ", "회", "회의", "kai", "し", "しゅっ", "거래", "語12" };
+
+	WordCatalog catalog;
+	int next;
+
+	@Setup
+	public void setUp() {
+		Random r = new Random(42);
+		List<CatalogWord> words = new ArrayList<>(wordCount);
+		for (long i = 1; i <= wordCount; i++) {
+			words.add(word(i, r));
+		}
+		catalog = WordCatalog.of(1L, words);
+		for (long i = 1; i <= dirtyWords; i++) {
+			catalog = catalog.withUpsert(word(wordCount + i, r));
+		}
+	}
+
+	private static CatalogWord word(long id, Random r) {
+		return new CatalogWord(id, "語" + id, KANA[r.nextInt(KANA.length)] + (id % 1000),
+				KO[r.nextInt(KO.length)] + " " + (id % 97), null, null);
+	}
+
+	@Benchmark
+	public void suggest(Blackhole bh) {
+		String prefix = PREFIXES[next++ % PREFIXES.length];
+		bh.consume(catalog.suggest(prefix, 10));
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(WordSuggestBenchmark.class.getSimpleName()).build()).run();
+	}
+}
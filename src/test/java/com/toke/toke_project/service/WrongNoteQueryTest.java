@@ -0,0 +1,165 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.H2JpaTest;
+import com.toke.toke_project.domain.Users;
+import com.toke.toke_project.domain.Word;
+import com.toke.toke_project.domain.WrongNote;
+import com.toke.toke_project.repo.UsersRepository;
+import com.toke.toke_project.repo.WordRepository;
+import com.toke.toke_project.repo.WrongNoteRepository;
+import com.toke.toke_project.service.model.ReviewScore;
+import com.toke.toke_project.web.dto.CursorPage;
+import com.toke.toke_project.web.dto.WrongNoteDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@H2JpaTest
+@Import({ WrongNoteService.class, WrongNoteQueryTest.Config.class })
+class WrongNoteQueryTest {
+
+	@TestConfiguration
+	@EnableJpaRepositories(basePackageClasses = WordRepository.class, includeFilters = @ComponentScan.Filter(
+			type = FilterType.ASSIGNABLE_TYPE,
+			classes = { WordRepository.class, WrongNoteRepository.class, UsersRepository.class }))
+	static class Config {
+	}
+
+	@Autowired WrongNoteService service;
+	@Autowired WrongNoteRepository wrongNoteRepository;
+	@Autowired WordRepository wordRepository;
+	@Autowired UsersRepository usersRepository;
+
+	Long userId;
+	static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+	@BeforeEach
+	void setUp() {
+		Users u = new Users();
+		u.setUsername("오답");
+		u.setPassword("x");
+		u.setPhoneNumber("010-1111-2222");
+		u.setEmail("notes@test.com");
+		u.setNickname("noter");
+		u = usersRepository.save(u);
+		userId = u.getId();
+
+		// 12건: 카테고리 2종, 등록 시각은 2건씩 같게(동률), 3건마다 lastWrongAt 없음
+		for (int i = 0; i < 12; i++) {
+			Word w = new Word();
+			w.setJapaneseWord("語" + i);
+			w.setKoreanMeaning("뜻" + i);
+			w.setCategory(i % 2 == 0 ? "회의" : "출장");
+			w.setCreatedBy(userId);
+			wordRepository.save(w);
+
+			WrongNote n = new WrongNote();
+			n.setUser(u);
+			n.setWord(w);
+			n.setCreatedAt(BASE.plusDays(i / 2));
+			n.setLastWrongAt(i % 3 == 0 ? null : BASE.plusDays(20 - i));
+			n.setWrongCount(1L);
+			n.setStarred(i == 2 ? "Y" : "N");
+			wrongNoteRepository.save(n);
+		}
+	}
+
+	@Test
+	void filtersAndSortsInTheDatabase() {
+		String from = LocalDate.of(2025, 3, 10).toString();
+		String to = LocalDate.of(2025, 3, 19).toString();
+
+		Page<WrongNoteDto> page = service.listByUserWithFilters(userId, "LAST_WRONG_DATE", "CUSTOM", from, to, "출장", 0, 10);
+
+		// 출장(홀수 i), lastWrongAt = 3/(21-i): 3/10 ~ 3/19 범위는 i = 3, 5, 7, 9, 11 → null(3, 9) 제외
+		assertThat(page.getContent()).extracting(WrongNoteDto::getJapaneseWord).containsExactly("語5", "語7", "語11");
+		assertThat(page.getTotalElements()).isEqualTo(3);
+		assertThat(page.getContent().get(0).getCategory()).isEqualTo("출장");
+	}
+
+	@Test
+	void nullLastWrongDatesGoLast() {
+		List<WrongNoteDto> all = service.listByUserWithFilters(userId, "LAST_WRONG_DATE", "ALL", null, null, null, 0, 20)
+				.getContent();
+
+		assertThat(all).hasSize(12);
+		assertThat(all.subList(8, 12)).allSatisfy(d -> assertThat(d.getLastWrongAt()).isNull());
+		assertThat(all.subList(0, 8)).allSatisfy(d -> assertThat(d.getLastWrongAt()).isNotNull());
+	}
+
+	@Test
+	void keysetScrollMatchesOffsetOrderForBothSorts() {
+		for (String sort : List.of("LATEST", "LAST_WRONG_DATE")) {
+			List<Long> expected = service.listByUserWithFilters(userId, sort, "ALL", null, null, null, 0, 100)
+					.map(WrongNoteDto::getNoteId).getContent();
+
+			List<Long> scrolled = new ArrayList<>();
+			String cursor = null;
+			int pages = 0;
+			do {
+				CursorPage<WrongNoteDto> p = service.scrollByUserWithFilters(userId, sort, "ALL", null, null, null, cursor, 5);
+				p.items().forEach(d -> scrolled.add(d.getNoteId()));
+				cursor = p.nextCursor();
+				pages++;
+			} while (cursor != null);
+
+			assertThat(scrolled).as(sort).containsExactlyElementsOf(expected);
+			assertThat(pages).isEqualTo(3);
+		}
+	}
+
+	@Test
+	void pageSizeIsClamped() {
+		Page<WrongNoteDto> page = service.listByUserWithFilters(userId, "LATEST", "ALL", null, null, null, 0, Integer.MAX_VALUE);
+		assertThat(page.getSize()).isEqualTo(WrongNoteService.MAX_PAGE_SIZE);
+		assertThat(page.getContent()).hasSize(12);
+
+		CursorPage<WrongNoteDto> first = service.scrollByUserWithFilters(userId, "LATEST", "ALL", null, null, null, null, 0);
+		assertThat(first.items()).hasSize(1);
+		assertThat(first.hasNext()).isTrue();
+	}
+
+	@Test
+	void updateNoteKeepsStarBonusInReviewScore() {
+		WrongNote starred = wrongNoteRepository.findByUser_IdAndStarredOrderByCreatedAtDesc(userId, "Y").get(0);
+		Long noteId = starred.getNoteId();
+		long score = starred.getReviewScore();
+
+		WrongNoteDto off = service.updateNote(noteId, userId, "메모", "N");
+		assertThat(off.getStarred()).isEqualTo("N");
+		assertThat(wrongNoteRepository.findById(noteId).orElseThrow().getReviewScore()).isEqualTo(score - ReviewScore.STAR_BONUS);
+
+		service.updateNote(noteId, userId, "메모 2", "N"); // 그대로면 점수도 그대로
+		assertThat(wrongNoteRepository.findById(noteId).orElseThrow().getReviewScore()).isEqualTo(score - ReviewScore.STAR_BONUS);
+
+		service.updateNote(noteId, userId, "메모 3", "Y");
+		WrongNote back = wrongNoteRepository.findById(noteId).orElseThrow();
+		assertThat(back.getReviewScore()).isEqualTo(score);
+		assertThat(back.getNote()).isEqualTo("메모 3");
+		assertThat(back.getStarred()).isEqualTo("Y");
+	}
+
+	@Test
+	void reviewQueueReturnsTopScoresOnly() {
+		// 점수는 마지막 오답(없으면 등록) 시각 기준 + 별표 보너스: i=1(3/20), i=2(별표, 3/19 + 7일) 가 상위
+		List<Long> top = wrongNoteRepository.findReviewQueue(userId, null, null, null, PageRequest.of(0, 3));
+
+		assertThat(top).hasSize(3);
+		assertThat(top.stream().map(id -> wordRepository.findById(id).orElseThrow().getJapaneseWord()))
+				.containsExactly("語2", "語1", "語4");
+	}
+}
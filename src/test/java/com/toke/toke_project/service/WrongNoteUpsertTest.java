@@ -0,0 +1,108 @@
+package com.toke.toke_project.service;
+
+import com.toke.toke_project.TestDb;
+import com.toke.toke_project.service.model.ReviewScore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** 오답노트 MERGE 업서트: 동시 기록 시 횟수 유실/중복 행이 없어야 한다 */
+class WrongNoteUpsertTest {
+
+	TestDb db;
+	JdbcTemplate jdbc;
+	WrongNoteService service;
+
+	@BeforeEach
+	void setUp() {
+		db = TestDb.create();
+		jdbc = db.jdbc();
+		for (int i = 1; i <= 3; i++) {
+			jdbc.update("INSERT INTO word (word_id, japanese_word, korean_meaning, created_by, created_at) VALUES (?, '語', '뜻', 1, CURRENT_TIMESTAMP)", i);
+		}
+		// @Transactional 없이 직접 생성 → 호출마다 자동 커밋 (동시 트랜잭션 경합 재현)
+		service = new WrongNoteService(null, jdbc);
+	}
+
+	@AfterEach
+	void tearDown() {
+		db.close();
+	}
+
+	long count(long userId, long wordId) {
+		return jdbc.queryForObject("SELECT wrong_count FROM wrong_note WHERE user_id = ? AND word_id = ?",
+				Long.class, userId, wordId);
+	}
+
+	@Test
+	void concurrentRecordsOnSamePairKeepExactCount() throws Exception {
+		int threads = 8, perThread = 50;
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new java.util.ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			futures.add(pool.submit(() -> {
+				start.await();
+				for (int i = 0; i < perThread; i++) service.recordWrong(7L, 1L);
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> f : futures) f.get(60, TimeUnit.SECONDS);
+		pool.shutdown();
+
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM wrong_note", Integer.class)).isEqualTo(1);
+		assertThat(count(7, 1)).isEqualTo(threads * perThread);
+	}
+
+	@Test
+	void paperVariantMergesMixedUsersAndRepeatedWords() {
+		service.recordWrong(1L, 1L);
+		service.recordWrongAll(List.of(
+				new WrongNoteService.WrongKey(1L, 1L),
+				new WrongNoteService.WrongKey(1L, 2L),
+				new WrongNoteService.WrongKey(2L, 2L),
+				new WrongNoteService.WrongKey(2L, 2L),
+				new WrongNoteService.WrongKey(2L, 99L))); // 삭제된 단어는 건너뜀
+
+		assertThat(count(1, 1)).isEqualTo(2);
+		assertThat(count(1, 2)).isEqualTo(1);
+		assertThat(count(2, 2)).isEqualTo(2);
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM wrong_note", Integer.class)).isEqualTo(3);
+	}
+
+	@Test
+	void reviewScoreRisesOnWrongAndDecaysOnCorrect() {
+		long before = ReviewScore.epochHours(LocalDateTime.now());
+		service.recordWrong(1L, 1L);
+		service.recordWrong(1L, 1L);
+		service.recordWrong(1L, 2L);
+		long after = ReviewScore.epochHours(LocalDateTime.now());
+
+		long twice = score(1, 1);
+		assertThat(twice).isBetween(before + 2 * ReviewScore.WRONG_WEIGHT, after + 2 * ReviewScore.WRONG_WEIGHT);
+		assertThat(twice).isGreaterThan(score(1, 2));
+
+		service.recordCorrectAll(List.of(new WrongNoteService.WrongKey(1L, 1L), new WrongNoteService.WrongKey(1L, 3L)));
+		assertThat(score(1, 1)).isEqualTo(twice - ReviewScore.CORRECT_PENALTY);
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM wrong_note", Integer.class)).isEqualTo(2); // 정답은 새 행을 만들지 않음
+	}
+
+	long score(long userId, long wordId) {
+		return jdbc.queryForObject("SELECT review_score FROM wrong_note WHERE user_id = ? AND word_id = ?",
+				Long.class, userId, wordId);
+	}
+
+	@Test
+	void singleRecordOnMissingWordFails() {
+		assertThatThrownBy(() -> service.recordWrong(1L, 99L)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
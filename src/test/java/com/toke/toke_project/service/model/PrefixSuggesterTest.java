@@ -0,0 +1,69 @@
+package com.toke.toke_project.service.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixSuggesterTest {
+
+	@Test
+	void completionsMatchSortedScanAcrossBlockBoundaries() {
+		// 같은 색인어가 여러 블록에 걸치도록 중복을 많이 만든다
+		Random r = new Random(5);
+		String[] heads = { "かい", "かいぎ", "かいしゃ", "かく", "き", "회의", "회의실", "회사", "email" };
+		Map<Long, String> keys = new HashMap<>();
+		for (long id = 1; id <= 600; id++) {
+			String ja = heads[r.nextInt(heads.length)] + (r.nextBoolean() ? "" : String.valueOf(id % 13));
+			String ko = heads[r.nextInt(heads.length)] + ", " + heads[r.nextInt(heads.length)];
+			keys.put(id, NgramIndex.searchKey(new CatalogWord(id, ja, null, ko, null, null)));
+		}
+		PrefixSuggester s = PrefixSuggester.build(keys);
+
+		List<PrefixSuggester.Entry> all = new ArrayList<>();
+		keys.forEach((id, k) -> PrefixSuggester.termsOf(k).forEach(t -> all.add(new PrefixSuggester.Entry(t, id))));
+		all.sort(Comparator.comparing(PrefixSuggester.Entry::term).thenComparingLong(PrefixSuggester.Entry::wordId));
+
+		Set<Long> skip = Set.of(3L, 4L, 5L);
+		for (String prefix : new String[] { "か", "かい", "かいぎ", "회", "회의실", "e", "き1", "없음", "ん" }) {
+			List<Long> expected = new ArrayList<>();
+			for (PrefixSuggester.Entry e : all) {
+				if (expected.size() == 7) break;
+				if (e.term().startsWith(prefix) && !skip.contains(e.wordId()) && !expected.contains(e.wordId())) {
+					expected.add(e.wordId());
+				}
+			}
+			assertThat(s.complete(prefix, 7, skip)).as(prefix)
+					.extracting(PrefixSuggester.Entry::wordId).containsExactlyElementsOf(expected);
+		}
+	}
+
+	@Test
+	void listedMeaningsAreCompletedIndividually() {
+		WordCatalog catalog = WordCatalog.of(1L, List.of(
+				new CatalogWord(1L, "打ち合わせ", "うちあわせ", "회의, 미팅", null, null),
+				new CatalogWord(2L, "ミーティング", "みーてぃんぐ", "미팅", null, null)));
+
+		assertThat(catalog.suggest("미팅", 10)).extracting(CatalogWord::id).containsExactly(1L, 2L);
+		assertThat(catalog.suggest("ミー", 10)).extracting(CatalogWord::id).containsExactly(2L);
+		assertThat(catalog.suggest("uchi", 10)).extracting(CatalogWord::id).containsExactly(1L);
+	}
+
+	@Test
+	void catalogChangesAreVisibleBeforeReindex() {
+		WordCatalog v1 = WordCatalog.of(1L, List.of(
+				new CatalogWord(1L, "会議", "かいぎ", "회의", null, null),
+				new CatalogWord(2L, "会社", "かいしゃ", "회사", null, null)));
+
+		WordCatalog v2 = v1.withUpsert(new CatalogWord(3L, "開始", "かいし", "시작", null, null))
+				.withUpsert(new CatalogWord(2L, "会社員", "かいしゃいん", "회사원", null, null))
+				.withRemoval(1L);
+
+		assertThat(v2.suggest("かい", 10)).extracting(CatalogWord::id).containsExactly(3L, 2L);
+		assertThat(v2.suggest("회사원", 10)).extracting(CatalogWord::id).containsExactly(2L);
+		assertThat(v2.suggest("かい", 1)).extracting(CatalogWord::id).containsExactly(3L);
+		assertThat(v2.withSearchIndex(v2.buildSearchIndex(), v2.version()).suggest("かい", 10))
+				.extracting(CatalogWord::id).containsExactly(3L, 2L);
+	}
+}
@@ -0,0 +1,96 @@
+package com.toke.toke_project.service.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuizPaperCodecTest {
+
+	private static WordCatalog catalog() {
+		List<CatalogWord> words = new ArrayList<>();
+		for (long i = 1; i <= 40; i++) {
+			words.add(new CatalogWord(i, "打ち合わせ" + i, "うちあわせ" + i, "미팅, 사전 협의 " + i, "회의", null));
+		}
+		return WordCatalog.of(1L, words);
+	}
+
+	private static QuizPaper paper(WordCatalog catalog, QuestionMode mode) {
+		List<QuizQuestion> qs = new ArrayList<>();
+		for (long i = 1; i <= 10; i++) {
+			List<Long> ids = List.of(i + 20, i, i + 10, i + 30); // 정답은 1번 보기
+			List<String> options = ids.stream().map(id -> catalog.get(id).optionText(mode)).toList();
+			qs.add(new QuizQuestion(i, catalog.get(i).promptText(mode), options, ids, 1));
+		}
+		return new QuizPaper(UUID.randomUUID().toString(), "회의", mode, qs);
+	}
+
+	@Test
+	void decodeRendersTheSamePaper() {
+		WordCatalog catalog = catalog();
+		for (QuestionMode mode : QuestionMode.values()) {
+			QuizPaper original = paper(catalog, mode);
+
+			QuizPaper decoded = QuizPaperCodec.decode(QuizPaperCodec.encode(original), catalog);
+
+			assertThat(decoded).isEqualTo(original);
+		}
+	}
+
+	@Test
+	void decodeReturnsNullWhenWordWasDeleted() {
+		WordCatalog catalog = catalog();
+		CompactQuizPaper compact = QuizPaperCodec.encode(paper(catalog, QuestionMode.JP_TO_KR));
+
+		assertThat(QuizPaperCodec.decode(compact, catalog.withRemoval(25L))).isNull();
+	}
+
+	/** 공유 저장소용: 다른 노드의 카탈로그에 단어가 없거나 바뀌었어도 출제 당시 문구 그대로 복원 */
+	@Test
+	void paperWithTextsDecodesWithoutCatalog() {
+		QuizPaper original = paper(catalog(), QuestionMode.KR_TO_JP);
+		CompactQuizPaper compact = QuizPaperCodec.fromBytes(QuizPaperCodec.toBytes(QuizPaperCodec.encode(original, true)));
+
+		assertThat(compact.hasTexts()).isTrue();
+		assertThat(QuizPaperCodec.decode(compact, WordCatalog.empty())).isEqualTo(original);
+		WordCatalog edited = catalog().withUpsert(new CatalogWord(1L, "会議", "かいぎ", "회의", "회의", null));
+		assertThat(QuizPaperCodec.decode(compact, edited)).isEqualTo(original);
+
+		// id만 담은 시험지는 그대로 카탈로그로 렌더링
+		CompactQuizPaper idsOnly = QuizPaperCodec.fromBytes(QuizPaperCodec.toBytes(QuizPaperCodec.encode(original)));
+		assertThat(idsOnly.hasTexts()).isFalse();
+		assertThat(QuizPaperCodec.decode(idsOnly, WordCatalog.empty())).isNull();
+	}
+
+	@Test
+	void compactPaperIsMuchSmallerThanRenderedPaper() {
+		QuizPaper rendered = paper(catalog(), QuestionMode.JP_TO_KR);
+		CompactQuizPaper compact = QuizPaperCodec.encode(rendered);
+
+		long renderedBytes = estimate(rendered);
+		long compactBytes = compact.estimatedBytes();
+		assertThat(compactBytes * 4).as("렌더링 %dB 대비 압축 %dB", renderedBytes, compactBytes)
+				.isLessThan(renderedBytes);
+	}
+
+	/** 기존 캐시 값(QuizPaper) 점유량 추정: 같은 규칙(헤더/참조/문자열)으로 계산 */
+	private static long estimate(QuizPaper p) {
+		long bytes = 32 + CompactQuizPaper.stringBytes(p.quizId()) + CompactQuizPaper.stringBytes(p.category());
+		bytes += listBytes(p.questions().size());
+		for (QuizQuestion q : p.questions()) {
+			bytes += 32 + 16                                    // record + Long(quizId)
+					+ CompactQuizPaper.stringBytes(q.prompt())
+					+ listBytes(q.options().size())
+					+ listBytes(q.optionWordIds().size()) + 16L * q.optionWordIds().size();
+			for (String o : q.options()) bytes += CompactQuizPaper.stringBytes(o);
+		}
+		return bytes;
+	}
+
+	private static long listBytes(int n) {
+		return 24 + 16 + 4L * n; // ArrayList + Object[]
+	}
+}
@@ -0,0 +1,138 @@
+package com.toke.toke_project.service.model;
+
+import com.toke.toke_project.util.SearchNormalizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WordCatalogSearchTest {
+
+	private static final String[] JA = { "会議", "資料", "予定", "確認", "ミーティング", "Email", "メール" };
+	private static final String[] KANA = { "かいぎ", "しりょう", "よてい", "かくにん", "みーてぃんぐ", "めーる" };
+	private static final String[] KO = { "회의", "자료", "예정", "확인", "미팅", "이메일", "메일" };
+	private static final String[] CATS = { "비즈니스", "IT", "여행" };
+	private static final String[] KO_GROUPS = { "가", "나", "다" };
+	private static final String[] JA_GROUPS = { "あ", "か", "さ" };
+
+	private static CatalogWord word(long id, Random r) {
+		return new CatalogWord(id,
+				JA[r.nextInt(JA.length)] + id,
+				r.nextInt(5) == 0 ? null : KANA[r.nextInt(KANA.length)],
+				KO[r.nextInt(KO.length)] + (id % 7),
+				r.nextInt(6) == 0 ? null : CATS[r.nextInt(CATS.length)],
+				null,
+				KO_GROUPS[r.nextInt(KO_GROUPS.length)], 0,
+				JA_GROUPS[r.nextInt(JA_GROUPS.length)], 0,
+				null, null);
+	}
+
+	/** 기존 LIKE 쿼리(필드별 부분 일치)를 정규화된 문자열로 옮긴 비교 기준 */
+	private static long[] bruteForce(List<CatalogWord> words, String q, String category, String ko, String ja) {
+		String nq = (q == null || q.isEmpty()) ? null : SearchNormalizer.normalize(q);
+		return words.stream()
+				.filter(w -> nq == null || contains(w.japaneseWord(), nq) || contains(w.readingKana(), nq)
+						|| contains(w.koreanMeaning(), nq))
+				.filter(w -> category == null || category.equals(w.category()))
+				.filter(w -> ko == null || ko.equals(w.koGroup()))
+				.filter(w -> ja == null || ja.equals(w.jaGroup()))
+				.mapToLong(CatalogWord::id).sorted().toArray();
+	}
+
+	private static boolean contains(String field, String nq) {
+		return field != null && SearchNormalizer.normalize(field).contains(nq);
+	}
+
+	@Test
+	void indexMatchesLikeScanForRandomQueries() {
+		Random r = new Random(11);
+		List<CatalogWord> words = new ArrayList<>();
+		for (long i = 1; i <= 2000; i++) words.add(word(i, r));
+		WordCatalog catalog = WordCatalog.of(1L, words);
+
+		String[] queries = { "会", "会議1", "EMAIL", "mail", "ーて", "회의3", "메", "자료", "12", "없는말", "" };
+		for (String q : queries) {
+			for (String cat : new String[] { null, "IT" }) {
+				assertThat(catalog.search(q, cat, null, null))
+						.as("q=%s cat=%s", q, cat)
+						.containsExactly(bruteForce(words, q, cat, null, null));
+			}
+			assertThat(catalog.search(q, "비즈니스", "나", null)).containsExactly(bruteForce(words, q, "비즈니스", "나", null));
+			assertThat(catalog.search(q, null, null, "さ")).containsExactly(bruteForce(words, q, null, null, "さ"));
+		}
+	}
+
+	@Test
+	void bigramCandidatesAreVerified() {
+		// "abc" 를 찾을 때 "ab", "bc" 를 따로 가진 단어는 후보일 뿐 결과가 아니다
+		WordCatalog catalog = WordCatalog.of(1L, List.of(
+				new CatalogWord(1L, "ab-bc", null, "x", null, null),
+				new CatalogWord(2L, "xabcx", null, "y", null, null)));
+
+		assertThat(catalog.search("ABC", null, null, null)).containsExactly(2L);
+	}
+
+	@Test
+	void kanaWidthAndRomajiVariantsFindTheSameWord() {
+		WordCatalog catalog = WordCatalog.of(1L, List.of(
+				new CatalogWord(1L, "会議", "かいぎ", "회의", null, null),
+				new CatalogWord(2L, "メール", "めーる", "메일", null, null),
+				new CatalogWord(3L, "ＰＣ", "ぴーしー", "컴퓨터", null, null)));
+
+		for (String q : new String[] { "かいぎ", "カイギ", "ｶｲｷﾞ", "kaigi", "KAIGI" }) {
+			assertThat(catalog.search(q, null, null, null)).as(q).containsExactly(1L);
+		}
+		for (String q : new String[] { "メール", "めえる", "ﾒｰﾙ", "meeru", "me-ru" }) {
+			assertThat(catalog.search(q, null, null, null)).as(q).containsExactly(2L);
+		}
+		assertThat(catalog.search("pc", null, null, null)).containsExactly(3L);
+	}
+
+	@Test
+	void choseongQuerySearchesMeaningInitials() {
+		WordCatalog v1 = WordCatalog.of(1L, List.of(
+				new CatalogWord(1L, "会議", "かいぎ", "회의", "비즈니스", null),
+				new CatalogWord(2L, "会議室", "かいぎしつ", "회의실", "비즈니스", null),
+				new CatalogWord(3L, "会社", "かいしゃ", "회사", "IT", null),
+				new CatalogWord(4L, "ㅎㅇ", null, "약어", null, null)));
+
+		assertThat(v1.search("ㅎㅇ", null, null, null)).containsExactly(1L, 2L);
+		assertThat(v1.search("ㅎ ㅇ ㅅ", null, null, null)).containsExactly(2L);
+		assertThat(v1.search("ㅎ", "IT", null, null)).containsExactly(3L);
+		assertThat(v1.search("ㅇㅅ", null, null, null)).containsExactly(2L);
+		assertThat(v1.search("ㅎ의", null, null, null)).isEmpty(); // 자모+음절 혼합은 일반 검색
+
+		WordCatalog v2 = v1.withUpsert(new CatalogWord(5L, "打ち合わせ", null, "회의 준비", null, null));
+		assertThat(v2.search("ㅎㅇ", null, null, null)).containsExactly(1L, 2L, 5L);
+	}
+
+	@Test
+	void changesAfterIndexingAreVisibleUntilReindexed() {
+		WordCatalog v1 = WordCatalog.of(1L, List.of(
+				new CatalogWord(1L, "会議", "かいぎ", "회의", "비즈니스", null),
+				new CatalogWord(2L, "資料", "しりょう", "자료", "비즈니스", null),
+				new CatalogWord(3L, "予定", "よてい", "예정", "비즈니스", null)));
+
+		WordCatalog v2 = v1.withUpsert(new CatalogWord(2L, "会議室", "かいぎしつ", "회의실", "비즈니스", null))
+				.withUpsert(new CatalogWord(4L, "会議録", "かいぎろく", "회의록", "IT", null))
+				.withRemoval(1L);
+
+		assertThat(v1.search("会議", null, null, null)).containsExactly(1L);
+		assertThat(v2.dirtyCount()).isEqualTo(3);
+		assertThat(v2.search("会議", null, null, null)).containsExactly(2L, 4L);
+		assertThat(v2.search("会議", "비즈니스", null, null)).containsExactly(2L);
+		assertThat(v2.search("자료", null, null, null)).isEmpty();
+
+		// v3 시점에 만든 색인으로 교체하는 동안 한 건이 더 바뀐 경우
+		WordCatalog v3 = v2.withUpsert(new CatalogWord(3L, "会議予定", "かいぎよてい", "회의 예정", "비즈니스", null));
+		WordCatalog.SearchIndex rebuilt = v2.buildSearchIndex();
+		WordCatalog swapped = v3.withSearchIndex(rebuilt, v2.version());
+
+		assertThat(swapped.version()).isEqualTo(v3.version());
+		assertThat(swapped.dirtyCount()).isEqualTo(1);
+		assertThat(swapped.search("会議", null, null, null)).containsExactly(2L, 3L, 4L);
+	}
+}
@@ -0,0 +1,58 @@
+package com.toke.toke_project.service.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WordCatalogTest {
+
+	private static CatalogWord word(long id, String category) {
+		return new CatalogWord(id, "語" + id, "ご" + id, "뜻" + id, category, null);
+	}
+
+	@Test
+	void sampleIsDistinctAndRespectsCategory() {
+		WordCatalog catalog = WordCatalog.of(1L, List.of(
+				word(1, "비즈니스 회화"), word(2, "비즈니스　회화"), word(3, " 비즈니스회화 "),
+				word(4, "IT"), word(5, null)));
+
+		List<CatalogWord> picked = catalog.sample("비즈니스회화", 3, new Random(7));
+
+		assertThat(picked).extracting(CatalogWord::id).containsExactlyInAnyOrder(1L, 2L, 3L);
+		assertThat(catalog.sample(null, 10, new Random(7))).hasSize(5);
+		assertThat(catalog.sample("없는카테고리", 3, new Random(7))).isEmpty();
+	}
+
+	@Test
+	void sampleNeverRepeatsIds() {
+		List<CatalogWord> words = new java.util.ArrayList<>();
+		for (long i = 1; i <= 500; i++) words.add(word(i, "A"));
+		WordCatalog catalog = WordCatalog.of(1L, words);
+
+		List<CatalogWord> picked = catalog.sample("A", 100, new Random(1));
+		Set<Long> ids = new HashSet<>();
+		picked.forEach(w -> ids.add(w.id()));
+		assertThat(ids).hasSize(100);
+	}
+
+	@Test
+	void upsertAndRemovalProduceNewVersionWithoutTouchingOld() {
+		WordCatalog v1 = WordCatalog.of(1L, List.of(word(1, "A"), word(2, "A")));
+
+		WordCatalog v2 = v1.withUpsert(word(2, "B"));
+		WordCatalog v3 = v2.withRemoval(1L);
+
+		assertThat(v1.idsOf("A")).containsExactly(1L, 2L);
+		assertThat(v2.version()).isEqualTo(2L);
+		assertThat(v2.idsOf("A")).containsExactly(1L);
+		assertThat(v2.idsOf("B")).containsExactly(2L);
+		assertThat(v3.version()).isEqualTo(3L);
+		assertThat(v3.get(1L)).isNull();
+		assertThat(v3.size()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,56 @@
+package com.toke.toke_project.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulUtilTest {
+
+	@Test
+	void choseongKeepsInitialsAndConsonantJamoOnly() {
+		assertThat(HangulUtil.choseongOf("회의")).isEqualTo("ㅎㅇ");
+		assertThat(HangulUtil.choseongOf("까치, 빵 (2개)")).isEqualTo("ㄲㅊㅃㄱ");
+		assertThat(HangulUtil.choseongOf("ㅋㅋ 웃음")).isEqualTo("ㅋㅋㅇㅇ");
+		assertThat(HangulUtil.choseongOf("会議")).isNull();
+		assertThat(HangulUtil.choseongOf(null)).isNull();
+	}
+
+	@Test
+	void choseongQueryIsConsonantJamoIgnoringSpaces() {
+		assertThat(HangulUtil.isChoseongQuery("ㅎㅇ")).isTrue();
+		assertThat(HangulUtil.isChoseongQuery(" ㅎ ㅇ ")).isTrue();
+		assertThat(HangulUtil.isChoseongQuery("ㅎ의")).isFalse();
+		assertThat(HangulUtil.isChoseongQuery("ㅏ")).isFalse();
+		assertThat(HangulUtil.isChoseongQuery("  ")).isFalse();
+	}
+
+	@Test
+	void groupAndVowelFollowInitialAndMedial() {
+		assertThat(HangulUtil.groupOf(" 회의")).isEqualTo("하");
+		assertThat(HangulUtil.groupOf("까치")).isEqualTo("가");
+		assertThat(HangulUtil.groupOf("ㅃ")).isEqualTo("바");
+		assertThat(HangulUtil.groupOf("会議")).isEqualTo("#");
+		assertThat(HangulUtil.groupOf("  ")).isNull();
+		assertThat(HangulUtil.vowelIndexOf("회의")).isEqualTo(11); // ㅚ
+		assertThat(HangulUtil.vowelIndexOf("ㅏ")).isEqualTo(0);
+		assertThat(HangulUtil.vowelIndexOf("ㄱ")).isEqualTo(99);
+		assertThat(HangulUtil.vowelIndexOf(null)).isEqualTo(99);
+	}
+
+	@Test
+	void classifyAllMatchesSingleCalls() {
+		List<String> in = Arrays.asList("나무", null, "ㅎㅎ", "Apple", "의자");
+		String[] groups = new String[in.size()];
+		int[] vowels = new int[in.size()];
+
+		HangulUtil.classifyAll(in, groups, vowels);
+
+		for (int i = 0; i < in.size(); i++) {
+			assertThat(groups[i]).isEqualTo(HangulUtil.groupOf(in.get(i)));
+			assertThat(vowels[i]).isEqualTo(HangulUtil.vowelIndexOf(in.get(i)));
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package com.toke.toke_project.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdBitmapTest {
+
+	/** BitSet 과 같은 결과인지: 희소(배열)·밀집(비트셋) 컨테이너가 섞이도록 범위와 밀도를 바꿔 가며 */
+	@Test
+	void setOperationsMatchBitSet() {
+		Random r = new Random(11);
+		for (int round = 0; round < 30; round++) {
+			int range = 1 << (12 + r.nextInt(8));        // 4096 ~ 524288 → 컨테이너 1~8개
+			double density = new double[] { 0.001, 0.05, 0.3, 0.9 }[round % 4];
+			BitSet sa = new BitSet(), sb = new BitSet();
+			IdBitmap a = random(r, range, density, sa);
+			IdBitmap b = random(r, range, 1 - density, sb);
+
+			BitSet and = (BitSet) sa.clone();
+			and.and(sb);
+			BitSet or = (BitSet) sa.clone();
+			or.or(sb);
+			BitSet andNot = (BitSet) sa.clone();
+			andNot.andNot(sb);
+
+			assertThat(a.toArray()).isEqualTo(sa.stream().toArray());
+			assertThat(IdBitmap.and(a, b).toArray()).isEqualTo(and.stream().toArray());
+			assertThat(IdBitmap.or(a, b).toArray()).isEqualTo(or.stream().toArray());
+			assertThat(IdBitmap.andNot(a, b).toArray()).isEqualTo(andNot.stream().toArray());
+			assertThat(IdBitmap.or(a, b).cardinality()).isEqualTo(or.cardinality());
+		}
+	}
+
+	@Test
+	void containerSwitchesAtThresholdOnAddAndRemove() {
+		IdBitmap b = new IdBitmap();
+		for (int i = 0; i < IdBitmap.ARRAY_MAX + 10; i++) assertThat(b.add(i * 3)).isTrue();
+		assertThat(b.add(0)).isFalse();
+		long dense = b.sizeInBytes();
+		assertThat(dense).isGreaterThanOrEqualTo(8192);              // 비트셋
+
+		for (int i = 0; i < 100; i++) assertThat(b.remove(i * 3)).isTrue();
+		assertThat(b.remove(1)).isFalse();
+		assertThat(b.cardinality()).isEqualTo(IdBitmap.ARRAY_MAX - 90);
+		assertThat(b.sizeInBytes()).isEqualTo(dense);                // 경계 근처에서는 비트셋 유지
+		for (int i = 100; i < IdBitmap.ARRAY_MAX / 2 + 10; i++) b.remove(i * 3);
+		assertThat(b.sizeInBytes()).isLessThan(dense);               // 절반 아래로 줄면 다시 배열
+		assertThat(b.contains((IdBitmap.ARRAY_MAX / 2 + 10) * 3)).isTrue();
+		assertThat(b.contains(297)).isFalse();
+
+		for (int id : b.toArray()) b.remove(id);
+		assertThat(b.isEmpty()).isTrue();
+		assertThatThrownBy(() -> b.add(-1)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void descendingIterationStartsBelowCursorAndStops() {
+		Random r = new Random(5);
+		BitSet s = new BitSet();
+		IdBitmap b = random(r, 300_000, 0.02, s);
+		for (int i = 70_000; i < 80_000; i++) { // 밀집 컨테이너 하나
+			b.add(i);
+			s.set(i);
+		}
+
+		for (int before : new int[] { Integer.MAX_VALUE, 300_000, 75_001, 70_000, 65_536, 64, 1, 0 }) {
+			List<Integer> got = new ArrayList<>();
+			b.forEachDescending(before, id -> {
+				got.add(id);
+				return got.size() < 50;
+			});
+			List<Integer> expected = new ArrayList<>();
+			for (int i = s.previousSetBit(Math.min(before, 300_000) - 1); i >= 0 && expected.size() < 50;
+					i = s.previousSetBit(i - 1)) {
+				expected.add(i);
+			}
+			assertThat(got).as("before " + before).isEqualTo(expected);
+		}
+	}
+
+	private static IdBitmap random(Random r, int range, double density, BitSet mirror) {
+		IdBitmap b = new IdBitmap();
+		int n = (int) (range * density);
+		for (int i = 0; i < n; i++) {
+			int id = r.nextInt(range);
+			b.add(id);
+			mirror.set(id);
+		}
+		return b;
+	}
+}
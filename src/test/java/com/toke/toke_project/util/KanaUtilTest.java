@@ -0,0 +1,50 @@
+package com.toke.toke_project.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KanaUtilTest {
+
+	@Test
+	void groupCoversKatakanaSmallAndVoicedKana() {
+		assertThat(KanaUtil.groupOf("かいぎ")).isEqualTo("か");
+		assertThat(KanaUtil.groupOf("カイギ")).isEqualTo("か");
+		assertThat(KanaUtil.groupOf("ぎんこう")).isEqualTo("か");
+		assertThat(KanaUtil.groupOf("パン")).isEqualTo("は");
+		assertThat(KanaUtil.groupOf("ヴァイオリン")).isEqualTo("あ");
+		assertThat(KanaUtil.groupOf("ゃ")).isEqualTo("や");
+		assertThat(KanaUtil.groupOf("ッ")).isEqualTo("た");
+		assertThat(KanaUtil.groupOf(" んー")).isEqualTo("わ");
+		assertThat(KanaUtil.groupOf("ー")).isEqualTo("#");
+		assertThat(KanaUtil.groupOf("会議")).isEqualTo("#");
+		assertThat(KanaUtil.groupOf(" ")).isNull();
+		assertThat(KanaUtil.groupOf(null)).isNull();
+	}
+
+	@Test
+	void vowelIndexOnlyForVowelKana() {
+		assertThat(KanaUtil.vowelIndexOf("えき")).isEqualTo(3);
+		assertThat(KanaUtil.vowelIndexOf("オレンジ")).isEqualTo(4);
+		assertThat(KanaUtil.vowelIndexOf("ぃ")).isEqualTo(1);
+		assertThat(KanaUtil.vowelIndexOf("かいぎ")).isEqualTo(99);
+		assertThat(KanaUtil.vowelIndexOf(null)).isEqualTo(99);
+	}
+
+	@Test
+	void classifyAllMatchesSingleCalls() {
+		List<String> in = Arrays.asList("あめ", null, "テスト", "abc", "ぉ");
+		String[] groups = new String[in.size()];
+		int[] vowels = new int[in.size()];
+
+		KanaUtil.classifyAll(in, groups, vowels);
+
+		for (int i = 0; i < in.size(); i++) {
+			assertThat(groups[i]).isEqualTo(KanaUtil.groupOf(in.get(i)));
+			assertThat(vowels[i]).isEqualTo(KanaUtil.vowelIndexOf(in.get(i)));
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.toke.toke_project.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 키 정규화 비용 비교 (단어 1건 = 일본어/읽기/뜻 3개 필드).
+ * - jdkNormalizer : Normalizer.normalize(NFKC) + toLowerCase + 가타카나 변환을 필드마다 수행 (중간 문자열 여러 개 생성)
+ * - tableDriven   : SearchNormalizer.normalize(CharSequence, StringBuilder) 를 재사용 버퍼로 호출
+ *
+ * 실행: mvn test-compile 후 main() 실행 (IDE 또는 test classpath로 java 실행)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchNormalizerBenchmark {
+
+	String[] fields = { "ミーティング資料", "ﾐｰﾃｨﾝｸﾞしりょう", "회의 자료 (Meeting)" };
+	StringBuilder buffer = new StringBuilder(64);
+
+	@Benchmark
+	public void jdkNormalizer(Blackhole bh) {
+		for (String f : fields) {
+			String n = Normalizer.normalize(f, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+			char[] cs = n.toCharArray();
+			for (int i = 0; i < cs.length; i++) cs[i] = KanaUtil.toHiragana(cs[i]);
+			bh.consume(new String(cs));
+		}
+	}
+
+	@Benchmark
+	public void tableDriven(Blackhole bh) {
+		for (String f : fields) {
+			buffer.setLength(0);
+			SearchNormalizer.normalize(f, buffer);
+			bh.consume(buffer.length());
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(SearchNormalizerBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,45 @@
+package com.toke.toke_project.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchNormalizerTest {
+
+	@Test
+	void foldsWidthCaseAndKatakana() {
+		assertThat(SearchNormalizer.normalize("カイギ")).isEqualTo("かいぎ");
+		assertThat(SearchNormalizer.normalize("ｶｲｷﾞ")).isEqualTo("かいぎ");
+		assertThat(SearchNormalizer.normalize("ﾊﾟｿｺﾝ")).isEqualTo("ぱそこん");
+		assertThat(SearchNormalizer.normalize("ＰＣ Email")).isEqualTo("pc email");
+		assertThat(SearchNormalizer.normalize("회의 자료")).isEqualTo("회의 자료");
+		assertThat(SearchNormalizer.normalize("㈱")).isEqualTo("(株)");
+	}
+
+	@Test
+	void longVowelMarkTakesPreviousVowel() {
+		assertThat(SearchNormalizer.normalize("メール")).isEqualTo("めえる");
+		assertThat(SearchNormalizer.normalize("ﾙｰﾙ")).isEqualTo("るうる");
+		assertThat(SearchNormalizer.normalize("ー")).isEqualTo("ー");
+	}
+
+	@Test
+	void romajiBecomesAnExtraQueryKey() {
+		assertThat(SearchNormalizer.queryKeys("kaigi")).containsExactly("kaigi", "かいぎ");
+		assertThat(SearchNormalizer.queryKeys("Shinkansen")).containsExactly("shinkansen", "しんかんせん");
+		assertThat(SearchNormalizer.queryKeys("konnichiwa")).containsExactly("konnichiwa", "こんにちわ");
+		assertThat(SearchNormalizer.queryKeys("kitte")).containsExactly("kitte", "きって");
+		assertThat(SearchNormalizer.queryKeys("kyou")).containsExactly("kyou", "きょう");
+		assertThat(SearchNormalizer.queryKeys("me-ru")).containsExactly("me-ru", "めえる");
+		// 가나로 바꿀 수 없는 철자(영단어)는 원래 검색어만
+		assertThat(SearchNormalizer.queryKeys("email")).containsExactly("email");
+		assertThat(SearchNormalizer.queryKeys("회의")).containsExactly("회의");
+	}
+
+	@Test
+	void reusedBufferIsAppendedTo() {
+		StringBuilder sb = new StringBuilder("x");
+		SearchNormalizer.normalize("ﾞｶﾞ", sb); // 맨 앞 탁점은 앞 필드와 합치지 않고 버린다
+		assertThat(sb.toString()).isEqualTo("xが");
+	}
+}
@@ -0,0 +1,112 @@
+package com.toke.toke_project.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단어 1,000건의 그룹/모음 index 분류 비용 비교 (WordIndexInitializer chunk 1개, CSV 가져오기 한 묶음 크기).
+ * - legacy     : 기존 방식. 가나는 trim + 행별 배열 중첩 탐색 + "あいうえおアイウエオ".indexOf,
+ *                한글은 trim + String.valueOf(char) 로 그룹 문자열 생성
+ * - tableDriven: KanaUtil/HangulUtil.classifyAll (글자 1개 배열 조회, 그룹은 미리 만든 상수)
+ *
+ * 실행: mvn test-compile 후 main() 실행 (IDE 또는 test classpath로 java 실행)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WordClassifyBenchmark {
+
+	static final int WORDS = 1000;
+
+	List<String> kanas;
+	List<String> meanings;
+	String[] groups = new String[WORDS];
+	int[] vowels = new int[WORDS];
+
+	@Setup
+	public void setUp() {
+		String[] kana = { "かいぎ", "しりょう", "ミーティング", "よてい", "わりびき", "パソコン", "えいぎょう", "ろうか", "ンゴ", "ゆうびん" };
+		String[] ko = { "회의", "자료", "미팅", "예정", "할인", "컴퓨터", "영업", "복도", "뭉개다", "우편" };
+		Random r = new Random(7);
+		kanas = new ArrayList<>(WORDS);
+		meanings = new ArrayList<>(WORDS);
+		for (int i = 0; i < WORDS; i++) {
+			kanas.add(kana[r.nextInt(kana.length)]);
+			meanings.add(ko[r.nextInt(ko.length)]);
+		}
+	}
+
+	private static final String[] GROUPS = { "あ", "か", "さ", "た", "な", "は", "ま", "や", "ら", "わ" };
+	private static final char[][] GROUP_HEADS = { { 'あ', 'い', 'う', 'え', 'お' },
+			{ 'か', 'き', 'く', 'け', 'こ', 'が', 'ぎ', 'ぐ', 'げ', 'ご' }, { 'さ', 'し', 'す', 'せ', 'そ', 'ざ', 'じ', 'ず', 'ぜ', 'ぞ' },
+			{ 'た', 'ち', 'つ', 'て', 'と', 'だ', 'ぢ', 'づ', 'で', 'ど' }, { 'な', 'に', 'ぬ', 'ね', 'の' },
+			{ 'は', 'ひ', 'ふ', 'へ', 'ほ', 'ば', 'び', 'ぶ', 'べ', 'ぼ', 'ぱ', 'ぴ', 'ぷ', 'ぺ', 'ぽ' }, { 'ま', 'み', 'む', 'め', 'も' },
+			{ 'や', 'ゆ', 'よ' }, { 'ら', 'り', 'る', 'れ', 'ろ' }, { 'わ', 'を', 'ん' } };
+	private static final char[] GROUP14 = { '가', '가', '나', '다', '다', '라', '마', '바', '바', '사', '사', '아', '자', '자', '차', '카', '타', '파', '하' };
+
+	static String legacyKanaGroup(String kana) {
+		if (kana == null || kana.isBlank()) return null;
+		char c = kana.trim().charAt(0);
+		for (int i = 0; i < GROUP_HEADS.length; i++) {
+			for (char h : GROUP_HEADS[i]) {
+				if (c == h) return GROUPS[i];
+			}
+		}
+		return "#";
+	}
+
+	static int legacyKanaVowel(String kana) {
+		if (kana == null || kana.isBlank()) return 99;
+		char c = kana.trim().charAt(0);
+		int idx = "あいうえおアイウエオ".indexOf(c);
+		return (idx >= 0) ? (idx % 5) : 99;
+	}
+
+	static String legacyHangulGroup(String s) {
+		if (s == null || s.isBlank()) return null;
+		char c = s.trim().charAt(0);
+		if (c < 0xAC00 || c > 0xD7A3) return "#";
+		return String.valueOf(GROUP14[(c - 0xAC00) / (21 * 28)]);
+	}
+
+	static int legacyHangulVowel(String s) {
+		if (s == null || s.isBlank()) return 99;
+		char c = s.trim().charAt(0);
+		if (c < 0xAC00 || c > 0xD7A3) return 99;
+		return ((c - 0xAC00) % (21 * 28)) / 28;
+	}
+
+	@Benchmark
+	public void legacy(Blackhole bh) {
+		for (int i = 0; i < WORDS; i++) {
+			bh.consume(legacyKanaGroup(kanas.get(i)));
+			bh.consume(legacyKanaVowel(kanas.get(i)));
+			bh.consume(legacyHangulGroup(meanings.get(i)));
+			bh.consume(legacyHangulVowel(meanings.get(i)));
+		}
+	}
+
+	@Benchmark
+	public void tableDriven(Blackhole bh) {
+		KanaUtil.classifyAll(kanas, groups, vowels);
+		bh.consume(groups);
+		bh.consume(vowels);
+		HangulUtil.classifyAll(meanings, groups, vowels);
+		bh.consume(groups);
+		bh.consume(vowels);
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(WordClassifyBenchmark.class.getSimpleName()).build()).run();
+	}
+}
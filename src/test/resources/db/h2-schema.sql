@@ -0,0 +1,86 @@
+-- JDBC 테스트 공용 스키마 (H2 Oracle 호환 모드, TestDb 가 새 DB 마다 실행).
+-- 엔티티 매핑 + devtools/sql 변경분(색인 컬럼, review_score, 유니크 제약)을 반영한 운영 테이블과 같은 모양.
+-- 컬럼 이름/NULL 허용 여부는 TestDbSchemaTest 가 엔티티로 생성한 스키마와 비교한다.
+-- 외래 키는 두지 않는다 (테스트가 필요한 행만 넣도록). 시퀀스는 테스트가 직접 넣는 id 와 겹치지 않게 1000 부터.
+
+CREATE SEQUENCE seq_user_id START WITH 1000;
+CREATE SEQUENCE seq_word_id START WITH 1000;
+CREATE SEQUENCE seq_list_id START WITH 1000;
+CREATE SEQUENCE seq_list_item_id START WITH 1000;
+CREATE SEQUENCE seq_tag_id START WITH 1000;
+CREATE SEQUENCE seq_note_id START WITH 1000;
+
+CREATE TABLE users (
+    user_id      NUMBER(19)    PRIMARY KEY,
+    username     VARCHAR2(100) NOT NULL,
+    password     VARCHAR2(255) NOT NULL,
+    phone_number VARCHAR2(20)  NOT NULL UNIQUE,
+    email        VARCHAR2(100) NOT NULL UNIQUE,
+    nickname     VARCHAR2(20)  NOT NULL UNIQUE,
+    role         VARCHAR2(50)  DEFAULT 'ROLE_USER' NOT NULL,
+    created_at   TIMESTAMP     DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE word (
+    word_id             NUMBER(19)     PRIMARY KEY,
+    japanese_word       VARCHAR2(300)  NOT NULL,
+    reading_kana        VARCHAR2(300),
+    korean_meaning      VARCHAR2(300)  NOT NULL,
+    category            VARCHAR2(200),
+    example_sentence_jp VARCHAR2(1000),
+    created_by          NUMBER(19)     NOT NULL,
+    created_at          TIMESTAMP      NOT NULL,
+    ko_group            VARCHAR2(1),
+    ko_vowel_index      NUMBER(10),
+    ja_group            VARCHAR2(1),
+    ja_vowel_index      NUMBER(10),
+    ko_choseong         VARCHAR2(300),
+    index_version       NUMBER(10)
+);
+
+CREATE TABLE word_list (
+    list_id     NUMBER(19)    PRIMARY KEY,
+    user_id     NUMBER(19)    NOT NULL,
+    list_name   VARCHAR2(100) NOT NULL,
+    description VARCHAR2(255),
+    created_at  TIMESTAMP     DEFAULT CURRENT_TIMESTAMP,
+    is_shared   NUMBER(1)     DEFAULT 0
+);
+
+CREATE TABLE word_list_item (
+    list_item_id               NUMBER(19)     PRIMARY KEY,
+    list_id                    NUMBER(19)     NOT NULL,
+    word_id                    NUMBER(19),
+    custom_japanese_word       VARCHAR2(100),
+    custom_reading_kana        VARCHAR2(300),
+    custom_korean_meaning      VARCHAR2(255),
+    custom_example_sentence_jp VARCHAR2(1000),
+    created_at                 TIMESTAMP      DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE hashtag (
+    tag_id     NUMBER(19)   PRIMARY KEY,
+    tag_name   VARCHAR2(50) NOT NULL,
+    normalized VARCHAR2(50) NOT NULL UNIQUE,
+    created_at TIMESTAMP    DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE word_list_tag (
+    list_id    NUMBER(19) NOT NULL,
+    tag_id     NUMBER(19) NOT NULL,
+    created_at TIMESTAMP  DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (list_id, tag_id)
+);
+
+CREATE TABLE wrong_note (
+    note_id       NUMBER(19)  PRIMARY KEY,
+    user_id       NUMBER(19)  NOT NULL,
+    word_id       NUMBER(19)  NOT NULL,
+    note          CLOB,
+    starred       VARCHAR2(1) DEFAULT 'N',
+    created_at    TIMESTAMP   NOT NULL,
+    wrong_count   NUMBER(19)  NOT NULL,
+    last_wrong_at TIMESTAMP,
+    review_score  NUMBER(19)  DEFAULT 0 NOT NULL,
+    CONSTRAINT uq_wrong_note_user_word UNIQUE (user_id, word_id)
+);